@@ -18,6 +18,9 @@
 package org.apache.ignite.compute;
 
 import org.apache.ignite.Ignite;
+import org.apache.ignite.lang.Cursor;
+import org.apache.ignite.table.QualifiedName;
+import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.partition.Partition;
 import org.jetbrains.annotations.Nullable;
 
@@ -46,4 +49,30 @@ public interface JobExecutionContext {
      * @return Partition associated with this job.
      */
     @Nullable Partition partition();
+
+    /**
+     * Opens a cursor over the rows of the {@link #partition() partition associated with this job}, read directly from the storage of the
+     * local node. Unlike a scan through the table API, rows are not requested from the replica one batch at a time, so a job submitted
+     * with {@link BroadcastJobTarget#table(String)} can process its partition without any messaging. All partitions of the table are
+     * processed in parallel by the jobs of such a broadcast, each on the node that holds the primary replica of its partition.
+     *
+     * <p>The rows are read as of a single point in time, like in a read-only transaction. The cursor must be closed after use.
+     *
+     * @param tableName Table name.
+     * @return Cursor over the rows of the partition.
+     * @throws IllegalStateException If the job is not associated with a partition, or the partition is not stored on the local node.
+     */
+    default Cursor<Tuple> localPartitionScan(String tableName) {
+        return localPartitionScan(QualifiedName.parse(tableName));
+    }
+
+    /**
+     * Opens a cursor over the rows of the {@link #partition() partition associated with this job}, read directly from the storage of the
+     * local node. See {@link #localPartitionScan(String)} for details.
+     *
+     * @param tableName Table name.
+     * @return Cursor over the rows of the partition.
+     * @throws IllegalStateException If the job is not associated with a partition, or the partition is not stored on the local node.
+     */
+    Cursor<Tuple> localPartitionScan(QualifiedName tableName);
 }
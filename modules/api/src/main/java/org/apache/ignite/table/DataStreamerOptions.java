@@ -32,6 +32,8 @@ public class DataStreamerOptions {
 
     private final int retryLimit;
 
+    private final boolean bulkLoad;
+
     /**
      * Constructor.
      *
@@ -39,12 +41,20 @@ public class DataStreamerOptions {
      * @param perPartitionParallelOperations Per partition parallel operations.
      * @param autoFlushInterval Auto flush interval.
      * @param retryLimit Retry limit.
+     * @param bulkLoad Bulk load flag.
      */
-    private DataStreamerOptions(int pageSize, int perPartitionParallelOperations, int autoFlushInterval, int retryLimit) {
+    private DataStreamerOptions(
+            int pageSize,
+            int perPartitionParallelOperations,
+            int autoFlushInterval,
+            int retryLimit,
+            boolean bulkLoad
+    ) {
         this.pageSize = pageSize;
         this.perPartitionParallelOperations = perPartitionParallelOperations;
         this.autoFlushInterval = autoFlushInterval;
         this.retryLimit = retryLimit;
+        this.bulkLoad = bulkLoad;
     }
 
     /**
@@ -94,6 +104,15 @@ public class DataStreamerOptions {
         return retryLimit;
     }
 
+    /**
+     * Gets a value indicating whether the streamer performs a bulk load. See {@link Builder#bulkLoad(boolean)}.
+     *
+     * @return Whether the streamer performs a bulk load.
+     */
+    public boolean bulkLoad() {
+        return bulkLoad;
+    }
+
     /**
      * Builder.
      */
@@ -106,9 +125,14 @@ public class DataStreamerOptions {
 
         private int retryLimit = 16;
 
+        private boolean bulkLoad;
+
         /**
          * Sets the page size (the number of entries that will be sent to the cluster in one network call).
          *
+         * <p>This is the initial page size. Once the cluster responds, the page size of every node is adjusted to the observed
+         * round trip time and item arrival rate, within 1/16 and 4 times of this value.
+         *
          * @param pageSize Page size.
          * @return This builder instance.
          */
@@ -164,13 +188,33 @@ public class DataStreamerOptions {
             return this;
         }
 
+        /**
+         * Sets a value indicating whether the streamer performs a bulk load.
+         *
+         * <p>In bulk load mode every page takes an exclusive lock on the whole table partition instead of locking every row and
+         * index entry it writes. This makes loading into a table that is not accessed concurrently considerably cheaper, but
+         * concurrent transactions that write to the same partition wait for (or fail to acquire) the partition lock, and
+         * concurrent single-key reads in read-write transactions may observe a partially loaded page.
+         *
+         * <p>Applies to streaming without a receiver into an embedded table view. Thin clients do not support this mode and fail
+         * the streamer when it is requested.
+         *
+         * @param bulkLoad Whether the streamer performs a bulk load.
+         * @return This builder instance.
+         */
+        public Builder bulkLoad(boolean bulkLoad) {
+            this.bulkLoad = bulkLoad;
+
+            return this;
+        }
+
         /**
          * Builds the options.
          *
          * @return Data streamer options.
          */
         public DataStreamerOptions build() {
-            return new DataStreamerOptions(pageSize, perPartitionParallelOperations, autoFlushInterval, retryLimit);
+            return new DataStreamerOptions(pageSize, perPartitionParallelOperations, autoFlushInterval, retryLimit, bulkLoad);
         }
     }
 }
@@ -27,6 +27,9 @@ public class TransactionOptions {
     /** Read-only transaction. */
     private boolean readOnly = false;
 
+    /** Maximum staleness of the data read by a read-only transaction, in milliseconds. 0 means 'no staleness bound'. */
+    private long readStalenessMillis = 0;
+
     /**
      * Returns transaction timeout, in milliseconds. 0 means 'use default timeout'.
      *
@@ -84,4 +87,40 @@ public class TransactionOptions {
 
         return this;
     }
+
+    /**
+     * Returns the maximum staleness of the data read by a read-only transaction, in milliseconds. 0 means that the transaction reads
+     * the most recent snapshot it can read without waiting for the other transactions.
+     *
+     * @return Maximum staleness of the data read by a read-only transaction, in milliseconds.
+     */
+    public long readStalenessMillis() {
+        return readStalenessMillis;
+    }
+
+    /**
+     * Sets the maximum staleness of the data read by a read-only transaction, in milliseconds.
+     *
+     * <p>A read-only transaction with a staleness bound reads a snapshot that is exactly that much older than the beginning of the
+     * transaction. Such a snapshot can be served by any replica that has already caught up with it, including the one on the local node,
+     * instead of the primary replica, which unloads the primary replicas for the workloads that tolerate stale data. The snapshot may
+     * not contain the latest changes observed by the client.
+     *
+     * <p>The thin client protocol doesn't carry the staleness bound, so a thin client fails to begin a transaction with a non-zero
+     * staleness with an {@link org.apache.ignite.lang.IgniteException} with the
+     * {@link org.apache.ignite.lang.ErrorGroups.Client#PROTOCOL_COMPATIBILITY_ERR} code.
+     *
+     * @param readStalenessMillis Maximum staleness, in milliseconds. Cannot be negative; 0 means 'no staleness bound'. Only applicable
+     *     to read-only transactions.
+     * @return {@code this} for chaining.
+     */
+    public TransactionOptions readStalenessMillis(long readStalenessMillis) {
+        if (readStalenessMillis < 0) {
+            throw new IllegalArgumentException("Negative readStalenessMillis: " + readStalenessMillis);
+        }
+
+        this.readStalenessMillis = readStalenessMillis;
+
+        return this;
+    }
 }
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.sql.api.AsyncResultSetImpl;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
 import org.apache.ignite.sql.ColumnMetadata;
 import org.apache.ignite.sql.ColumnMetadata.ColumnOrigin;
 import org.apache.ignite.sql.ResultSetMetadata;
@@ -40,8 +42,23 @@ class ClientSqlCommon {
 
         out.packInt(asyncResultSet.currentPageSize());
 
+        if (asyncResultSet instanceof AsyncResultSetImpl && sameBinaryEncoding(cols)) {
+            List<InternalSqlRow> rows = ((AsyncResultSetImpl<SqlRow>) asyncResultSet).currentPageRows();
+
+            if (rows.isEmpty() || rows.get(0).fieldCount() == cols.size()) {
+                // Internal rows use the same binary tuple format the client expects, so they are written as is,
+                // without decoding and boxing of every value.
+                for (InternalSqlRow row : rows) {
+                    out.packBinaryTuple(row.asBinaryTuple());
+                }
+
+                closeIfLastPage(asyncResultSet);
+
+                return;
+            }
+        }
+
         for (SqlRow row : asyncResultSet.currentPage()) {
-            // TODO IGNITE-18922 Avoid conversion, copy BinaryTuple from SQL to client.
             var builder = new BinaryTupleBuilder(row.columnCount());
 
             for (int i = 0; i < cols.size(); i++) {
@@ -51,6 +68,45 @@ class ClientSqlCommon {
             out.packBinaryTuple(builder);
         }
 
+        closeIfLastPage(asyncResultSet);
+    }
+
+    /**
+     * Returns {@code true} if internal rows with the given columns are encoded exactly as the client expects them.
+     *
+     * <p>Intervals are kept by the SQL engine as plain numbers (months and milliseconds), while the client reads
+     * them as {@code Period} and {@code Duration}, so such rows must be re-encoded value by value.
+     */
+    private static boolean sameBinaryEncoding(List<ColumnMetadata> cols) {
+        for (ColumnMetadata col : cols) {
+            switch (col.type()) {
+                case BOOLEAN:
+                case INT8:
+                case INT16:
+                case INT32:
+                case INT64:
+                case FLOAT:
+                case DOUBLE:
+                case DECIMAL:
+                case DATE:
+                case TIME:
+                case DATETIME:
+                case TIMESTAMP:
+                case UUID:
+                case STRING:
+                case BYTE_ARRAY:
+                case NULL:
+                    break;
+
+                default:
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void closeIfLastPage(AsyncResultSet<SqlRow> asyncResultSet) {
         if (!asyncResultSet.hasMorePages()) {
             // Close in background.
             asyncResultSet.closeAsync();
@@ -109,6 +109,9 @@ public interface IgniteClient extends Ignite, AutoCloseable {
         /** Operation timeout. */
         private long operationTimeout = DFLT_OPERATION_TIMEOUT;
 
+        /** Whether getAll without an explicit transaction is split by primary replica. */
+        private boolean getAllSplitEnabled;
+
         /**
          * Sets the addresses of Ignite server nodes within a cluster. An address can be an IP address or a hostname, with or without port.
          * If port is not set then Ignite will use the default one - see {@link IgniteClientConfiguration#DFLT_PORT}.
@@ -338,6 +341,26 @@ public interface IgniteClient extends Ignite, AutoCloseable {
             return this;
         }
 
+        /**
+         * Enables or disables splitting of {@code getAll} calls without an explicit transaction by the primary replica of the keys.
+         * Default is {@code false}.
+         *
+         * <p>When enabled, the keys are grouped by the node that holds the primary replica of their partition, and every group is sent
+         * to its node directly and in parallel, which saves a network hop on the server side.
+         *
+         * <p>Every group is read in its own implicit transaction. Keys that belong to different nodes may therefore be read at different
+         * points in time, while a single {@code getAll} call without the split reads all the keys in one implicit transaction.
+         * Enable it only when a consistent read of all the keys is not required. Calls with an explicit transaction are never split.
+         *
+         * @param getAllSplitEnabled Whether to split {@code getAll} by primary replica.
+         * @return This instance.
+         */
+        public Builder getAllSplitEnabled(boolean getAllSplitEnabled) {
+            this.getAllSplitEnabled = getAllSplitEnabled;
+
+            return this;
+        }
+
         /**
          * Builds the client.
          *
@@ -366,7 +389,8 @@ public interface IgniteClient extends Ignite, AutoCloseable {
                     sslConfiguration,
                     metricsEnabled,
                     authenticator,
-                    operationTimeout);
+                    operationTimeout,
+                    getAllSplitEnabled);
 
             return TcpIgniteClient.startAsync(cfg);
         }
@@ -173,4 +173,12 @@ public interface IgniteClientConfiguration {
      * @return Operation timeout, in milliseconds.
      */
     long operationTimeout();
+
+    /**
+     * Gets a value indicating whether {@code getAll} without an explicit transaction is split by primary replica.
+     * See {@link IgniteClient.Builder#getAllSplitEnabled(boolean)} for more details.
+     *
+     * @return {@code true} if {@code getAll} is split by primary replica.
+     */
+    boolean getAllSplitEnabled();
 }
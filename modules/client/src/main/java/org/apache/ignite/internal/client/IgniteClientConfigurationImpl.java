@@ -64,6 +64,8 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
 
     private final long operationTimeout;
 
+    private final boolean getAllSplitEnabled;
+
     /**
      * Constructor.
      *
@@ -79,6 +81,8 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
      *         needed.
      * @param metricsEnabled Whether metrics are enabled.
      * @param authenticator Authenticator.
+     * @param operationTimeout Operation timeout.
+     * @param getAllSplitEnabled Whether getAll without an explicit transaction is split by primary replica.
      */
     public IgniteClientConfigurationImpl(
             IgniteClientAddressFinder addressFinder,
@@ -93,7 +97,8 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
             @Nullable SslConfiguration sslConfiguration,
             boolean metricsEnabled,
             @Nullable IgniteClientAuthenticator authenticator,
-            long operationTimeout) {
+            long operationTimeout,
+            boolean getAllSplitEnabled) {
         this.addressFinder = addressFinder;
 
         //noinspection AssignmentOrReturnOfFieldWithMutableType (cloned in Builder).
@@ -110,6 +115,7 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
         this.metricsEnabled = metricsEnabled;
         this.authenticator = authenticator;
         this.operationTimeout = operationTimeout;
+        this.getAllSplitEnabled = getAllSplitEnabled;
     }
 
     /** {@inheritDoc} */
@@ -188,4 +194,9 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
     public long operationTimeout() {
         return operationTimeout;
     }
+
+    @Override
+    public boolean getAllSplitEnabled() {
+        return getAllSplitEnabled;
+    }
 }
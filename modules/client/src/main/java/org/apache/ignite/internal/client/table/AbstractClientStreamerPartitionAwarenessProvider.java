@@ -17,8 +17,10 @@
 
 package org.apache.ignite.internal.client.table;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.streamer.StreamerPartitionAwarenessProvider;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Partition awareness provider for data streamer.
@@ -29,6 +31,7 @@ abstract class AbstractClientStreamerPartitionAwarenessProvider<T> implements St
     private final ClientTable tbl;
     private volatile int partitions = -1;
     private volatile ClientSchema schema;
+    private volatile @Nullable List<String> assignment;
 
     AbstractClientStreamerPartitionAwarenessProvider(ClientTable tbl) {
         this.tbl = tbl;
@@ -51,6 +54,13 @@ abstract class AbstractClientStreamerPartitionAwarenessProvider<T> implements St
         return Math.abs(hash % partitions0);
     }
 
+    @Override
+    public @Nullable String node(Integer partition) {
+        List<String> assignment0 = assignment;
+
+        return assignment0 == null || partition >= assignment0.size() ? null : assignment0.get(partition);
+    }
+
     abstract int colocationHash(ClientSchema schema, T item);
 
     @Override
@@ -61,13 +71,17 @@ abstract class AbstractClientStreamerPartitionAwarenessProvider<T> implements St
             partitions = tbl.tryGetPartitionCount();
         }
 
+        var assignmentFut = tbl.getPartitionAssignment().thenAccept(assignment -> {
+            this.assignment = assignment;
+            this.partitions = assignment.size();
+        });
+
         if (partitions > 0) {
-            // Partition count can't change.
+            // Partition count can't change. The assignment is only used to share page sizes between partitions of a node,
+            // so there is no need to wait for it.
             return schemaFut;
         }
 
-        var assignmentFut = tbl.getPartitionAssignment().thenAccept(assignment -> this.partitions = assignment.size());
-
         return CompletableFuture.allOf(schemaFut, assignmentFut);
     }
 }
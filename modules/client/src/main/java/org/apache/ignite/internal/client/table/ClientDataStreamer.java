@@ -49,6 +49,11 @@ class ClientDataStreamer {
             StreamerBatchSender<T, Integer, Void> batchSender,
             StreamerPartitionAwarenessProvider<T, Integer> partitionAwarenessProvider,
             ClientTable tbl) {
+        if (options.bulkLoad()) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Bulk load is not supported by the client data streamer: " + tbl.qualifiedName()));
+        }
+
         return streamData(
                 publisher,
                 DataStreamerItem::get,
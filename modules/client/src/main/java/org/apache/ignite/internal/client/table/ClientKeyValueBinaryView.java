@@ -107,13 +107,18 @@ public class ClientKeyValueBinaryView extends AbstractClientView<Entry<Tuple, Tu
             return emptyMapCompletedFuture();
         }
 
-        return tbl.doSchemaOutInOpAsync(
-                ClientOp.TUPLE_GET_ALL,
-                (s, w) -> ser.writeTuples(tx, keys, s, w, true),
-                (s, r) -> ClientTupleSerializer.readKvTuplesNullable(s, r.in()),
-                Collections.emptyMap(),
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keys.iterator().next()),
-                tx);
+        return tbl.<Tuple, Map<Tuple, Tuple>>splitAndRunAsync(
+                keys,
+                tx,
+                ClientTupleSerializer::getColocationHash,
+                (batch, provider) -> tbl.doSchemaOutInOpAsync(
+                        ClientOp.TUPLE_GET_ALL,
+                        (s, w) -> ser.writeTuples(tx, batch, s, w, true),
+                        (s, r) -> ClientTupleSerializer.readKvTuplesNullable(s, r.in()),
+                        Collections.emptyMap(),
+                        provider,
+                        tx),
+                ClientTable::mergeMaps);
     }
 
     /** {@inheritDoc} */
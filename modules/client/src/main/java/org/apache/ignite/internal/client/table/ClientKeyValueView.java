@@ -187,13 +187,18 @@ public class ClientKeyValueView<K, V> extends AbstractClientView<Entry<K, V>> im
             return emptyMapCompletedFuture();
         }
 
-        return tbl.doSchemaOutInOpAsync(
-                ClientOp.TUPLE_GET_ALL,
-                (s, w) -> keySer.writeRecs(tx, keys, s, w, TuplePart.KEY),
-                this::readGetAllResponse,
-                Collections.emptyMap(),
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), keys.iterator().next()),
-                tx);
+        return tbl.<K, Map<K, V>>splitAndRunAsync(
+                keys,
+                tx,
+                (s, key) -> ClientTupleSerializer.getColocationHash(s, keySer.mapper(), key),
+                (batch, provider) -> tbl.doSchemaOutInOpAsync(
+                        ClientOp.TUPLE_GET_ALL,
+                        (s, w) -> keySer.writeRecs(tx, batch, s, w, TuplePart.KEY),
+                        this::readGetAllResponse,
+                        Collections.emptyMap(),
+                        provider,
+                        tx),
+                ClientTable::mergeMaps);
     }
 
     /** {@inheritDoc} */
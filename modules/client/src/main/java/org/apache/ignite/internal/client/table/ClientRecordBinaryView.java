@@ -96,13 +96,18 @@ public class ClientRecordBinaryView extends AbstractClientView<Tuple> implements
             return emptyListCompletedFuture();
         }
 
-        return tbl.doSchemaOutInOpAsync(
-                ClientOp.TUPLE_GET_ALL,
-                (s, w) -> ser.writeTuples(tx, keyRecs, s, w, true),
-                (s, r) -> ClientTupleSerializer.readTuplesNullable(s, r.in()),
-                Collections.emptyList(),
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keyRecs.iterator().next()),
-                tx
+        return tbl.<Tuple, List<Tuple>>splitAndRunAsync(
+                keyRecs,
+                tx,
+                ClientTupleSerializer::getColocationHash,
+                (batch, provider) -> tbl.doSchemaOutInOpAsync(
+                        ClientOp.TUPLE_GET_ALL,
+                        (s, w) -> ser.writeTuples(tx, batch, s, w, true),
+                        (s, r) -> ClientTupleSerializer.readTuplesNullable(s, r.in()),
+                        Collections.emptyList(),
+                        provider,
+                        tx),
+                ClientTable::mergeOrdered
         );
     }
 
@@ -103,13 +103,18 @@ public class ClientRecordView<R> extends AbstractClientView<R> implements Record
             return emptyListCompletedFuture();
         }
 
-        return tbl.doSchemaOutInOpAsync(
-                ClientOp.TUPLE_GET_ALL,
-                (s, w) -> ser.writeRecs(tx, keyRecs, s, w, TuplePart.KEY),
-                (s, r) -> ser.readRecs(s, r.in(), true, TuplePart.KEY_AND_VAL),
-                Collections.emptyList(),
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, ser.mapper(), keyRecs.iterator().next()),
-                tx
+        return tbl.<R, List<R>>splitAndRunAsync(
+                keyRecs,
+                tx,
+                (s, keyRec) -> ClientTupleSerializer.getColocationHash(s, ser.mapper(), keyRec),
+                (batch, provider) -> tbl.doSchemaOutInOpAsync(
+                        ClientOp.TUPLE_GET_ALL,
+                        (s, w) -> ser.writeRecs(tx, batch, s, w, TuplePart.KEY),
+                        (s, r) -> ser.readRecs(s, r.in(), true, TuplePart.KEY_AND_VAL),
+                        Collections.emptyList(),
+                        provider,
+                        tx),
+                ClientTable::mergeOrdered
         );
     }
 
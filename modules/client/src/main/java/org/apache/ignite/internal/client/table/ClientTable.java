@@ -22,7 +22,12 @@ import static org.apache.ignite.lang.ErrorGroups.Client.CONNECTION_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -30,6 +35,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import org.apache.ignite.client.IgniteClientConfiguration;
 import org.apache.ignite.client.RetryPolicy;
 import org.apache.ignite.internal.client.ClientSchemaVersionMismatchException;
 import org.apache.ignite.internal.client.ClientUtils;
@@ -534,6 +540,192 @@ public class ClientTable implements Table {
         return fut;
     }
 
+    /**
+     * Performs a multi-key operation, splitting the items by the primary replica of their partition and sending the resulting
+     * sub-batches to the corresponding nodes in parallel.
+     *
+     * <p>Falls back to a single request (routed by the first item) when the items can't be split: the split is disabled with
+     * {@link IgniteClientConfiguration#getAllSplitEnabled()}, explicit transaction is used (all operations must go to the transaction
+     * coordinator), partition assignment is not available, or all items belong to the same node.
+     *
+     * <p>Every sub-batch runs in its own implicit transaction, so items of different nodes are not read consistently. This is why the
+     * split is opt-in.
+     *
+     * @param items Items (keys or records).
+     * @param tx Transaction.
+     * @param hashFunc Colocation hash function.
+     * @param batchFunc Function that performs the operation for the given sub-batch with the given partition awareness provider.
+     * @param reducer Reducer that combines sub-batch results. Receives original item positions for every sub-batch along with
+     *         the corresponding results.
+     * @param <E> Item type.
+     * @param <R> Result type.
+     * @return Future representing pending completion of the operation.
+     */
+    <E, R> CompletableFuture<R> splitAndRunAsync(
+            Collection<E> items,
+            @Nullable Transaction tx,
+            BiFunction<ClientSchema, E, Integer> hashFunc,
+            BiFunction<Collection<E>, PartitionAwarenessProvider, CompletableFuture<R>> batchFunc,
+            BiFunction<List<int[]>, List<R>, R> reducer
+    ) {
+        E first = items.iterator().next();
+        PartitionAwarenessProvider firstItemProvider = PartitionAwarenessProvider.of(
+                ClientLazyTransaction.get(tx), schema -> hashFunc.apply(schema, first));
+
+        if (tx != null || items.size() == 1 || !ch.configuration().getAllSplitEnabled()) {
+            return batchFunc.apply(items, firstItemProvider);
+        }
+
+        CompletableFuture<ClientSchema> schemaFut = getLatestSchema();
+        CompletableFuture<List<String>> partitionsFut = getPartitionAssignment();
+
+        return CompletableFuture.allOf(schemaFut, partitionsFut)
+                .handle((v, err) -> {
+                    if (err != null) {
+                        // Let the regular path handle schema and assignment errors and retries.
+                        return null;
+                    }
+
+                    try {
+                        return splitByNode(items, schemaFut.getNow(null), partitionsFut.getNow(null), hashFunc);
+                    } catch (Exception e) {
+                        // Invalid items (e.g. missing colocation columns) - let the regular path report the error.
+                        return null;
+                    }
+                })
+                .thenCompose(batches -> {
+                    if (batches == null || batches.size() == 1) {
+                        return batchFunc.apply(items, firstItemProvider);
+                    }
+
+                    List<int[]> positions = new ArrayList<>(batches.size());
+                    CompletableFuture<R>[] futs = new CompletableFuture[batches.size()];
+
+                    for (int i = 0; i < batches.size(); i++) {
+                        NodeBatch<E> batch = batches.get(i);
+
+                        positions.add(batch.positions());
+                        futs[i] = batchFunc.apply(batch.items, PartitionAwarenessProvider.of(batch.partition));
+                    }
+
+                    return CompletableFuture.allOf(futs).thenApply(unused -> {
+                        List<R> results = new ArrayList<>(futs.length);
+
+                        for (CompletableFuture<R> fut : futs) {
+                            results.add(fut.join());
+                        }
+
+                        return reducer.apply(positions, results);
+                    });
+                });
+    }
+
+    private static <E> @Nullable List<NodeBatch<E>> splitByNode(
+            Collection<E> items,
+            ClientSchema schema,
+            @Nullable List<String> partitions,
+            BiFunction<ClientSchema, E, Integer> hashFunc
+    ) {
+        if (partitions == null || partitions.isEmpty()) {
+            return null;
+        }
+
+        // Preserve encounter order of nodes to keep the results deterministic.
+        Map<String, NodeBatch<E>> batches = new LinkedHashMap<>();
+        NodeBatch<E> unknownNodeBatch = null;
+        int pos = 0;
+
+        for (E item : items) {
+            int partition = Math.abs(hashFunc.apply(schema, item) % partitions.size());
+            String node = partitions.get(partition);
+
+            NodeBatch<E> batch;
+
+            if (node == null) {
+                if (unknownNodeBatch == null) {
+                    unknownNodeBatch = new NodeBatch<>(partition);
+                }
+
+                batch = unknownNodeBatch;
+            } else {
+                batch = batches.computeIfAbsent(node, k -> new NodeBatch<>(partition));
+            }
+
+            batch.add(item, pos++);
+        }
+
+        List<NodeBatch<E>> res = new ArrayList<>(batches.values());
+
+        if (unknownNodeBatch != null) {
+            res.add(unknownNodeBatch);
+        }
+
+        return res;
+    }
+
+    /**
+     * Merges ordered sub-batch results into a single list, restoring the original order of items.
+     * Empty sub-batch result means that none of the items were found.
+     *
+     * @param positions Original item positions for every sub-batch.
+     * @param results Sub-batch results.
+     * @param <T> Element type.
+     * @return Merged list.
+     */
+    static <T> List<T> mergeOrdered(List<int[]> positions, List<List<T>> results) {
+        int size = 0;
+
+        for (int[] batchPositions : positions) {
+            size += batchPositions.length;
+        }
+
+        List<T> res = new ArrayList<>(Collections.nCopies(size, null));
+
+        for (int i = 0; i < positions.size(); i++) {
+            int[] batchPositions = positions.get(i);
+            List<T> batchResult = results.get(i);
+
+            if (batchResult.isEmpty()) {
+                // Nothing found in this batch.
+                continue;
+            }
+
+            assert batchResult.size() == batchPositions.length
+                    : "Unexpected batch result size [expected=" + batchPositions.length + ", actual=" + batchResult.size() + ']';
+
+            for (int j = 0; j < batchPositions.length; j++) {
+                res.set(batchPositions[j], batchResult.get(j));
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Merges sub-batch map results into a single map.
+     *
+     * @param positions Original item positions for every sub-batch (ignored).
+     * @param results Sub-batch results.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Merged map.
+     */
+    static <K, V> Map<K, V> mergeMaps(List<int[]> positions, List<Map<K, V>> results) {
+        int size = 0;
+
+        for (Map<K, V> map : results) {
+            size += map.size();
+        }
+
+        Map<K, V> res = new LinkedHashMap<>(size);
+
+        for (Map<K, V> map : results) {
+            res.putAll(map);
+        }
+
+        return res;
+    }
+
     private <T> @Nullable Object readSchemaAndReadData(
             ClientSchema knownSchema,
             PayloadInputChannel in,
@@ -731,6 +923,31 @@ public class ClientTable implements Table {
         return emptyRes;
     }
 
+    private static class NodeBatch<E> {
+        final int partition;
+
+        final List<E> items = new ArrayList<>();
+
+        private int[] positions = new int[8];
+
+        NodeBatch(int partition) {
+            this.partition = partition;
+        }
+
+        void add(E item, int pos) {
+            if (items.size() == positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+
+            positions[items.size()] = pos;
+            items.add(item);
+        }
+
+        int[] positions() {
+            return Arrays.copyOf(positions, items.size());
+        }
+    }
+
     private static class PartitionAssignment {
         volatile long timestamp = HybridTimestamp.NULL_HYBRID_TIMESTAMP;
 
@@ -18,12 +18,14 @@
 package org.apache.ignite.internal.client.tx;
 
 import static org.apache.ignite.internal.util.ViewUtils.sync;
+import static org.apache.ignite.lang.ErrorGroups.Client.PROTOCOL_COMPATIBILITY_ERR;
 
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.client.PayloadInputChannel;
 import org.apache.ignite.internal.client.ReliableChannel;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.tx.IgniteTransactions;
 import org.apache.ignite.tx.Transaction;
 import org.apache.ignite.tx.TransactionOptions;
@@ -54,6 +56,11 @@ public class ClientTransactions implements IgniteTransactions {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Transaction> beginAsync(@Nullable TransactionOptions options) {
+        if (options != null && options.readStalenessMillis() != 0) {
+            // The staleness bound is not a part of the TX_BEGIN request.
+            throw new IgniteException(PROTOCOL_COMPATIBILITY_ERR, "Read staleness is not supported by the client");
+        }
+
         return CompletableFuture.completedFuture(new ClientLazyTransaction(ch.observableTimestamp(), options));
     }
 
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.ignite.lang.ErrorGroups.Client;
+import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.tx.TransactionOptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Transactions tests.
+ */
+public class ClientTransactionsTest extends AbstractClientTest {
+    @Test
+    public void testReadStalenessIsNotSupported() {
+        TransactionOptions options = new TransactionOptions().readOnly(true).readStalenessMillis(1000);
+
+        IgniteException ex = assertThrows(IgniteException.class, () -> client.transactions().begin(options));
+
+        assertEquals(Client.PROTOCOL_COMPATIBILITY_ERR, ex.code());
+        assertEquals("Read staleness is not supported by the client", ex.getMessage());
+    }
+}
@@ -24,12 +24,15 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.SubmissionPublisher;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -92,6 +95,8 @@ public class PartitionAwarenessTest extends AbstractClientTest {
 
     private volatile @Nullable String lastOpServerName;
 
+    private final Set<String> opServerNames = ConcurrentHashMap.newKeySet();
+
     private static final AtomicInteger nextTableId = new AtomicInteger(101);
 
     /**
@@ -104,7 +109,8 @@ public class PartitionAwarenessTest extends AbstractClientTest {
 
         var clientBuilder = IgniteClient.builder()
                 .addresses("127.0.0.1:" + serverPort, "127.0.0.1:" + testServer2.port())
-                .heartbeatInterval(200);
+                .heartbeatInterval(200)
+                .getAllSplitEnabled(true);
 
         client2 = clientBuilder.build();
     }
@@ -180,6 +186,59 @@ public class PartitionAwarenessTest extends AbstractClientTest {
         assertOpOnNode(expectedNode, "get", tx2 -> recordView.get(tx, Tuple.create().set("ID", 2L)));
     }
 
+    @Test
+    public void testGetAllSplitsKeysByPrimaryNode() {
+        RecordView<Tuple> recordView = defaultTable().recordView();
+
+        Tuple t1 = Tuple.create().set("ID", 1L).set("NAME", "1");
+        Tuple t2 = Tuple.create().set("ID", 2L).set("NAME", "2");
+        Tuple t3 = Tuple.create().set("ID", 3L).set("NAME", "3");
+
+        recordView.upsert(null, t1);
+        recordView.upsert(null, t2);
+
+        opServerNames.clear();
+
+        List<Tuple> res = recordView.getAll(null, List.of(t2, t3, t1));
+
+        assertEquals(Set.of(nodeKey1, nodeKey2), opServerNames);
+
+        assertEquals(3, res.size());
+        assertEquals("2", res.get(0).stringValue("NAME"));
+        assertNull(res.get(1));
+        assertEquals("1", res.get(2).stringValue("NAME"));
+    }
+
+    @Test
+    public void testGetAllKeyValueSplitsKeysByPrimaryNode() {
+        KeyValueView<Long, String> kvView = defaultTable().keyValueView(Mapper.of(Long.class), Mapper.of(String.class));
+
+        kvView.put(null, 1L, "1");
+        kvView.put(null, 2L, "2");
+
+        opServerNames.clear();
+
+        Map<Long, String> res = kvView.getAll(null, List.of(1L, 2L, 3L));
+
+        assertEquals(Set.of(nodeKey1, nodeKey2), opServerNames);
+        assertEquals(Map.of(1L, "1", 2L, "2"), res);
+    }
+
+    @Test
+    public void testGetAllWithTxIsNotSplit() {
+        RecordView<Tuple> recordView = defaultTable().recordView();
+        var tx = (ClientLazyTransaction) client2.transactions().begin();
+        client2.sql().execute(tx, "SELECT 1").close(); // Force lazy tx init.
+
+        opServerNames.clear();
+
+        recordView.getAll(tx, List.of(Tuple.create().set("ID", 1L), Tuple.create().set("ID", 2L)));
+
+        assertEquals(Set.of(tx.nodeName()), opServerNames);
+
+        tx.rollback();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     public void testClientReceivesPartitionAssignmentUpdates(boolean useHeartbeat) throws InterruptedException {
@@ -699,6 +758,7 @@ public class PartitionAwarenessTest extends AbstractClientTest {
         ((FakeInternalTable) tableView.internalTable()).setDataAccessListener((op, data) -> {
             lastOp = op;
             lastOpServerName = ignite.name();
+            opServerNames.add(ignite.name());
         });
     }
 
@@ -41,4 +41,12 @@ public interface DeploymentUnitAccessor {
      * @return {@code true} if the consumer was executed.
      */
     boolean computeIfNotAcquired(DeploymentUnit unit, Consumer<DeploymentUnit> consumer);
+
+    /**
+     * Registers a listener which is notified when an acquired deployment unit is waited for to be released, so that the holders which
+     * keep the unit only for reuse could release it.
+     *
+     * @param listener Listener.
+     */
+    void listenReleaseRequests(Consumer<DeploymentUnit> listener);
 }
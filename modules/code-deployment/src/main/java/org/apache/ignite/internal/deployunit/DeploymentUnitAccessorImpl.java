@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.deployunit;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -32,6 +34,8 @@ public class DeploymentUnitAccessorImpl implements DeploymentUnitAccessor {
 
     private final RefCountedObjectPool<DeploymentUnit, Lock> locks = new RefCountedObjectPool<>();
 
+    private final List<Consumer<DeploymentUnit>> releaseRequestListeners = new CopyOnWriteArrayList<>();
+
     private final FileDeployerService deployer;
 
     public DeploymentUnitAccessorImpl(FileDeployerService deployer) {
@@ -55,7 +59,7 @@ public class DeploymentUnitAccessorImpl implements DeploymentUnitAccessor {
      */
     @Override
     public boolean computeIfNotAcquired(DeploymentUnit unit, Consumer<DeploymentUnit> consumer) {
-        return executeWithLock(unit, it -> {
+        boolean computed = executeWithLock(unit, it -> {
             if (pool.isAcquired(it)) {
                 return false;
             } else {
@@ -63,6 +67,21 @@ public class DeploymentUnitAccessorImpl implements DeploymentUnitAccessor {
                 return true;
             }
         });
+
+        if (!computed) {
+            // Listeners release the unit from their own threads, so they are notified outside of the lock.
+            releaseRequestListeners.forEach(listener -> listener.accept(unit));
+        }
+
+        return computed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void listenReleaseRequests(Consumer<DeploymentUnit> listener) {
+        releaseRequestListeners.add(listener);
     }
 
     private <O> O executeWithLock(DeploymentUnit unit, Function<DeploymentUnit, O> function) {
@@ -155,4 +155,22 @@ class DeploymentUnitAcquiredWaiterTest extends BaseIgniteAbstractTest {
     void tearDown() {
         undeployer.stop();
     }
+
+    @Test
+    void undeployUnitReleasedOnRequest() {
+        DeploymentUnit unit = new DeploymentUnit("unit1", "1.0.0");
+
+        // The unit is kept acquired until its holder is asked to release it.
+        DisposableDeploymentUnit deploymentUnit = deploymentUnitAccessor.acquire(unit);
+
+        deploymentUnitAccessor.listenReleaseRequests(requested -> {
+            if (requested.equals(unit)) {
+                deploymentUnit.release();
+            }
+        });
+
+        undeployer.submitToAcquireRelease(unit);
+
+        await().timeout(DELAY_IN_MILLIS * 4, TimeUnit.MILLISECONDS).until(() -> removingUnits.contains(unit));
+    }
 }
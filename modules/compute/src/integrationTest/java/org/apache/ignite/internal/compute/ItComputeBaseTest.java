@@ -834,6 +834,23 @@ public abstract class ItComputeBaseTest extends ClusterPerClassIntegrationTest {
         });
     }
 
+    @Test
+    void partitionedBroadcastWithLocalPartitionScan() {
+        createTestTableWithOneRow();
+        sql("INSERT INTO test(k, v) VALUES (2, 102), (3, 103), (4, 104), (5, 105)");
+
+        JobDescriptor<String, Long> job = JobDescriptor.builder(LocalPartitionSumJob.class).units(units()).build();
+        CompletableFuture<BroadcastExecution<Long>> future = compute()
+                .submitAsync(BroadcastJobTarget.table("test"), job, "test");
+
+        assertThat(future, willCompleteSuccessfully());
+
+        CompletableFuture<Long> total = future.join().resultsAsync()
+                .thenApply(results -> results.stream().mapToLong(Long::longValue).sum());
+
+        assertThat(total, willBe(515L));
+    }
+
     @Test
     public void colocatedJobTargetDifferentSchemas() {
         // s1.test
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.compute;
 
+import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.compute.JobStatus.EXECUTING;
 import static org.apache.ignite.compute.JobStatus.QUEUED;
 import static org.apache.ignite.internal.IgniteExceptionTestUtils.assertPublicCheckedException;
@@ -37,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -51,7 +53,12 @@ import org.apache.ignite.compute.JobExecution;
 import org.apache.ignite.compute.JobExecutionContext;
 import org.apache.ignite.compute.JobExecutionOptions;
 import org.apache.ignite.compute.JobTarget;
+import org.apache.ignite.compute.TaskDescriptor;
+import org.apache.ignite.compute.task.MapReduceJob;
+import org.apache.ignite.compute.task.TaskExecution;
+import org.apache.ignite.compute.task.TaskExecutionContext;
 import org.apache.ignite.deployment.DeploymentUnit;
+import org.apache.ignite.internal.compute.task.FoldingMapReduceTask;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.util.ExceptionUtils;
@@ -287,6 +294,27 @@ class ItComputeTestEmbedded extends ItComputeBaseTest {
         assertThat(execution.resultsAsync(), will(everyItem(nullValue())));
     }
 
+    @Test
+    void executeFoldingMapReduce() {
+        TaskExecution<Integer> taskExecution = compute().submitMapReduce(
+                TaskDescriptor.builder(FoldingMapReduce.class).units(units()).build(),
+                units()
+        );
+
+        int sumOfNodeNamesLengths = CLUSTER.runningNodes().map(Ignite::name).map(String::length).reduce(Integer::sum).orElseThrow();
+        assertThat(taskExecution.resultAsync(), willBe(sumOfNodeNamesLengths));
+    }
+
+    @Test
+    void foldsRunOnComputeThreads() {
+        TaskExecution<Boolean> taskExecution = compute().submitMapReduce(
+                TaskDescriptor.builder(FoldingThreadsMapReduce.class).units(units()).build(),
+                units()
+        );
+
+        assertThat(taskExecution.resultAsync(), willBe(true));
+    }
+
     private Stream<Arguments> targetNodeIndexes() {
         return IntStream.range(0, initialNodes()).mapToObj(Arguments::of);
     }
@@ -351,4 +379,58 @@ class ItComputeTestEmbedded extends ItComputeBaseTest {
             return null;
         }
     }
+
+    /** Folding map reduce task which runs a {@link GetNodeNameJob} on each node and sums up the lengths of the node names. */
+    private static class FoldingMapReduce implements FoldingMapReduceTask<List<DeploymentUnit>, Void, String, Integer> {
+        @Override
+        public CompletableFuture<List<MapReduceJob<Void, String>>> splitAsync(
+                TaskExecutionContext taskContext, List<DeploymentUnit> deploymentUnits) {
+            return nodeNameJobs(taskContext, deploymentUnits);
+        }
+
+        @Override
+        public Integer initialValue(TaskExecutionContext taskContext) {
+            return 0;
+        }
+
+        @Override
+        public Integer fold(TaskExecutionContext taskContext, Integer accumulator, String jobResult) {
+            return accumulator + jobResult.length();
+        }
+    }
+
+    /** Folding map reduce task which returns {@code true} if its initial value and every fold were computed by a compute thread. */
+    private static class FoldingThreadsMapReduce implements FoldingMapReduceTask<List<DeploymentUnit>, Void, String, Boolean> {
+        @Override
+        public CompletableFuture<List<MapReduceJob<Void, String>>> splitAsync(
+                TaskExecutionContext taskContext, List<DeploymentUnit> deploymentUnits) {
+            return nodeNameJobs(taskContext, deploymentUnits);
+        }
+
+        @Override
+        public Boolean initialValue(TaskExecutionContext taskContext) {
+            return isComputeThread();
+        }
+
+        @Override
+        public Boolean fold(TaskExecutionContext taskContext, Boolean accumulator, String jobResult) {
+            return accumulator && isComputeThread();
+        }
+
+        private static boolean isComputeThread() {
+            return Thread.currentThread().getName().contains("%compute-");
+        }
+    }
+
+    private static CompletableFuture<List<MapReduceJob<Void, String>>> nodeNameJobs(
+            TaskExecutionContext taskContext,
+            List<DeploymentUnit> deploymentUnits
+    ) {
+        return taskContext.ignite().clusterNodesAsync().thenApply(nodes -> nodes.stream().map(node ->
+                MapReduceJob.<Void, String>builder()
+                        .jobDescriptor(JobDescriptor.builder(GetNodeNameJob.class).units(deploymentUnits).build())
+                        .nodes(Set.of(node))
+                        .build()
+        ).collect(toList()));
+    }
 }
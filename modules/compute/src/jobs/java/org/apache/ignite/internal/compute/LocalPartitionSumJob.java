@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.compute.ComputeJob;
+import org.apache.ignite.compute.JobExecutionContext;
+import org.apache.ignite.lang.Cursor;
+import org.apache.ignite.table.Tuple;
+
+/** Compute job that returns the sum of the "v" column over the rows of its partition of the given table, read from the local storage. */
+public class LocalPartitionSumJob implements ComputeJob<String, Long> {
+    @Override
+    public CompletableFuture<Long> executeAsync(JobExecutionContext context, String tableName) {
+        long sum = 0;
+
+        try (Cursor<Tuple> cursor = context.localPartitionScan(tableName)) {
+            while (cursor.hasNext()) {
+                sum += cursor.next().intValue("v");
+            }
+        }
+
+        return completedFuture(sum);
+    }
+}
@@ -94,6 +94,8 @@ public class ComputeComponentImpl implements ComputeComponent, SystemViewProvide
 
     private final ExecutorService failoverExecutor;
 
+    private final String nodeName;
+
     private final ComputeViewProvider computeViewProvider = new ComputeViewProvider();
 
     /**
@@ -108,6 +110,7 @@ public class ComputeComponentImpl implements ComputeComponent, SystemViewProvide
             ComputeExecutor executor,
             ComputeConfiguration computeConfiguration
     ) {
+        this.nodeName = nodeName;
         this.topologyService = topologyService;
         this.logicalTopologyService = logicalTopologyService;
         this.jobContextManager = jobContextManager;
@@ -306,6 +309,7 @@ public class ComputeComponentImpl implements ComputeComponent, SystemViewProvide
     @Override
     public CompletableFuture<Void> startAsync(ComponentContext componentContext) {
         executor.start();
+        jobContextManager.start(nodeName);
         messaging.start((options, units, jobClassName, arg) ->
                 executeLocally(options, units, jobClassName, arg, null));
         executionManager.start();
@@ -327,6 +331,7 @@ public class ComputeComponentImpl implements ComputeComponent, SystemViewProvide
         executionManager.stop();
         messaging.stop();
         executor.stop();
+        jobContextManager.stop();
         computeViewProvider.stop();
         IgniteUtils.shutdownAndAwaitTermination(failoverExecutor, 10, TimeUnit.SECONDS);
 
@@ -20,7 +20,18 @@ package org.apache.ignite.internal.compute;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.compute.JobExecutionContext;
+import org.apache.ignite.internal.table.IgniteTablesInternal;
+import org.apache.ignite.internal.table.LocalPartitionCursor;
+import org.apache.ignite.internal.table.TableViewInternal;
+import org.apache.ignite.internal.table.partition.HashPartition;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.wrapper.Wrappers;
+import org.apache.ignite.lang.Cursor;
+import org.apache.ignite.lang.TableNotFoundException;
+import org.apache.ignite.table.QualifiedName;
+import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.partition.Partition;
+import org.apache.ignite.tx.TransactionOptions;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -65,6 +76,32 @@ public class JobExecutionContextImpl implements JobExecutionContext {
         return partition;
     }
 
+    @Override
+    public Cursor<Tuple> localPartitionScan(QualifiedName tableName) {
+        if (!(partition instanceof HashPartition)) {
+            throw new IllegalStateException("The job is not associated with a partition: " + partition);
+        }
+
+        TableViewInternal table = Wrappers.unwrap(ignite.tables(), IgniteTablesInternal.class).tableView(tableName);
+
+        if (table == null) {
+            throw new TableNotFoundException(tableName);
+        }
+
+        InternalTransaction tx = Wrappers.unwrap(
+                ignite.transactions().begin(new TransactionOptions().readOnly(true)),
+                InternalTransaction.class
+        );
+
+        try {
+            return new LocalPartitionCursor(table, ((HashPartition) partition).partitionId(), tx);
+        } catch (RuntimeException e) {
+            tx.rollback();
+
+            throw e;
+        }
+    }
+
     /**
      * Gets the job class loader.
      *
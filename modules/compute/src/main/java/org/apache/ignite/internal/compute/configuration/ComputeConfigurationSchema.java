@@ -46,6 +46,37 @@ public class ComputeConfigurationSchema {
     @Value(hasDefault = true)
     public final int queueMaxSize = Integer.MAX_VALUE;
 
+    /**
+     * Whether jobs are executed on virtual threads. Takes effect only if the node runs on a JVM that supports virtual threads (Java 21+),
+     * otherwise jobs are executed on the platform thread pool.
+     */
+    @Value(hasDefault = true)
+    public final boolean virtualThreadsEnabled = false;
+
+    /**
+     * Maximum number of jobs executed concurrently on virtual threads. Jobs above this limit wait in the queue in the order of their
+     * priority. Used instead of {@link #threadPoolSize} when virtual threads are enabled.
+     */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public final int virtualThreadsMaxConcurrentJobs = 1024;
+
+    /**
+     * Maximum number of job class loaders that are kept after the last job using them has finished, so that the next job with the same
+     * deployment units does not load its classes again. {@code 0} disables the cache.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int classLoaderCacheSize = 16;
+
+    /**
+     * Time in milliseconds after which an unused job class loader is evicted from the cache and its deployment units are
+     * released. Undeployment of a unit waits until all the class loaders that use it are closed.
+     */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public final long classLoaderIdleTimeoutMillis = TimeUnit.MINUTES.toMillis(5);
+
     /**
      * The lifetime of job states in milliseconds after the Compute job finishes.
      */
@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_WRITE;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.compute.ComputeJob;
@@ -37,6 +38,7 @@ import org.apache.ignite.internal.compute.JobExecutionContextImpl;
 import org.apache.ignite.internal.compute.SharedComputeUtils;
 import org.apache.ignite.internal.compute.configuration.ComputeConfiguration;
 import org.apache.ignite.internal.compute.loader.JobClassLoader;
+import org.apache.ignite.internal.compute.metrics.ComputeMetricSource;
 import org.apache.ignite.internal.compute.queue.PriorityQueueExecutor;
 import org.apache.ignite.internal.compute.queue.QueueExecution;
 import org.apache.ignite.internal.compute.state.ComputeStateMachine;
@@ -46,6 +48,7 @@ import org.apache.ignite.internal.compute.task.TaskExecutionInternal;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.TopologyService;
+import org.apache.ignite.internal.thread.IgniteThread;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.marshalling.Marshaller;
 import org.jetbrains.annotations.Nullable;
@@ -64,6 +67,8 @@ public class ComputeExecutorImpl implements ComputeExecutor {
 
     private final TopologyService topologyService;
 
+    private final ComputeMetricSource metricSource;
+
     private PriorityQueueExecutor executorService;
 
     /**
@@ -79,11 +84,31 @@ public class ComputeExecutorImpl implements ComputeExecutor {
             ComputeStateMachine stateMachine,
             ComputeConfiguration configuration,
             TopologyService topologyService
+    ) {
+        this(ignite, stateMachine, configuration, topologyService, new ComputeMetricSource());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ignite Ignite instance for public API access.
+     * @param stateMachine Compute jobs state machine.
+     * @param configuration Compute configuration.
+     * @param topologyService Topology service.
+     * @param metricSource Compute metric source.
+     */
+    public ComputeExecutorImpl(
+            Ignite ignite,
+            ComputeStateMachine stateMachine,
+            ComputeConfiguration configuration,
+            TopologyService topologyService,
+            ComputeMetricSource metricSource
     ) {
         this.ignite = ignite;
         this.configuration = configuration;
         this.stateMachine = stateMachine;
         this.topologyService = topologyService;
+        this.metricSource = metricSource;
     }
 
     @Override
@@ -102,7 +127,7 @@ public class ComputeExecutorImpl implements ComputeExecutor {
         Marshaller<R, byte[]> resultMarshaller = jobInstance.resultMarshaller();
 
         QueueExecution<ComputeJobDataHolder> execution = executorService.submit(
-                unmarshalExecMarshal(input, jobClass, jobInstance, context, inputMarshaller, resultMarshaller),
+                timed(unmarshalExecMarshal(input, jobClass, jobInstance, context, inputMarshaller, resultMarshaller)),
                 options.priority(),
                 options.maxRetries()
         );
@@ -128,6 +153,51 @@ public class ComputeExecutorImpl implements ComputeExecutor {
         };
     }
 
+    /**
+     * Wraps a job action to record the time the job spends in the queue and the time of its execution. Every retry of the job is
+     * recorded separately, and the queue wait time of a retry is counted from the end of the previous attempt.
+     */
+    private <R> Callable<CompletableFuture<R>> timed(Callable<CompletableFuture<R>> jobAction) {
+        long submitNanos = System.nanoTime();
+
+        return new Callable<>() {
+            private long queuedSinceNanos = submitNanos;
+
+            @Override
+            public CompletableFuture<R> call() throws Exception {
+                long startNanos = System.nanoTime();
+
+                metricSource.onJobStarted(TimeUnit.NANOSECONDS.toMillis(startNanos - queuedSinceNanos));
+
+                CompletableFuture<R> jobFuture;
+
+                try {
+                    jobFuture = jobAction.call();
+                } catch (Throwable e) {
+                    onFinished(startNanos);
+
+                    throw e;
+                }
+
+                if (jobFuture == null) {
+                    onFinished(startNanos);
+                } else {
+                    jobFuture.whenComplete((res, err) -> onFinished(startNanos));
+                }
+
+                return jobFuture;
+            }
+
+            private void onFinished(long startNanos) {
+                long finishNanos = System.nanoTime();
+
+                queuedSinceNanos = finishNanos;
+
+                metricSource.onJobFinished(TimeUnit.NANOSECONDS.toMillis(finishNanos - startNanos));
+            }
+        };
+    }
+
     @Override
     public <I, M, T, R> TaskExecutionInternal<I, M, T, R> executeTask(
             JobSubmitter<M, T> jobSubmitter,
@@ -145,11 +215,28 @@ public class ComputeExecutorImpl implements ComputeExecutor {
     @Override
     public void start() {
         stateMachine.start();
-        executorService = new PriorityQueueExecutor(
-                configuration,
-                IgniteThreadFactory.create(ignite.name(), "compute", LOG, STORAGE_READ, STORAGE_WRITE),
-                stateMachine
-        );
+
+        if (configuration.virtualThreadsEnabled().value() && VirtualThreads.isSupported()) {
+            // Every worker of the pool is a virtual thread, so blocked jobs do not hold carrier threads. The pool size still bounds the
+            // number of concurrently running jobs, and the rest of the jobs are taken from the priority queue as workers get free.
+            executorService = new PriorityQueueExecutor(
+                    configuration,
+                    VirtualThreads.factory(IgniteThread.threadPrefix(ignite.name(), "compute-virtual")),
+                    configuration.virtualThreadsMaxConcurrentJobs().value(),
+                    stateMachine
+            );
+        } else {
+            if (configuration.virtualThreadsEnabled().value()) {
+                LOG.warn("Virtual threads are not supported by this JVM, compute jobs will be executed on platform threads [version={}]",
+                        Runtime.version());
+            }
+
+            executorService = new PriorityQueueExecutor(
+                    configuration,
+                    IgniteThreadFactory.create(ignite.name(), "compute", LOG, STORAGE_READ, STORAGE_WRITE),
+                    stateMachine
+            );
+        }
     }
 
     @Override
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute.executor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Access to virtual threads of the running JVM. The code is compiled for Java 11, so virtual threads (Java 21+) are created through
+ * reflection.
+ */
+class VirtualThreads {
+    /** {@code Thread#ofVirtual()}, {@code null} if the JVM does not support virtual threads. */
+    private static final @Nullable Method OF_VIRTUAL = ofVirtualMethod();
+
+    /**
+     * Returns {@code true} if the running JVM supports virtual threads.
+     */
+    static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a factory of virtual threads named {@code <prefix><counter>}.
+     *
+     * @param prefix Thread name prefix.
+     * @return Thread factory.
+     * @throws IllegalStateException If the JVM does not support virtual threads.
+     */
+    static ThreadFactory factory(String prefix) {
+        if (OF_VIRTUAL == null) {
+            throw new IllegalStateException("Virtual threads are not supported by this JVM: " + Runtime.version());
+        }
+
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a virtual thread factory", e);
+        }
+    }
+
+    private static @Nullable Method ofVirtualMethod() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute.loader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.deployment.DeploymentUnit;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps class loaders that are not used by any job anymore, so that the next job for the same deployment units reuses the loaded and
+ * compiled classes instead of loading them again. The number of retained loaders is bounded, and the least recently released loader is
+ * evicted first. Loaders that stay idle for longer than the idle timeout are evicted as well.
+ *
+ * <p>Evicted loaders are returned to the caller, which must close them outside of the cache.
+ */
+class IdleJobClassLoaderCache {
+    private final Map<List<DeploymentUnit>, IdleLoader> loaders = new LinkedHashMap<>();
+
+    /**
+     * Takes the idle class loader for the given units out of the cache.
+     *
+     * @param units Deployment units.
+     * @return Class loader or {@code null} if there is no idle loader for the units.
+     */
+    synchronized @Nullable JobClassLoader take(List<DeploymentUnit> units) {
+        IdleLoader idleLoader = loaders.remove(units);
+
+        return idleLoader == null ? null : idleLoader.loader;
+    }
+
+    /**
+     * Puts a class loader that is not used anymore into the cache.
+     *
+     * @param units Deployment units of the loader.
+     * @param loader Class loader.
+     * @param maxSize Maximum number of idle loaders.
+     * @param nowNanos Current {@link System#nanoTime()}.
+     * @return Loaders evicted from the cache, including the passed one if the cache is disabled.
+     */
+    synchronized List<JobClassLoader> put(List<DeploymentUnit> units, JobClassLoader loader, int maxSize, long nowNanos) {
+        List<JobClassLoader> evicted = new ArrayList<>();
+
+        if (maxSize <= 0) {
+            evicted.add(loader);
+
+            return evicted;
+        }
+
+        IdleLoader replaced = loaders.remove(units);
+
+        if (replaced != null && replaced.loader != loader) {
+            evicted.add(replaced.loader);
+        }
+
+        loaders.put(units, new IdleLoader(loader, nowNanos));
+
+        Iterator<IdleLoader> it = loaders.values().iterator();
+
+        while (loaders.size() > maxSize) {
+            evicted.add(it.next().loader);
+
+            it.remove();
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Evicts the loaders that have been idle for longer than the given timeout.
+     *
+     * @param idleTimeoutNanos Idle timeout, in nanoseconds.
+     * @param nowNanos Current {@link System#nanoTime()}.
+     * @return Evicted loaders.
+     */
+    synchronized List<JobClassLoader> evictExpired(long idleTimeoutNanos, long nowNanos) {
+        List<JobClassLoader> evicted = new ArrayList<>();
+
+        Iterator<IdleLoader> it = loaders.values().iterator();
+
+        // Loaders are kept in the order of release, so the scan stops at the first one that has not expired.
+        while (it.hasNext()) {
+            IdleLoader idleLoader = it.next();
+
+            if (nowNanos - idleLoader.releasedAtNanos < idleTimeoutNanos) {
+                break;
+            }
+
+            evicted.add(idleLoader.loader);
+
+            it.remove();
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Evicts the loaders that use the given deployment unit.
+     *
+     * @param unit Deployment unit.
+     * @return Evicted loaders.
+     */
+    synchronized List<JobClassLoader> evictUsing(DeploymentUnit unit) {
+        List<JobClassLoader> evicted = new ArrayList<>();
+
+        Iterator<Map.Entry<List<DeploymentUnit>, IdleLoader>> it = loaders.entrySet().iterator();
+
+        while (it.hasNext()) {
+            Map.Entry<List<DeploymentUnit>, IdleLoader> entry = it.next();
+
+            if (entry.getKey().contains(unit)) {
+                evicted.add(entry.getValue().loader);
+
+                it.remove();
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Evicts all the loaders.
+     *
+     * @return Evicted loaders.
+     */
+    synchronized List<JobClassLoader> clear() {
+        List<JobClassLoader> evicted = new ArrayList<>(loaders.size());
+
+        for (IdleLoader idleLoader : loaders.values()) {
+            evicted.add(idleLoader.loader);
+        }
+
+        loaders.clear();
+
+        return evicted;
+    }
+
+    /** Returns the number of idle loaders. */
+    synchronized int size() {
+        return loaders.size();
+    }
+
+    private static class IdleLoader {
+        private final JobClassLoader loader;
+
+        private final long releasedAtNanos;
+
+        private IdleLoader(JobClassLoader loader, long releasedAtNanos) {
+            this.loader = loader;
+            this.releasedAtNanos = releasedAtNanos;
+        }
+    }
+}
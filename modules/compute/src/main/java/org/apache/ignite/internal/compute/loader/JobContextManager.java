@@ -19,14 +19,22 @@ package org.apache.ignite.internal.compute.loader;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import org.apache.ignite.deployment.DeploymentUnit;
 import org.apache.ignite.deployment.version.Version;
+import org.apache.ignite.internal.compute.configuration.ComputeConfiguration;
+import org.apache.ignite.internal.compute.metrics.ComputeMetricSource;
 import org.apache.ignite.internal.deployunit.DeploymentStatus;
 import org.apache.ignite.internal.deployunit.DeploymentUnitAccessor;
 import org.apache.ignite.internal.deployunit.DisposableDeploymentUnit;
@@ -36,9 +44,11 @@ import org.apache.ignite.internal.deployunit.exception.DeploymentUnitUnavailable
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.util.CompletableFutures;
 import org.apache.ignite.internal.util.RefCountedObjectPool;
 import org.apache.ignite.lang.ErrorGroups.Compute;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Manages job context.
@@ -46,8 +56,14 @@ import org.apache.ignite.lang.ErrorGroups.Compute;
 public class JobContextManager {
     private static final IgniteLogger LOG = Loggers.forClass(JobContextManager.class);
 
+    /** Period of the idle class loaders eviction, in milliseconds. */
+    private static final long EVICTION_PERIOD_MILLIS = 1000;
+
     private final RefCountedObjectPool<List<DeploymentUnit>, JobClassLoader> classLoaderPool = new RefCountedObjectPool<>();
 
+    /** Class loaders that are not used by any job, kept to be reused by the next jobs with the same units. */
+    private final IdleJobClassLoaderCache idleClassLoaders = new IdleJobClassLoaderCache();
+
     private final IgniteDeployment deployment;
     /**
      * The deployer service.
@@ -59,8 +75,18 @@ public class JobContextManager {
      */
     private final JobClassLoaderFactory classLoaderFactory;
 
+    /** Maximum number of idle class loaders. */
+    private final IntSupplier classLoaderCacheSize;
+
+    /** Time after which an idle class loader is closed, in milliseconds. */
+    private final LongSupplier classLoaderIdleTimeoutMillis;
+
+    private final ComputeMetricSource metricSource;
+
+    private volatile @Nullable ScheduledExecutorService evictionExecutor;
+
     /**
-     * Constructor.
+     * Constructor. Class loaders are closed as soon as they are not used by any job.
      *
      * @param deployment The deployment.
      * @param deploymentUnitAccessor The deployer service.
@@ -70,10 +96,81 @@ public class JobContextManager {
             IgniteDeployment deployment,
             DeploymentUnitAccessor deploymentUnitAccessor,
             JobClassLoaderFactory classLoaderFactory
+    ) {
+        this(deployment, deploymentUnitAccessor, classLoaderFactory, () -> 0, () -> 0, new ComputeMetricSource());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param deployment The deployment.
+     * @param deploymentUnitAccessor The deployer service.
+     * @param classLoaderFactory The class loader factory.
+     * @param computeConfiguration Compute configuration.
+     * @param metricSource Compute metric source.
+     */
+    public JobContextManager(
+            IgniteDeployment deployment,
+            DeploymentUnitAccessor deploymentUnitAccessor,
+            JobClassLoaderFactory classLoaderFactory,
+            ComputeConfiguration computeConfiguration,
+            ComputeMetricSource metricSource
+    ) {
+        this(
+                deployment,
+                deploymentUnitAccessor,
+                classLoaderFactory,
+                () -> computeConfiguration.classLoaderCacheSize().value(),
+                () -> computeConfiguration.classLoaderIdleTimeoutMillis().value(),
+                metricSource
+        );
+    }
+
+    private JobContextManager(
+            IgniteDeployment deployment,
+            DeploymentUnitAccessor deploymentUnitAccessor,
+            JobClassLoaderFactory classLoaderFactory,
+            IntSupplier classLoaderCacheSize,
+            LongSupplier classLoaderIdleTimeoutMillis,
+            ComputeMetricSource metricSource
     ) {
         this.deployment = deployment;
         this.deploymentUnitAccessor = deploymentUnitAccessor;
         this.classLoaderFactory = classLoaderFactory;
+        this.classLoaderCacheSize = classLoaderCacheSize;
+        this.classLoaderIdleTimeoutMillis = classLoaderIdleTimeoutMillis;
+        this.metricSource = metricSource;
+
+        // Idle loaders must not prevent the undeployment of their units.
+        deploymentUnitAccessor.listenReleaseRequests(unit -> closeAll(idleClassLoaders.evictUsing(unit)));
+    }
+
+    /**
+     * Starts the periodic eviction of idle class loaders.
+     *
+     * @param nodeName Node name.
+     */
+    public void start(String nodeName) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                NamedThreadFactory.create(nodeName, "compute-class-loader-eviction", true, LOG)
+        );
+
+        executor.scheduleWithFixedDelay(this::evictIdleClassLoaders, EVICTION_PERIOD_MILLIS, EVICTION_PERIOD_MILLIS, MILLISECONDS);
+
+        evictionExecutor = executor;
+    }
+
+    /**
+     * Stops the eviction and closes all idle class loaders.
+     */
+    public void stop() {
+        ScheduledExecutorService executor = evictionExecutor;
+
+        if (executor != null) {
+            shutdownAndAwaitTermination(executor, 1000, MILLISECONDS);
+        }
+
+        closeAll(idleClassLoaders.clear());
     }
 
     /**
@@ -86,7 +183,7 @@ public class JobContextManager {
         CompletableFuture<JobContext> loaderFut = normalizeVersions(units)
                 .thenCompose(normalizedUnits -> checkUnitStatuses(normalizedUnits).thenApply(v -> normalizedUnits))
                 .thenCompose(normalizedUnits -> onDemandDeploy(normalizedUnits).thenApply(v -> normalizedUnits))
-                .thenApply(normalizedUnits -> classLoaderPool.acquire(normalizedUnits, this::createClassLoader))
+                .thenApply(this::acquireFromPool)
                 .thenApply(loader -> new JobContext(loader, this::releaseClassLoader));
 
         CompletableFuture<JobContext> contextFut = loaderFut
@@ -109,9 +206,29 @@ public class JobContextManager {
         return contextFut;
     }
 
+    private JobClassLoader acquireFromPool(List<DeploymentUnit> units) {
+        boolean[] created = {false};
+
+        JobClassLoader loader = classLoaderPool.acquire(units, key -> {
+            JobClassLoader idleLoader = idleClassLoaders.take(key);
+
+            if (idleLoader != null) {
+                return idleLoader;
+            }
+
+            created[0] = true;
+
+            return createClassLoader(key);
+        });
+
+        metricSource.onClassLoaderAcquired(created[0]);
+
+        return loader;
+    }
+
     /**
      * Creates a class loader for the given deployment units. The units will be acquired. The class loader will be closed when it is not
-     * used by any other job.
+     * used by any other job and is evicted from the idle cache.
      */
     private JobClassLoader createClassLoader(List<DeploymentUnit> units) {
         List<DisposableDeploymentUnit> disposableDeploymentUnits = units.stream()
@@ -121,15 +238,31 @@ public class JobContextManager {
     }
 
     /**
-     * Releases a class loader. If the class loader is not used by any other job, it will be closed and the deployment units will be
-     * released.
+     * Releases a class loader. If the class loader is not used by any other job, it is put into the idle cache. The loaders evicted from
+     * the cache are closed and their deployment units are released.
      */
     private void releaseClassLoader(JobContext jobContext) {
         List<DeploymentUnit> units = jobContext.classLoader().units().stream()
                 .map(DisposableDeploymentUnit::unit)
                 .collect(Collectors.toList());
         if (classLoaderPool.release(units)) {
-            jobContext.classLoader().close();
+            closeAll(idleClassLoaders.put(units, jobContext.classLoader(), classLoaderCacheSize.getAsInt(), System.nanoTime()));
+        }
+    }
+
+    private void evictIdleClassLoaders() {
+        try {
+            long idleTimeoutNanos = MILLISECONDS.toNanos(classLoaderIdleTimeoutMillis.getAsLong());
+
+            closeAll(idleClassLoaders.evictExpired(idleTimeoutNanos, System.nanoTime()));
+        } catch (Throwable e) {
+            LOG.error("Failed to evict idle class loaders", e);
+        }
+    }
+
+    private static void closeAll(List<JobClassLoader> loaders) {
+        for (JobClassLoader loader : loaders) {
+            loader.close();
         }
     }
 
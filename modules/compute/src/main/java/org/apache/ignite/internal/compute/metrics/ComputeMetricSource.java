@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute.metrics;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/** Metric source, which provides metrics of compute jobs executed on the local node. */
+public class ComputeMetricSource extends AbstractMetricSource<ComputeMetricSource.Holder> {
+    public static final String NAME = "compute";
+
+    /** Bounds of the job time histograms, in milliseconds. */
+    private static final long[] JOB_TIME_BOUNDS = {1, 10, 50, 100, 500, 1_000, 5_000, 30_000, 60_000, 300_000};
+
+    /** Constructor. */
+    public ComputeMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records the time a job has spent in the queue before its execution started.
+     *
+     * @param millis Queue wait time, in milliseconds.
+     */
+    public void onJobStarted(long millis) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.queueWaitTime.add(millis);
+        }
+    }
+
+    /**
+     * Records the time from the start of a job execution to its completion.
+     *
+     * @param millis Execution time, in milliseconds.
+     */
+    public void onJobFinished(long millis) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.executionTime.add(millis);
+        }
+    }
+
+    /**
+     * Records the acquisition of a job class loader.
+     *
+     * @param created Whether a new class loader has been created, or an existing one has been reused.
+     */
+    public void onClassLoaderAcquired(boolean created) {
+        Holder h = holder();
+
+        if (h != null) {
+            if (created) {
+                h.classLoadersCreated.increment();
+            } else {
+                h.classLoaderCacheHits.increment();
+            }
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final DistributionMetric queueWaitTime = new DistributionMetric(
+                "JobQueueWaitTime",
+                "Distribution of the time compute jobs spend in the queue before the execution starts, in milliseconds.",
+                JOB_TIME_BOUNDS
+        );
+
+        private final DistributionMetric executionTime = new DistributionMetric(
+                "JobExecutionTime",
+                "Distribution of the execution time of compute jobs, including asynchronous completion, in milliseconds.",
+                JOB_TIME_BOUNDS
+        );
+
+        private final LongAdderMetric classLoadersCreated = new LongAdderMetric(
+                "ClassLoadersCreated",
+                "Number of job class loaders created, which is the number of class loader cache misses."
+        );
+
+        private final LongAdderMetric classLoaderCacheHits = new LongAdderMetric(
+                "ClassLoaderCacheHits",
+                "Number of times a job reused a class loader that was in use by another job or kept in the idle cache."
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(queueWaitTime, executionTime, classLoadersCreated, classLoaderCacheHits);
+        }
+    }
+}
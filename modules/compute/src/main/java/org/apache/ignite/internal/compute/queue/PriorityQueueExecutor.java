@@ -49,13 +49,29 @@ public class PriorityQueueExecutor {
             ComputeConfiguration configuration,
             ThreadFactory threadFactory,
             ComputeStateMachine stateMachine
+    ) {
+        this(configuration, threadFactory, configuration.threadPoolSize().value(), stateMachine);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param configuration Compute configuration.
+     * @param threadFactory Thread factory.
+     * @param poolSize Number of jobs executed concurrently, the rest of the jobs wait in the queue in the order of their priority.
+     */
+    public PriorityQueueExecutor(
+            ComputeConfiguration configuration,
+            ThreadFactory threadFactory,
+            int poolSize,
+            ComputeStateMachine stateMachine
     ) {
         this.configuration = configuration;
         this.stateMachine = stateMachine;
         BlockingQueue<Runnable> workQueue = new BoundedPriorityBlockingQueue<>(() -> configuration.queueMaxSize().value());
         executor = new ComputeThreadPoolExecutor(
-                configuration.threadPoolSize().value(),
-                configuration.threadPoolSize().value(),
+                poolSize,
+                poolSize,
                 THREAD_KEEP_ALIVE_SECONDS,
                 TimeUnit.SECONDS,
                 workQueue,
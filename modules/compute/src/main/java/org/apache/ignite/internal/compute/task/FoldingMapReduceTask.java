@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute.task;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.compute.task.MapReduceTask;
+import org.apache.ignite.compute.task.TaskExecutionContext;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A map reduce task which reduces the results of its compute jobs incrementally. Instead of waiting for all the jobs and calling
+ * {@link #reduceAsync(TaskExecutionContext, Map)} with all their results, the result of every job is folded into the task result as soon
+ * as the job completes. The task result is the value produced by the last fold.
+ *
+ * <p>Folds are called one at a time, in the order of job completion, so the implementation doesn't need to synchronize access to the
+ * accumulated value.
+ *
+ * <p>This is an internal extension of the compute API. Job results are still delivered to the task as whole values, they are not
+ * streamed in chunks from the nodes executing the jobs.
+ *
+ * @param <I> Split task (I)nput type.
+ * @param <M> (M)ap job input type.
+ * @param <T> Map job output (T)ype.
+ * @param <R> Task (R)esult type, which is also the type of the accumulated value.
+ */
+public interface FoldingMapReduceTask<I, M, T, R> extends MapReduceTask<I, M, T, R> {
+    /**
+     * Returns the initial accumulated value, which the result of the first completed job is folded into. This is also the result of the
+     * task if it has no jobs.
+     *
+     * @param taskContext Task execution context.
+     * @return Initial accumulated value.
+     */
+    @Nullable R initialValue(TaskExecutionContext taskContext);
+
+    /**
+     * Folds the result of a compute job into the accumulated value.
+     *
+     * @param taskContext Task execution context.
+     * @param accumulator Value accumulated from the results of the jobs completed so far.
+     * @param jobResult Result of the completed job.
+     * @return New accumulated value.
+     */
+    @Nullable R fold(TaskExecutionContext taskContext, @Nullable R accumulator, @Nullable T jobResult);
+
+    /**
+     * Folds all the results in the iteration order of the map. This method is not called by the task execution, which folds the results
+     * as the jobs complete, and is provided for the completeness of the {@link MapReduceTask} contract.
+     *
+     * @param taskContext Task execution context.
+     * @param results Map from compute job ids to their results.
+     * @return Final task result future.
+     */
+    @Override
+    default CompletableFuture<R> reduceAsync(TaskExecutionContext taskContext, Map<UUID, T> results) {
+        R accumulator = initialValue(taskContext);
+
+        for (T result : results.values()) {
+            accumulator = fold(taskContext, accumulator, result);
+        }
+
+        return completedFuture(accumulator);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute.task;
+
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.compute.task.TaskExecutionContext;
+import org.apache.ignite.internal.compute.queue.PriorityQueueExecutor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Folds the results of the jobs of a {@link FoldingMapReduceTask} into the task result as the jobs complete.
+ *
+ * <p>Results are put into a queue, and a single compute job at a time folds everything that has arrived so far. A fold job is only
+ * submitted when the queue becomes non-empty, so a burst of completions is folded by one compute job rather than a job per result. The
+ * reduce job of the task folds whatever is left, unless a fold job is still running, in which case that job completes the task result.
+ */
+class JobResultFolder<T, R> {
+    /** Placeholder for {@code null} job results, which can't be put into the queue. */
+    private static final Object NULL_RESULT = new Object();
+
+    /** Marker put into the queue by the reduce job after the results of all the jobs. */
+    private static final Object REDUCE = new Object();
+
+    private final PriorityQueueExecutor executorService;
+
+    private final FoldingMapReduceTask<?, ?, T, R> task;
+
+    private final TaskExecutionContext context;
+
+    /** Results which are not folded yet, followed by the {@link #REDUCE} marker once the reduce job has started. */
+    private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of queue elements which are not processed yet. The thread which increments it from zero folds until it is decremented back
+     * to zero, so folds never run concurrently. It also orders the accesses to {@link #accumulator} by different folding threads.
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final CompletableFuture<R> resultFuture = new CompletableFuture<>();
+
+    private @Nullable R accumulator;
+
+    private boolean initialized;
+
+    JobResultFolder(PriorityQueueExecutor executorService, FoldingMapReduceTask<?, ?, T, R> task, TaskExecutionContext context) {
+        this.executorService = executorService;
+        this.task = task;
+        this.context = context;
+    }
+
+    /**
+     * Adds the result of a completed job, and submits a fold job unless one is already running.
+     *
+     * @param result Job result.
+     */
+    void onResult(@Nullable T result) {
+        pending.add(result == null ? NULL_RESULT : result);
+
+        if (pendingCount.getAndIncrement() == 0) {
+            executorService.submit(() -> {
+                foldPending();
+
+                return nullCompletedFuture();
+            }, Integer.MAX_VALUE, 0);
+        }
+    }
+
+    /**
+     * Folds the remaining results. Must be called by the reduce job after the results of all the jobs have been added.
+     *
+     * @return Future of the task result.
+     */
+    CompletableFuture<R> reduce() {
+        pending.add(REDUCE);
+
+        if (pendingCount.getAndIncrement() == 0) {
+            foldPending();
+        }
+
+        return resultFuture;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void foldPending() {
+        do {
+            Object next = pending.poll();
+
+            assert next != null : "Pending queue is behind the pending count";
+
+            if (resultFuture.isDone()) {
+                // A previous fold has failed the task, the rest of the results are dropped.
+                continue;
+            }
+
+            try {
+                if (!initialized) {
+                    accumulator = task.initialValue(context);
+
+                    initialized = true;
+                }
+
+                if (next == REDUCE) {
+                    resultFuture.complete(accumulator);
+                } else {
+                    accumulator = task.fold(context, accumulator, next == NULL_RESULT ? null : (T) next);
+                }
+            } catch (Throwable e) {
+                resultFuture.completeExceptionally(e);
+            }
+        } while (pendingCount.decrementAndGet() > 0);
+    }
+}
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -66,7 +67,7 @@ import org.jetbrains.annotations.Nullable;
  * Internal map reduce task execution object. Runs the {@link MapReduceTask#splitAsync(TaskExecutionContext, Object)} method of the task
  * as a compute job, then submits the resulting list of jobs. Waits for completion of all compute jobs, then submits the
  * {@link MapReduceTask#reduceAsync(TaskExecutionContext, Map)} method as a compute job. The result of the task is the result of the split
- * method.
+ * method. Results of a {@link FoldingMapReduceTask} are folded as the jobs complete instead, see {@link JobResultFolder}.
  *
  * @param <R> Task result type.
  */
@@ -78,7 +79,8 @@ public class TaskExecutionInternal<I, M, T, R> implements CancellableTaskExecuti
 
     private final CompletableFuture<List<JobExecution<T>>> executionsFuture;
 
-    private final CompletableFuture<Map<UUID, T>> resultsFuture;
+    /** Future of the reduce job action, completed once the results of all jobs are available. */
+    private final CompletableFuture<Callable<CompletableFuture<R>>> resultsFuture;
 
     private final CompletableFuture<QueueExecution<R>> reduceExecutionFuture;
 
@@ -131,19 +133,28 @@ public class TaskExecutionInternal<I, M, T, R> implements CancellableTaskExecuti
             return jobSubmitter.submit(runners, cancelHandle.token());
         });
 
-        resultsFuture = executionsFuture.thenCompose(TaskExecutionInternal::resultsAsync);
-
-        reduceExecutionFuture = resultsFuture.thenApply(results -> {
-            LOG.debug("Running reduce job for {}", taskClass.getName());
-
+        resultsFuture = executionsFuture.thenCompose(executions -> {
             // This future is already finished
             MapReduceTask<I, M, T, R> task = splitExecution.resultAsync().thenApply(SplitResult::task).join();
 
-            return executorService.submit(
-                    () -> task.reduceAsync(context, results),
-                    Integer.MAX_VALUE,
-                    0
-            );
+            if (task instanceof FoldingMapReduceTask) {
+                var folder = new JobResultFolder<>(executorService, (FoldingMapReduceTask<I, M, T, R>) task, context);
+
+                CompletableFuture<?>[] foldFutures = executions.stream()
+                        .map(execution -> execution.resultAsync().thenAccept(folder::onResult))
+                        .toArray(CompletableFuture[]::new);
+
+                return allOf(foldFutures).<Callable<CompletableFuture<R>>>thenApply(unused -> folder::reduce);
+            }
+
+            return resultsAsync(executions)
+                    .<Callable<CompletableFuture<R>>>thenApply(results -> () -> task.reduceAsync(context, results));
+        });
+
+        reduceExecutionFuture = resultsFuture.thenApply(reduceAction -> {
+            LOG.debug("Running reduce job for {}", taskClass.getName());
+
+            return executorService.submit(reduceAction, Integer.MAX_VALUE, 0);
         }).whenComplete(this::captureReduceFailure);
     }
 
@@ -25,11 +25,14 @@ import static org.apache.ignite.compute.JobStatus.FAILED;
 import static org.apache.ignite.internal.compute.ComputeUtils.getJobExecuteArgumentType;
 import static org.apache.ignite.internal.compute.ComputeUtils.getTaskSplitArgumentType;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.testframework.matchers.JobStateMatcher.jobStateWithStatus;
 import static org.apache.ignite.internal.testframework.matchers.JobStateMatcher.jobStateWithStatusAndCreateTimeStartTime;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 
 import java.util.List;
@@ -37,6 +40,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.compute.ComputeJob;
 import org.apache.ignite.compute.JobExecutionContext;
@@ -278,4 +282,41 @@ class ComputeExecutorTest extends BaseIgniteAbstractTest {
             return completedFuture(0);
         }
     }
+
+    @Test
+    void executesJobsOnVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads are not supported by this JVM");
+
+        computeExecutor.stop();
+
+        assertThat(computeConfiguration.change(change -> change.changeVirtualThreadsEnabled(true)), willCompleteSuccessfully());
+
+        InMemoryComputeStateMachine stateMachine = new InMemoryComputeStateMachine(computeConfiguration, "testNode");
+        computeExecutor = new ComputeExecutorImpl(ignite, stateMachine, computeConfiguration, topologyService);
+        computeExecutor.start();
+
+        ThreadNameJob.threadName.set(null);
+
+        JobExecutionInternal<?> execution = computeExecutor.executeJob(
+                ExecutionOptions.DEFAULT,
+                ThreadNameJob.class,
+                null,
+                null
+        );
+
+        await().until(execution::state, jobStateWithStatus(COMPLETED));
+
+        assertThat(ThreadNameJob.threadName.get(), containsString("compute-virtual-"));
+    }
+
+    private static class ThreadNameJob implements ComputeJob<Object[], Integer> {
+        static final AtomicReference<String> threadName = new AtomicReference<>();
+
+        @Override
+        public CompletableFuture<Integer> executeAsync(JobExecutionContext context, Object... args) {
+            threadName.set(Thread.currentThread().getName());
+
+            return completedFuture(0);
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.net.URL;
+import java.util.List;
+import org.apache.ignite.deployment.DeploymentUnit;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+class IdleJobClassLoaderCacheTest extends BaseIgniteAbstractTest {
+    private static final List<DeploymentUnit> UNITS1 = List.of(new DeploymentUnit("unit1", "1.0.0"));
+
+    private static final List<DeploymentUnit> UNITS2 = List.of(new DeploymentUnit("unit2", "1.0.0"));
+
+    private static final List<DeploymentUnit> UNITS3 = List.of(new DeploymentUnit("unit3", "1.0.0"));
+
+    private final IdleJobClassLoaderCache cache = new IdleJobClassLoaderCache();
+
+    @Test
+    void takesReleasedLoader() {
+        JobClassLoader loader = loader();
+
+        assertThat(cache.put(UNITS1, loader, 1, 0), is(empty()));
+
+        assertThat(cache.take(UNITS2), is(nullValue()));
+        assertThat(cache.take(UNITS1), is(sameInstance(loader)));
+        assertThat(cache.take(UNITS1), is(nullValue()));
+    }
+
+    @Test
+    void evictsLeastRecentlyReleasedLoader() {
+        JobClassLoader loader1 = loader();
+        JobClassLoader loader2 = loader();
+        JobClassLoader loader3 = loader();
+
+        assertThat(cache.put(UNITS1, loader1, 2, 0), is(empty()));
+        assertThat(cache.put(UNITS2, loader2, 2, 1), is(empty()));
+        assertThat(cache.put(UNITS3, loader3, 2, 2), contains(loader1));
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.take(UNITS1), is(nullValue()));
+    }
+
+    @Test
+    void evictsReplacedLoader() {
+        JobClassLoader loader1 = loader();
+        JobClassLoader loader2 = loader();
+
+        assertThat(cache.put(UNITS1, loader1, 2, 0), is(empty()));
+        assertThat(cache.put(UNITS1, loader2, 2, 1), contains(loader1));
+
+        assertThat(cache.take(UNITS1), is(sameInstance(loader2)));
+    }
+
+    @Test
+    void evictsExpiredLoaders() {
+        JobClassLoader loader1 = loader();
+        JobClassLoader loader2 = loader();
+
+        cache.put(UNITS1, loader1, 2, 0);
+        cache.put(UNITS2, loader2, 2, 10);
+
+        assertThat(cache.evictExpired(10, 5), is(empty()));
+        assertThat(cache.evictExpired(10, 15), contains(loader1));
+        assertThat(cache.evictExpired(10, 20), contains(loader2));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void disabledCacheEvictsLoaderImmediately() {
+        JobClassLoader loader = loader();
+
+        assertThat(cache.put(UNITS1, loader, 0, 0), contains(loader));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void evictsLoadersUsingUnit() {
+        JobClassLoader loader1 = loader();
+        JobClassLoader loader2 = loader();
+        JobClassLoader loader3 = loader();
+
+        cache.put(UNITS1, loader1, 3, 0);
+        cache.put(List.of(UNITS2.get(0), UNITS1.get(0)), loader2, 3, 0);
+        cache.put(UNITS3, loader3, 3, 0);
+
+        assertThat(cache.evictUsing(UNITS1.get(0)), contains(loader1, loader2));
+        assertThat(cache.take(UNITS3), is(sameInstance(loader3)));
+    }
+
+    @Test
+    void clearEvictsAllLoaders() {
+        JobClassLoader loader1 = loader();
+        JobClassLoader loader2 = loader();
+
+        cache.put(UNITS1, loader1, 2, 0);
+        cache.put(UNITS2, loader2, 2, 0);
+
+        assertThat(cache.clear(), contains(loader1, loader2));
+        assertThat(cache.size(), is(0));
+    }
+
+    private JobClassLoader loader() {
+        return new JobClassLoader(List.of(), new URL[0], getClass().getClassLoader());
+    }
+}
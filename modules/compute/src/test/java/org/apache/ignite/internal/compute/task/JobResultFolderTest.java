@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.compute.task;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.compute.task.MapReduceJob;
+import org.apache.ignite.compute.task.TaskExecutionContext;
+import org.apache.ignite.internal.compute.queue.PriorityQueueExecutor;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JobResultFolderTest extends BaseIgniteAbstractTest {
+    @Mock
+    private PriorityQueueExecutor executorService;
+
+    @Mock
+    private Ignite ignite;
+
+    /** Fold jobs submitted to the executor, which the tests run manually. */
+    private final List<Callable<CompletableFuture<Object>>> submittedFolds = new ArrayList<>();
+
+    private JobResultFolder<String, String> folder;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(executorService.submit(any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            submittedFolds.add(invocation.getArgument(0));
+
+            return null;
+        });
+
+        folder = new JobResultFolder<>(executorService, new ConcatTask(), new TaskExecutionContextImpl(ignite, new AtomicBoolean()));
+    }
+
+    @Test
+    void foldsBurstOfResultsInOneJob() throws Exception {
+        folder.onResult("a");
+        folder.onResult(null);
+        folder.onResult("b");
+
+        assertThat(submittedFolds, hasSize(1));
+
+        submittedFolds.get(0).call();
+
+        folder.onResult("c");
+
+        assertThat(submittedFolds, hasSize(2));
+
+        submittedFolds.get(1).call();
+
+        assertThat(folder.reduce(), willBe(">a_bc"));
+    }
+
+    @Test
+    void pendingFoldJobCompletesResult() throws Exception {
+        folder.onResult("a");
+
+        // The reduce job finds a fold job pending, so the fold job completes the task result.
+        CompletableFuture<String> result = folder.reduce();
+
+        assertThat(result.isDone(), is(false));
+
+        submittedFolds.get(0).call();
+
+        assertThat(result, willBe(">a"));
+        assertThat(submittedFolds, hasSize(1));
+    }
+
+    @Test
+    void reduceWithoutResultsReturnsInitialValue() {
+        assertThat(folder.reduce(), willBe(">"));
+        assertThat(submittedFolds, hasSize(0));
+    }
+
+    @Test
+    void failedFoldFailsResult() throws Exception {
+        folder.onResult("a");
+        folder.onResult("fail");
+        folder.onResult("b");
+
+        submittedFolds.get(0).call();
+
+        assertThat(folder.reduce(), willThrow(IllegalStateException.class, "Fold failed"));
+        assertThat(submittedFolds, hasSize(1));
+    }
+
+    /** Task which concatenates the job results, with {@code null} results folded as underscores. */
+    private static class ConcatTask implements FoldingMapReduceTask<Void, Void, String, String> {
+        @Override
+        public CompletableFuture<List<MapReduceJob<Void, String>>> splitAsync(TaskExecutionContext taskContext, Void input) {
+            return nullCompletedFuture();
+        }
+
+        @Override
+        public String initialValue(TaskExecutionContext taskContext) {
+            return ">";
+        }
+
+        @Override
+        public String fold(TaskExecutionContext taskContext, String accumulator, String jobResult) {
+            if ("fail".equals(jobResult)) {
+                throw new IllegalStateException("Fold failed");
+            }
+
+            return accumulator + (jobResult == null ? "_" : jobResult);
+        }
+    }
+}
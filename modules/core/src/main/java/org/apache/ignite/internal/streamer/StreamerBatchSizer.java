@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+/**
+ * Adaptive page size of a single streamer destination (a node, or a partition when the node is not known).
+ *
+ * <p>Keeps the page size close to the number of items that arrive for the destination during one request round trip,
+ * split evenly between the partitions of the destination. When the destination responds quickly compared to the arrival rate,
+ * smaller pages are sent earlier and items spend less time in the buffer. When the destination is slow, pages grow, so that fewer
+ * round trips are made. The page size starts with the configured one and stays between 1/16 and 4 times of it.
+ *
+ * <p>The arrival rate is only meaningful when the producer is not limited by the demand, so the subscriber requests more items
+ * than the current page sizes hold.
+ */
+class StreamerBatchSizer {
+    /** Minimum page size is the configured page size divided by this value. */
+    private static final int MIN_PAGE_SIZE_DIVISOR = 16;
+
+    /** Maximum page size is the configured page size multiplied by this value. */
+    private static final int MAX_PAGE_SIZE_MULTIPLIER = 4;
+
+    /** Weight of the last observed latency in the moving average. */
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final int maxPageSize;
+
+    private final int minPageSize;
+
+    private int pageSize;
+
+    private long itemsAdded;
+
+    private long windowStartNanos;
+
+    private double latencyNanos = -1;
+
+    StreamerBatchSizer(int configuredPageSize, long nowNanos) {
+        assert configuredPageSize > 0 : "Page size must be positive: " + configuredPageSize;
+
+        this.maxPageSize = (int) Math.min(Integer.MAX_VALUE, (long) configuredPageSize * MAX_PAGE_SIZE_MULTIPLIER);
+        this.minPageSize = Math.max(1, configuredPageSize / MIN_PAGE_SIZE_DIVISOR);
+        this.pageSize = configuredPageSize;
+        this.windowStartNanos = nowNanos;
+    }
+
+    /**
+     * Registers an item that was added to the destination buffer.
+     */
+    synchronized void onItemAdded() {
+        itemsAdded++;
+    }
+
+    /**
+     * Registers a completed batch and recalculates the page size.
+     *
+     * @param batchLatencyNanos Batch round trip time, in nanoseconds.
+     * @param nowNanos Current time, in nanoseconds.
+     * @param partitions Number of partitions the destination items are buffered for.
+     * @return New page size of a single partition.
+     */
+    synchronized int onBatchCompleted(long batchLatencyNanos, long nowNanos, int partitions) {
+        assert partitions > 0 : "Partition count must be positive: " + partitions;
+
+        latencyNanos = latencyNanos < 0
+                ? batchLatencyNanos
+                : latencyNanos + LATENCY_SMOOTHING * (batchLatencyNanos - latencyNanos);
+
+        long elapsedNanos = nowNanos - windowStartNanos;
+
+        if (elapsedNanos > 0 && itemsAdded > 0) {
+            double itemsPerNano = (double) itemsAdded / elapsedNanos;
+            double target = Math.ceil(itemsPerNano * latencyNanos / partitions);
+
+            pageSize = (int) Math.max(minPageSize, Math.min(maxPageSize, target));
+
+            itemsAdded = 0;
+            windowStartNanos = nowNanos;
+        }
+
+        return pageSize;
+    }
+
+    /**
+     * Gets the current page size of a single partition.
+     *
+     * @return Page size.
+     */
+    synchronized int pageSize() {
+        return pageSize;
+    }
+}
@@ -22,7 +22,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 class StreamerBuffer<T> {
-    private final int capacity;
+    private int capacity;
 
     private final Consumer<List<T>> flusher;
 
@@ -37,6 +37,17 @@ class StreamerBuffer<T> {
         buf = new ArrayList<>(capacity);
     }
 
+    /**
+     * Changes the buffer capacity. Takes effect on the next {@link #add} call.
+     *
+     * @param capacity New capacity.
+     */
+    synchronized void capacity(int capacity) {
+        assert capacity > 0 : "Capacity must be positive: " + capacity;
+
+        this.capacity = capacity;
+    }
+
     /**
      * Adds item to the buffer.
      *
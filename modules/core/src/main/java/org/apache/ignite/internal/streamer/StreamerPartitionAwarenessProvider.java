@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.streamer;
 
 import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Partition awareness provider for data streamer.
@@ -34,6 +35,16 @@ public interface StreamerPartitionAwarenessProvider<T, P> {
      */
     P partition(T item);
 
+    /**
+     * Returns the name of the node the partition is currently mapped to. Partitions of the same node share the adaptive page size.
+     *
+     * @param partition Partition.
+     * @return Node name, or {@code null} if unknown.
+     */
+    default @Nullable String node(P partition) {
+        return null;
+    }
+
     /**
      * Refreshes schemas and partition mapping asynchronously.
      *
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,6 +37,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.table.DataStreamerException;
 import org.jetbrains.annotations.Nullable;
@@ -50,6 +52,9 @@ import org.jetbrains.annotations.Nullable;
  * @param <P> Partition type.
  */
 public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
+    /** Ratio of the requested items to the items of the current page sizes, leaves room for the page sizes to grow. */
+    private static final int DEMAND_HEADROOM = 2;
+
     private final StreamerBatchSender<V, P, R> batchSender;
 
     private final @Nullable Subscriber<R> resultSubscriber;
@@ -76,12 +81,20 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
 
     private final ConcurrentMap<P, CompletableFuture<Collection<R>>> pendingRequests = new ConcurrentHashMap<>();
 
+    /** Adaptive page sizes, by node name, or by partition when the node is not known. */
+    private final ConcurrentMap<Object, StreamerBatchSizer> batchSizers = new ConcurrentHashMap<>();
+
+    /** Sum of the current page sizes of all buffers. */
+    private volatile int totalPageSize;
+
     private final IgniteLogger log;
 
     private final StreamerMetricSink metrics;
 
     private final ScheduledExecutorService flushExecutor;
 
+    private final LongSupplier nanoTime;
+
     private final Set<E> failedItems = Collections.synchronizedSet(new HashSet<>());
 
     private @Nullable Flow.Subscription subscription;
@@ -117,6 +130,48 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
             ScheduledExecutorService flushExecutor,
             IgniteLogger log,
             @Nullable StreamerMetricSink metrics) {
+        this(
+                batchSender,
+                resultSubscriber,
+                keyFunc,
+                payloadFunc,
+                deleteFunc,
+                partitionAwarenessProvider,
+                options,
+                flushExecutor,
+                log,
+                metrics,
+                System::nanoTime
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param batchSender Batch sender.
+     * @param resultSubscriber Result subscriber.
+     * @param keyFunc Key function.
+     * @param payloadFunc Payload function.
+     * @param deleteFunc Delete function.
+     * @param partitionAwarenessProvider Partition awareness provider.
+     * @param options Streamer options.
+     * @param flushExecutor Flush executor.
+     * @param log Logger.
+     * @param metrics Metrics.
+     * @param nanoTime Source of the current time in nanoseconds, used to measure batch latencies and item arrival rates.
+     */
+    StreamerSubscriber(
+            StreamerBatchSender<V, P, R> batchSender,
+            @Nullable Flow.Subscriber<R> resultSubscriber,
+            Function<E, T> keyFunc,
+            Function<E, V> payloadFunc,
+            Function<E, Boolean> deleteFunc,
+            StreamerPartitionAwarenessProvider<T, P> partitionAwarenessProvider,
+            StreamerOptions options,
+            ScheduledExecutorService flushExecutor,
+            IgniteLogger log,
+            @Nullable StreamerMetricSink metrics,
+            LongSupplier nanoTime) {
         assert batchSender != null;
         assert keyFunc != null;
         assert payloadFunc != null;
@@ -135,6 +190,7 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
         this.flushExecutor = flushExecutor;
         this.log = log;
         this.metrics = getMetrics(metrics);
+        this.nanoTime = nanoTime;
     }
 
     /** {@inheritDoc} */
@@ -177,10 +233,17 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
         T key = keyFunc.apply(item);
         P partition = partitionAwarenessProvider.partition(key);
 
-        StreamerBuffer<E> buf = buffers.computeIfAbsent(
-                partition,
-                p -> new StreamerBuffer<>(options.pageSize(), items -> enlistBatch(p, items)));
+        StreamerBuffer<E> buf = buffers.get(partition);
+
+        if (buf == null) {
+            buf = buffers.computeIfAbsent(
+                    partition,
+                    p -> new StreamerBuffer<>(options.pageSize(), items -> enlistBatch(p, items)));
 
+            resizeBuffers();
+        }
+
+        batchSizer(destination(partition)).onItemAdded();
         buf.add(item);
         this.metrics.streamerItemsQueuedAdd(1);
 
@@ -240,6 +303,8 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
                 deleted.set(items.size() - 1, deleteFunc.apply(e));
             }
 
+            long startNanos = nanoTime.getAsLong();
+
             return batchSender.sendAsync(partition, items, deleted).whenComplete((res, err) -> {
                 if (err != null) {
                     // Retry is handled by the sender (RetryPolicy in ReliableChannel on the client, sendWithRetry on the server).
@@ -257,6 +322,7 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
                     this.metrics.streamerItemsQueuedAdd(-batchSize);
 
                     inFlightItemCount.addAndGet(-batchSize);
+                    adjustPageSize(partition, startNanos);
                     requestMore();
 
                     // Refresh partition assignment asynchronously.
@@ -278,6 +344,48 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
         }
     }
 
+    private Object destination(P partition) {
+        String node = partitionAwarenessProvider.node(partition);
+
+        return node == null ? partition : node;
+    }
+
+    private StreamerBatchSizer batchSizer(Object destination) {
+        return batchSizers.computeIfAbsent(destination, d -> new StreamerBatchSizer(options.pageSize(), nanoTime.getAsLong()));
+    }
+
+    private void adjustPageSize(P partition, long batchStartNanos) {
+        Object destination = destination(partition);
+        int partitions = 0;
+
+        for (P p : buffers.keySet()) {
+            if (destination.equals(destination(p))) {
+                partitions++;
+            }
+        }
+
+        long nowNanos = nanoTime.getAsLong();
+        batchSizer(destination).onBatchCompleted(nowNanos - batchStartNanos, nowNanos, Math.max(1, partitions));
+
+        resizeBuffers();
+    }
+
+    /**
+     * Applies the current page sizes to the buffers and updates the total page size, which drives {@link #requestMore()}.
+     */
+    private void resizeBuffers() {
+        int total = 0;
+
+        for (Map.Entry<P, StreamerBuffer<E>> e : buffers.entrySet()) {
+            int pageSize = batchSizer(destination(e.getKey())).pageSize();
+
+            e.getValue().capacity(pageSize);
+            total += pageSize;
+        }
+
+        totalPageSize = total;
+    }
+
     private void invokeResultSubscriber(Collection<R> res) {
         if (res == null || resultSubscriber == null) {
             return;
@@ -359,9 +467,12 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
         }
 
         // This method controls backpressure. We won't get more items than we requested.
-        // The idea is to have perPartitionParallelOperations batches in flight for every connection.
+        // The idea is to have perPartitionParallelOperations batches of the current adaptive page size in flight for every partition.
+        // The demand is a multiple of that, otherwise the arrival rate that the page sizes are estimated from would be capped by the
+        // page sizes themselves, and the pages could only shrink.
         var pending = pendingItemCount.get();
-        var desiredInFlight = Math.max(1, buffers.size()) * options.pageSize() * options.perPartitionParallelOperations();
+        var pageSizes = buffers.isEmpty() ? options.pageSize() : totalPageSize;
+        var desiredInFlight = pageSizes * options.perPartitionParallelOperations() * DEMAND_HEADROOM;
         var inFlight = inFlightItemCount.get();
         var count = desiredInFlight - inFlight - pending;
 
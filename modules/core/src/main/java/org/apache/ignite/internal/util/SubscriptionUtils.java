@@ -27,6 +27,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import org.apache.ignite.internal.util.subscription.ConcatenatedPublisher;
 import org.apache.ignite.internal.util.subscription.IterableToPublisherAdapter;
+import org.apache.ignite.internal.util.subscription.MergePublisher;
 import org.apache.ignite.internal.util.subscription.OrderedMergePublisher;
 
 /**
@@ -56,6 +57,19 @@ public class SubscriptionUtils {
         return new ConcatenatedPublisher<>(Arrays.asList(sources).iterator());
     }
 
+    /**
+     * Creates a thread-safe publisher wrapper which consumes up to {@code maxConcurrency} of the given publishers at the same time. Unlike
+     * {@link #concat(Iterator)}, the order of the items is not preserved.
+     *
+     * @param maxConcurrency Maximum number of publishers consumed at the same time.
+     * @param prefetch Prefetch size.
+     * @param sources Iterator which produces all publishers which should be combined.
+     * @return The publisher will combine all of the passed sources into a single one.
+     */
+    public static <T> Publisher<T> merge(int maxConcurrency, int prefetch, Iterator<Publisher<? extends T>> sources) {
+        return new MergePublisher<>(maxConcurrency, prefetch, sources);
+    }
+
     /**
      * Sorting composite publisher. Merges multiple concurrent ordered data streams into one.
      *
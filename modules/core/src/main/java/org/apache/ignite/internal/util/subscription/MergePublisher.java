@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Composite publisher which consumes several upstream publishers concurrently.
+ *
+ * <p>Up to {@code maxConcurrency} upstream publishers are subscribed at the same time, the next one is subscribed as soon as one of the
+ * active publishers completes. Items are emitted in the order they arrive, thus no ordering is guaranteed neither across, nor within
+ * the upstream publishers. The first error of any of the upstream publishers cancels the rest of them and is propagated to the
+ * downstream.
+ */
+public class MergePublisher<T> implements Publisher<T> {
+    /** Upstream publishers. */
+    private final Iterator<Publisher<? extends T>> sources;
+
+    /** Maximum number of upstream publishers consumed at the same time. */
+    private final int maxConcurrency;
+
+    /** Prefetch size. */
+    private final int prefetch;
+
+    /**
+     * Constructor.
+     *
+     * @param maxConcurrency Maximum number of upstream publishers consumed at the same time.
+     * @param prefetch Prefetch size.
+     * @param sources Iterator of upstream publishers.
+     */
+    public MergePublisher(int maxConcurrency, int prefetch, Iterator<Publisher<? extends T>> sources) {
+        assert maxConcurrency > 0 : maxConcurrency;
+        assert prefetch > 0 : prefetch;
+
+        this.sources = sources;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> downstream) {
+        MergeSubscription<? super T> subscription = new MergeSubscription<>(downstream, maxConcurrency, prefetch, sources);
+
+        downstream.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Composite subscription.
+     *
+     * <p>All the interactions with the upstream publishers as well as with the downstream subscriber are performed within the critical
+     * section guarded by {@link #guardCntr}.
+     */
+    static final class MergeSubscription<T> implements Subscription {
+        final Subscriber<? super T> downstream;
+
+        /** Counter to prevent concurrent execution of a critical section. */
+        private final AtomicInteger guardCntr = new AtomicInteger();
+
+        /** Upstream publishers not subscribed yet (guarded by {@link #guardCntr}). */
+        private final Iterator<? extends Publisher<? extends T>> sources;
+
+        /** Active subscribers (guarded by {@link #guardCntr}). */
+        private final List<MergeSubscriber<T>> active;
+
+        private final int maxConcurrency;
+
+        private final int prefetch;
+
+        /** Error. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private Throwable error;
+
+        /** Cancelled flag. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private boolean cancelled;
+
+        /** Number of requested rows. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private long requested;
+
+        /** Number of emitted rows (guarded by {@link #guardCntr}). */
+        private long emitted;
+
+        /** Index of the subscriber to poll the next item from (guarded by {@link #guardCntr}). */
+        private int next;
+
+        static final VarHandle ERROR;
+
+        static final VarHandle CANCELLED;
+
+        static final VarHandle REQUESTED;
+
+        static {
+            Lookup lk = MethodHandles.lookup();
+
+            try {
+                ERROR = lk.findVarHandle(MergeSubscription.class, "error", Throwable.class);
+                CANCELLED = lk.findVarHandle(MergeSubscription.class, "cancelled", boolean.class);
+                REQUESTED = lk.findVarHandle(MergeSubscription.class, "requested", long.class);
+            } catch (Throwable ex) {
+                throw new InternalError(ex);
+            }
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param downstream Downstream subscriber.
+         * @param maxConcurrency Maximum number of upstream publishers consumed at the same time.
+         * @param prefetch Prefetch size.
+         * @param sources Iterator of upstream publishers.
+         */
+        MergeSubscription(
+                Subscriber<? super T> downstream,
+                int maxConcurrency,
+                int prefetch,
+                Iterator<? extends Publisher<? extends T>> sources
+        ) {
+            this.downstream = downstream;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+            this.sources = sources;
+            this.active = new ArrayList<>(maxConcurrency);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            for (; ; ) {
+                long current = (long) REQUESTED.getAcquire(this);
+                long next = current + n;
+
+                if (next < 0L) {
+                    next = Long.MAX_VALUE;
+                }
+
+                if (REQUESTED.compareAndSet(this, current, next)) {
+                    break;
+                }
+            }
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            if (CANCELLED.compareAndSet(this, false, true)) {
+                drain();
+            }
+        }
+
+        private void onInnerError(MergeSubscriber<T> sender, Throwable ex) {
+            if (!ERROR.compareAndSet(this, null, ex)) {
+                Throwable first = (Throwable) ERROR.getAcquire(this);
+
+                if (first != ex) {
+                    first.addSuppressed(ex);
+                }
+            }
+
+            sender.done = true;
+
+            drain();
+        }
+
+        void drain() {
+            // Only one thread can pass below.
+            if (guardCntr.getAndIncrement() != 0) {
+                return;
+            }
+
+            // Frequently accessed fields.
+            Subscriber<? super T> downstream = this.downstream;
+            List<MergeSubscriber<T>> active = this.active;
+            long emitted = this.emitted;
+
+            for (; ; ) {
+                long requested = (long) REQUESTED.getAcquire(this);
+
+                for (; ; ) {
+                    if ((boolean) CANCELLED.getAcquire(this)) {
+                        cancelActive();
+
+                        return;
+                    }
+
+                    Throwable error = (Throwable) ERROR.getAcquire(this);
+
+                    if (error != null) {
+                        cancelActive();
+
+                        downstream.onError(error);
+
+                        return;
+                    }
+
+                    for (int i = active.size() - 1; i >= 0; i--) {
+                        MergeSubscriber<T> inner = active.get(i);
+
+                        // The flag must be read before the queue, so the items emitted before the completion are not missed.
+                        if (inner.done && inner.queue.isEmpty()) {
+                            active.remove(i);
+                        }
+                    }
+
+                    if (active.size() < maxConcurrency && sources.hasNext()) {
+                        MergeSubscriber<T> inner = new MergeSubscriber<>(this, prefetch);
+
+                        active.add(inner);
+
+                        // Subscriber may receive items synchronously, thus start over to not miss them.
+                        sources.next().subscribe(inner);
+
+                        continue;
+                    }
+
+                    if (active.isEmpty()) {
+                        downstream.onComplete();
+
+                        return;
+                    }
+
+                    if (emitted == requested) {
+                        break;
+                    }
+
+                    MergeSubscriber<T> source = null;
+                    T item = null;
+
+                    for (int i = 0; i < active.size() && item == null; i++) {
+                        next = (next + 1) % active.size();
+
+                        source = active.get(next);
+                        item = source.queue.poll();
+                    }
+
+                    if (item == null) {
+                        // None of the subscribers has received a response yet.
+                        break;
+                    }
+
+                    downstream.onNext(item);
+
+                    emitted++;
+                    source.request(1);
+                }
+
+                this.emitted = emitted;
+
+                // Retry if any other thread has incremented the counter.
+                if (guardCntr.decrementAndGet() == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void cancelActive() {
+            for (MergeSubscriber<T> inner : active) {
+                inner.cancel();
+                inner.queue.clear();
+            }
+
+            active.clear();
+        }
+
+        /**
+         * Merge subscriber.
+         */
+        static final class MergeSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T>, Subscription {
+            /** Parent subscription. */
+            private final MergeSubscription<T> parent;
+
+            /** Prefetch size. */
+            private final int prefetch;
+
+            /** Number of requests to buffer. */
+            private final int limit;
+
+            /** Inner data buffer. */
+            private final Queue<T> queue;
+
+            /** Count of consumed requests. */
+            private int consumed;
+
+            /** Flag indicating that the subscription has completed. */
+            private volatile boolean done;
+
+            MergeSubscriber(MergeSubscription<T> parent, int prefetch) {
+                this.parent = parent;
+                this.prefetch = prefetch;
+                this.limit = Math.max(prefetch - (prefetch >> 2), 1);
+                this.queue = new ConcurrentLinkedQueue<>();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                if (compareAndSet(null, subscription)) {
+                    subscription.request(prefetch);
+                } else {
+                    subscription.cancel();
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onNext(T item) {
+                queue.offer(item);
+
+                parent.drain();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onError(Throwable throwable) {
+                parent.onInnerError(this, throwable);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onComplete() {
+                done = true;
+
+                parent.drain();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void request(long n) {
+                int c = consumed + 1;
+
+                if (c == limit) {
+                    consumed = 0;
+                    Subscription subscription = get();
+
+                    // If the subscription has not yet been cancelled - request upstream.
+                    if (subscription != null && subscription != this) {
+                        subscription.request(c);
+                    }
+                } else {
+                    consumed = c;
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void cancel() {
+                Subscription subscription = getAndSet(this);
+
+                if (subscription != null && subscription != this) {
+                    subscription.cancel();
+                }
+            }
+        }
+    }
+}
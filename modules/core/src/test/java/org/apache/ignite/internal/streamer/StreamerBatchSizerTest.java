@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+class StreamerBatchSizerTest extends BaseIgniteAbstractTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void testStartsWithConfiguredPageSize() {
+        var sizer = new StreamerBatchSizer(1000, 0);
+
+        assertThat(sizer.pageSize(), is(1000));
+    }
+
+    @Test
+    void testShrinksForFastDestination() {
+        var sizer = new StreamerBatchSizer(1000, 0);
+
+        // 100 items per 100ms, 1ms round trip => 1 item per round trip, limited by minimum page size.
+        addItems(sizer, 100);
+
+        assertThat(sizer.onBatchCompleted(MS, 100 * MS, 1), is(1000 / 16));
+    }
+
+    @Test
+    void testGrowsForSlowDestination() {
+        var sizer = new StreamerBatchSizer(1000, 0);
+
+        // 100 items per 10ms, 7.55ms round trip => 75.5 items per round trip.
+        addItems(sizer, 100);
+        assertThat(sizer.onBatchCompleted(7_550_000, 10 * MS, 1), is(76));
+
+        // The destination slows down: 100 items per 10ms, 100ms round trip.
+        addItems(sizer, 100);
+
+        // Smoothed latency is 26.04ms => 260.4 items per round trip.
+        assertThat(sizer.onBatchCompleted(100 * MS, 20 * MS, 1), is(261));
+    }
+
+    @Test
+    void testSplitsPageSizeBetweenPartitions() {
+        var sizer = new StreamerBatchSizer(1000, 0);
+
+        // 400 items per 10ms for a node with 4 partitions, 10ms round trip => 100 items per partition per round trip.
+        addItems(sizer, 400);
+
+        assertThat(sizer.onBatchCompleted(10 * MS, 10 * MS, 4), is(100));
+        assertThat(sizer.pageSize(), is(100));
+    }
+
+    @Test
+    void testGrowsAboveConfiguredPageSize() {
+        var sizer = new StreamerBatchSizer(100, 0);
+
+        // 300 items per 10ms, 10ms round trip => 300 items per round trip.
+        addItems(sizer, 300);
+
+        assertThat(sizer.onBatchCompleted(10 * MS, 10 * MS, 1), is(300));
+    }
+
+    @Test
+    void testNeverExceedsMaxPageSize() {
+        var sizer = new StreamerBatchSizer(100, 0);
+
+        addItems(sizer, 10_000);
+
+        assertThat(sizer.onBatchCompleted(1000 * MS, MS, 1), is(400));
+    }
+
+    @Test
+    void testKeepsPageSizeWhenNoItemsArrived() {
+        var sizer = new StreamerBatchSizer(100, 0);
+
+        assertThat(sizer.onBatchCompleted(MS, 100 * MS, 1), is(100));
+    }
+
+    private static void addItems(StreamerBatchSizer sizer, int count) {
+        for (int i = 0; i < count; i++) {
+            sizer.onItemAdded();
+        }
+    }
+}
@@ -20,15 +20,23 @@ package org.apache.ignite.internal.streamer;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongFunction;
 import org.apache.ignite.internal.logger.Loggers;
@@ -207,4 +215,163 @@ class StreamerSubscriberTest extends BaseIgniteAbstractTest {
         assertThat(metrics.itemsQueued.longValue(), is(0L));
         assertThat(metrics.itemsSent.longValue(), is(itemsCount));
     }
+
+    /**
+     * Tests that the page size shrinks when the destination responds quickly compared to the arrival rate of items.
+     */
+    @Test
+    void testPageSizeShrinksForFastDestination() {
+        var clock = new AtomicLong();
+        var sender = new ControlledSender();
+        var requested = new AtomicLong();
+
+        StreamerSubscriber<Long, DataStreamerItem<Long>, Long, Object, String> subscriber =
+                subscribe(new Options(1000, 1, 10_000), sender, clock, requested);
+
+        // 1000 items arrive in 50ms, and the batch round trip is 1ms => 20 items per round trip, limited by the minimum page size.
+        subscriber.onNext(DataStreamerItem.of(0L));
+        clock.set(TimeUnit.MILLISECONDS.toNanos(50));
+
+        for (long i = 1; i < 1000; i++) {
+            subscriber.onNext(DataStreamerItem.of(i));
+        }
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(51));
+        sender.futures.get(0).complete(null);
+
+        for (long i = 1000; i < 1000 + 1000 / 16; i++) {
+            subscriber.onNext(DataStreamerItem.of(i));
+        }
+
+        assertThat(sender.batchSizes, contains(1000, 1000 / 16));
+
+        completeAll(subscriber, sender);
+    }
+
+    /**
+     * Tests that the page size grows above the configured one when the destination is slow and the producer keeps up with the demand.
+     */
+    @Test
+    void testPageSizeGrowsForSlowDestination() {
+        var clock = new AtomicLong();
+        var sender = new ControlledSender();
+        var requested = new AtomicLong();
+        var produced = new AtomicLong();
+
+        StreamerSubscriber<Long, DataStreamerItem<Long>, Long, Object, String> subscriber =
+                subscribe(new Options(100, 1, 10_000), sender, clock, requested);
+
+        produce(subscriber, requested, produced);
+
+        // The first batch is in flight, the second one waits for it.
+        assertThat(sender.batchSizes, contains(100));
+
+        // About 300 items arrived during the 100ms round trip.
+        clock.set(TimeUnit.MILLISECONDS.toNanos(100));
+        sender.futures.get(0).complete(null);
+
+        produce(subscriber, requested, produced);
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(200));
+        sender.futures.get(1).complete(null);
+
+        assertThat(sender.batchSizes, hasSize(3));
+        assertThat(sender.batchSizes.get(2), greaterThan(100));
+
+        completeAll(subscriber, sender);
+    }
+
+    private StreamerSubscriber<Long, DataStreamerItem<Long>, Long, Object, String> subscribe(
+            Options options,
+            ControlledSender sender,
+            AtomicLong clock,
+            AtomicLong requested
+    ) {
+        var partitionProvider = new StreamerPartitionAwarenessProvider<Long, String>() {
+            @Override
+            public String partition(Long item) {
+                return "foo";
+            }
+
+            @Override
+            public String node(String partition) {
+                return "node";
+            }
+
+            @Override
+            public CompletableFuture<Void> refreshAsync() {
+                return nullCompletedFuture();
+            }
+        };
+
+        StreamerSubscriber<Long, DataStreamerItem<Long>, Long, Object, String> subscriber = new StreamerSubscriber<>(
+                sender,
+                null,
+                DataStreamerItem::get,
+                DataStreamerItem::get,
+                x -> x.operationType() == DataStreamerOperationType.REMOVE,
+                partitionProvider,
+                options,
+                flushExecutor,
+                log,
+                new Metrics(),
+                clock::get
+        );
+
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        return subscriber;
+    }
+
+    /** Produces items until the demand is satisfied. */
+    private static void produce(
+            StreamerSubscriber<Long, DataStreamerItem<Long>, Long, Object, String> subscriber,
+            AtomicLong requested,
+            AtomicLong produced
+    ) {
+        while (produced.get() < requested.get()) {
+            subscriber.onNext(DataStreamerItem.of(produced.incrementAndGet()));
+        }
+    }
+
+    /** Completes the streamer, responding to all the batches that are sent. */
+    private static void completeAll(
+            StreamerSubscriber<Long, DataStreamerItem<Long>, Long, Object, String> subscriber,
+            ControlledSender sender
+    ) {
+        subscriber.onComplete();
+
+        // Completing a batch may send the next one, which is appended to the list.
+        for (int i = 0; i < sender.futures.size(); i++) {
+            sender.futures.get(i).complete(null);
+        }
+
+        assertThat(subscriber.completionFuture(), willCompleteSuccessfully());
+    }
+
+    /** Batch sender that records batch sizes and completes batches on demand. */
+    private static class ControlledSender implements StreamerBatchSender<Long, String, Object> {
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        private final List<CompletableFuture<Collection<Object>>> futures = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableFuture<Collection<Object>> sendAsync(String partition, Collection<Long> batch, BitSet deleted) {
+            var fut = new CompletableFuture<Collection<Object>>();
+
+            batchSizes.add(batch.size());
+            futures.add(fut);
+
+            return fut;
+        }
+    }
 }
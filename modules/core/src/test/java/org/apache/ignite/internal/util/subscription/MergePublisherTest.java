@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MergePublisher}.
+ */
+public class MergePublisherTest extends BaseIgniteAbstractTest {
+    private static final int SOURCES = 10;
+
+    private static final int ITEMS_PER_SOURCE = 1_000;
+
+    private static final int MAX_CONCURRENCY = 3;
+
+    private final AtomicInteger activeSources = new AtomicInteger();
+
+    private final AtomicInteger maxActiveSources = new AtomicInteger();
+
+    @RepeatedTest(10)
+    public void mergesAllItemsWithBoundedConcurrency() throws Exception {
+        List<Publisher<? extends Integer>> sources = new ArrayList<>();
+
+        for (int i = 0; i < SOURCES; i++) {
+            List<Integer> items = IntStream.range(i * ITEMS_PER_SOURCE, (i + 1) * ITEMS_PER_SOURCE).boxed().collect(toList());
+
+            sources.add(trackingPublisher(new IterableToPublisherAdapter<>(
+                    CompletableFuture.supplyAsync(() -> items), ForkJoinPool.commonPool(), 100
+            )));
+        }
+
+        TestSubscriber subscriber = new TestSubscriber(7);
+
+        SubscriptionUtils.merge(MAX_CONCURRENCY, 16, sources.iterator()).subscribe(subscriber);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+
+        assertThat(subscriber.error.get(), is((Throwable) null));
+        assertThat(subscriber.items, containsInAnyOrder(IntStream.range(0, SOURCES * ITEMS_PER_SOURCE).boxed().toArray()));
+        assertThat(maxActiveSources.get(), lessThanOrEqualTo(MAX_CONCURRENCY));
+    }
+
+    @Test
+    public void propagatesFirstError() throws Exception {
+        RuntimeException expected = new RuntimeException("Test");
+
+        List<Publisher<? extends Integer>> sources = List.of(
+                SubscriptionUtils.fromIterable(List.of(1, 2, 3)),
+                SubscriptionUtils.fromIterable(CompletableFuture.failedFuture(expected)),
+                SubscriptionUtils.fromIterable(List.of(4, 5, 6))
+        );
+
+        TestSubscriber subscriber = new TestSubscriber(1);
+
+        SubscriptionUtils.merge(MAX_CONCURRENCY, 16, sources.iterator()).subscribe(subscriber);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+
+        assertThat(subscriber.error.get(), sameInstance(expected));
+    }
+
+    @Test
+    public void completesWithoutSources() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(1);
+
+        SubscriptionUtils.<Integer>merge(MAX_CONCURRENCY, 16, List.<Publisher<? extends Integer>>of().iterator()).subscribe(subscriber);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+
+        assertThat(subscriber.error.get(), is((Throwable) null));
+        assertThat(subscriber.items.isEmpty(), is(true));
+    }
+
+    private Publisher<Integer> trackingPublisher(Publisher<Integer> delegate) {
+        return subscriber -> {
+            maxActiveSources.accumulateAndGet(activeSources.incrementAndGet(), Math::max);
+
+            delegate.subscribe(new Subscriber<>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscriber.onSubscribe(subscription);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    subscriber.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    activeSources.decrementAndGet();
+
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    activeSources.decrementAndGet();
+
+                    subscriber.onComplete();
+                }
+            });
+        };
+    }
+
+    /** Subscriber which requests items in batches of the given size from a different thread. */
+    private static class TestSubscriber implements Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private final int batchSize;
+
+        private Subscription subscription;
+
+        private int pending;
+
+        TestSubscriber(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+
+            pending = batchSize;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+
+            if (--pending == 0) {
+                pending = batchSize;
+
+                ForkJoinPool.commonPool().execute(() -> subscription.request(batchSize));
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -186,7 +186,8 @@ public class JdbcConnection implements Connection {
                 extractSslConfiguration(connProps),
                 false,
                 extractAuthenticationConfiguration(connProps),
-                IgniteClientConfiguration.DFLT_OPERATION_TIMEOUT
+                IgniteClientConfiguration.DFLT_OPERATION_TIMEOUT,
+                false
         );
 
         return (TcpIgniteClient) sync(TcpIgniteClient.startAsync(cfg, observableTimeTracker));
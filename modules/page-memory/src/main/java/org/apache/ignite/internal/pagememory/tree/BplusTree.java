@@ -1577,9 +1577,23 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
      * @throws IgniteInternalCheckedException If failed.
      */
     public final @Nullable T findNext(L lowerBound, boolean includeRow) throws IgniteInternalCheckedException {
+        return findNext(lowerBound, includeRow, null);
+    }
+
+    /**
+     * Searches for the row that (strictly or loosely, depending on {@code includeRow}) follows the lowerBound passed as an argument.
+     *
+     * @param lowerBound Lower bound.
+     * @param includeRow {@code True} if you include the passed row in the result.
+     * @param x Implementation specific argument passed to {@link #getRow(BplusIo, long, int, Object)}, {@code null} always means that
+     *      we need to return the full row.
+     * @return Next row.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public final @Nullable T findNext(L lowerBound, boolean includeRow, @Nullable Object x) throws IgniteInternalCheckedException {
         checkDestroyed();
 
-        GetNext g = new GetNext(lowerBound, includeRow);
+        GetNext g = new GetNext(lowerBound, includeRow, x);
 
         try {
             doFind(g);
@@ -6342,9 +6356,13 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         @Nullable
         private T nextRow;
 
-        private GetNext(L row, boolean includeRow) {
+        private final @Nullable Object arg;
+
+        private GetNext(L row, boolean includeRow, @Nullable Object arg) {
             super(row, false);
 
+            this.arg = arg;
+
             shift = includeRow ? -1 : 1;
         }
 
@@ -6374,7 +6392,7 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 checkDestroyed();
 
                 if (idx < cnt) {
-                    nextRow = getRow(io, pageAddr, idx);
+                    nextRow = getRow(io, pageAddr, idx, arg);
                 }
             }
 
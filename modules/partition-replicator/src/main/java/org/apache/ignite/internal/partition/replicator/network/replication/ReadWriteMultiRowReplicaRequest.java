@@ -42,4 +42,12 @@ public interface ReadWriteMultiRowReplicaRequest extends MultipleRowReplicaReque
      */
     @Nullable
     BitSet deleted();
+
+    /**
+     * Whether the request is a batch of a bulk load. Such a batch takes an exclusive lock on the table partition instead of locking
+     * every row and index entry. Only applicable to {@link RequestType#RW_UPSERT_ALL} of implicit transactions.
+     *
+     * @return {@code True} for a bulk load batch.
+     */
+    boolean bulkLoad();
 }
@@ -27,9 +27,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -506,6 +508,66 @@ public class ItThinClientSqlTest extends ItAbstractThinClientTest {
         assertEquals(ColumnType.NULL, meta.columns().get(14).type());
     }
 
+    @Test
+    void testAllColumnTypesOnEveryPage() {
+        IgniteSql sql = client().sql();
+
+        sql.execute(null, "CREATE TABLE testAllColumnTypesOnEveryPage("
+                + "ID INT PRIMARY KEY, VAL_BOOL BOOLEAN, VAL_BYTE TINYINT, VAL_SHORT SMALLINT, VAL_INT INT, VAL_LONG BIGINT, "
+                + "VAL_FLOAT REAL, VAL_DOUBLE DOUBLE, VAL_DECIMAL DECIMAL(10, 2), VAL_STRING VARCHAR, VAL_DATE DATE, VAL_TIME TIME, "
+                + "VAL_DATETIME TIMESTAMP, VAL_TIMESTAMP TIMESTAMP WITH LOCAL TIME ZONE, VAL_UUID UUID, VAL_BYTES VARBINARY)");
+
+        for (int i = 1; i <= 3; i++) {
+            sql.execute(null, "INSERT INTO testAllColumnTypesOnEveryPage VALUES ("
+                    + i + ", true, 1, 2, 3, 4, 5.5, 6.6, 7.77, 'foo', date '2020-01-01', time '12:00:00', "
+                    + "timestamp '2020-01-01 12:00:00', timestamp with local time zone '2020-01-01 12:00:00', "
+                    + "'10000000-2000-3000-4000-500000000000'::UUID, x'42')");
+        }
+
+        // Page size of 1 makes every row after the first one travel through the cursor next page request.
+        Statement statement = sql.statementBuilder()
+                .pageSize(1)
+                .query("SELECT *, INTERVAL '1' MONTH * ID, INTERVAL '1' SECOND * ID, NULL "
+                        + "FROM testAllColumnTypesOnEveryPage ORDER BY ID")
+                .build();
+
+        ResultSet<SqlRow> resultSet = sql.execute(null, statement);
+
+        ResultSetMetadata meta = resultSet.metadata();
+        assertNotNull(meta);
+        assertEquals(19, meta.columns().size());
+        assertEquals(ColumnType.PERIOD, meta.columns().get(16).type());
+        assertEquals(ColumnType.DURATION, meta.columns().get(17).type());
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(resultSet.hasNext());
+
+            SqlRow row = resultSet.next();
+
+            assertEquals(i, row.intValue(0));
+            assertEquals(true, row.booleanValue(1));
+            assertEquals(1, row.byteValue(2));
+            assertEquals(2, row.shortValue(3));
+            assertEquals(3, row.intValue(4));
+            assertEquals(4, row.longValue(5));
+            assertEquals(5.5f, row.floatValue(6));
+            assertEquals(6.6, row.doubleValue(7));
+            assertEquals(new BigDecimal("7.77"), row.decimalValue(8));
+            assertEquals("foo", row.stringValue(9));
+            assertEquals(LocalDate.of(2020, 1, 1), row.dateValue(10));
+            assertEquals(LocalTime.of(12, 0, 0), row.timeValue(11));
+            assertEquals(LocalDateTime.of(2020, 1, 1, 12, 0, 0), row.datetimeValue(12));
+            assertNotNull(row.timestampValue(13));
+            assertEquals(UUID.fromString("10000000-2000-3000-4000-500000000000"), row.uuidValue(14));
+            assertArrayEquals(new byte[]{0x42}, row.value(15));
+            assertEquals(Period.ofMonths(i), row.value(16));
+            assertEquals(Duration.ofSeconds(i), row.value(17));
+            assertNull(row.value(18));
+        }
+
+        assertFalse(resultSet.hasNext());
+    }
+
     @Test
     public void testExecuteScriptFail() {
         var script = "CREATE TABLE execute_script_fail (id INT PRIMARY KEY, step INTEGER); "
@@ -58,10 +58,9 @@ import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.TxMeta;
 import org.apache.ignite.internal.tx.TxStateMeta;
 import org.apache.ignite.internal.tx.impl.EnlistedPartitionGroup;
-import org.apache.ignite.internal.tx.message.CleanupReplicatedInfoMessage;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedBatchMessage;
 import org.apache.ignite.internal.tx.message.TxCleanupMessage;
 import org.apache.ignite.internal.tx.message.TxCleanupMessageErrorResponse;
-import org.apache.ignite.internal.tx.message.TxCleanupMessageResponse;
 import org.apache.ignite.internal.tx.message.TxFinishReplicaRequest;
 import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
 import org.apache.ignite.table.Table;
@@ -347,22 +346,16 @@ public class ItDurableFinishTest extends ClusterPerTestIntegrationTest {
         CompletableFuture<Void> cleanupReplicatedFuture = new CompletableFuture<>();
 
         primaryMessaging.dropMessages((s, networkMessage) -> {
-            if (networkMessage instanceof TxCleanupMessageResponse) {
-                logger().info("Received message: {}.", networkMessage);
-
-                TxCleanupMessageResponse message = (TxCleanupMessageResponse) networkMessage;
-
-                if (message instanceof TxCleanupMessageErrorResponse) {
-                    TxCleanupMessageErrorResponse error = (TxCleanupMessageErrorResponse) message;
+            if (networkMessage instanceof TxCleanupMessageErrorResponse) {
+                TxCleanupMessageErrorResponse error = (TxCleanupMessageErrorResponse) networkMessage;
 
-                    logger().error("Cleanup Error: ", error);
-
-                    return false;
-                }
+                logger().error("Cleanup Error: ", error);
+            } else if (networkMessage instanceof CleanupReplicatedBatchMessage) {
+                logger().info("Received message: {}.", networkMessage);
 
-                CleanupReplicatedInfoMessage result = message.result();
+                CleanupReplicatedBatchMessage message = (CleanupReplicatedBatchMessage) networkMessage;
 
-                if (result != null) {
+                if (message.results().stream().anyMatch(result -> result.txId().equals(context.tx.id()))) {
                     cleanupReplicatedFuture.complete(null);
                 }
             }
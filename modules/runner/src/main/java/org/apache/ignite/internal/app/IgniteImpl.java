@@ -36,6 +36,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigRenderOptions;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -101,6 +102,7 @@ import org.apache.ignite.internal.compute.configuration.ComputeExtensionConfigur
 import org.apache.ignite.internal.compute.executor.ComputeExecutorImpl;
 import org.apache.ignite.internal.compute.loader.JobClassLoaderFactory;
 import org.apache.ignite.internal.compute.loader.JobContextManager;
+import org.apache.ignite.internal.compute.metrics.ComputeMetricSource;
 import org.apache.ignite.internal.compute.state.InMemoryComputeStateMachine;
 import org.apache.ignite.internal.configuration.ComponentWorkingDir;
 import org.apache.ignite.internal.configuration.ConfigurationDynamicDefaultsPatcherImpl;
@@ -168,6 +170,7 @@ import org.apache.ignite.internal.metastorage.server.persistence.RocksDbKeyValue
 import org.apache.ignite.internal.metastorage.server.raft.MetastorageGroupId;
 import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.metrics.MetricManagerImpl;
+import org.apache.ignite.internal.metrics.MetricSource;
 import org.apache.ignite.internal.metrics.configuration.MetricExtensionConfiguration;
 import org.apache.ignite.internal.metrics.messaging.MetricMessaging;
 import org.apache.ignite.internal.metrics.sources.JvmMetricSource;
@@ -340,6 +343,11 @@ public class IgniteImpl implements Ignite {
 
     private final ComputeComponentImpl computeComponent;
 
+    private final ComputeMetricSource computeMetricSource = new ComputeMetricSource();
+
+    /** Metric sources of the storage engines. */
+    private final List<MetricSource> storageMetricSources = new ArrayList<>();
+
     private final CriticalWorkerWatchdog criticalWorkerRegistry;
 
     /** Failure processor. */
@@ -897,6 +905,8 @@ public class IgniteImpl implements Ignite {
                 threadPoolsManager.commonScheduler()
         );
 
+        storageEngines.values().forEach(engine -> storageMetricSources.addAll(engine.metricSources()));
+
         dataStorageMgr = new DataStorageManager(
                 applyThreadAssertionsIfNeeded(storageEngines),
                 nodeConfigRegistry.getConfiguration(StorageExtensionConfiguration.KEY).storage()
@@ -1104,6 +1114,8 @@ public class IgniteImpl implements Ignite {
 
         systemViewManager.register(disasterRecoveryManager);
 
+        systemViewManager.register(distributedTblMgr);
+
         indexManager = new IndexManager(
                 schemaManager,
                 distributedTblMgr,
@@ -1172,8 +1184,14 @@ public class IgniteImpl implements Ignite {
                 clusterSvc.messagingService(),
                 clusterSvc.topologyService(),
                 logicalTopologyService,
-                new JobContextManager(deploymentManagerImpl, deploymentManagerImpl.deploymentUnitAccessor(), new JobClassLoaderFactory()),
-                new ComputeExecutorImpl(this, stateMachine, computeCfg, clusterSvc.topologyService()),
+                new JobContextManager(
+                        deploymentManagerImpl,
+                        deploymentManagerImpl.deploymentUnitAccessor(),
+                        new JobClassLoaderFactory(),
+                        computeCfg,
+                        computeMetricSource
+                ),
+                new ComputeExecutorImpl(this, stateMachine, computeCfg, clusterSvc.topologyService(), computeMetricSource),
                 computeCfg
         );
 
@@ -1372,6 +1390,20 @@ public class IgniteImpl implements Ignite {
             metricManager.registerSource(osMetrics);
             metricManager.enable(osMetrics);
 
+            metricManager.registerSource(txManager.readOnlyTransactionMetricSource());
+            metricManager.enable(txManager.readOnlyTransactionMetricSource());
+
+            metricManager.registerSource(txManager.txCleanupMetricSource());
+            metricManager.enable(txManager.txCleanupMetricSource());
+
+            metricManager.registerSource(computeMetricSource);
+            metricManager.enable(computeMetricSource);
+
+            for (MetricSource storageMetricSource : storageMetricSources) {
+                metricManager.registerSource(storageMetricSource);
+                metricManager.enable(storageMetricSource);
+            }
+
             // Start the components that are required to join the cluster.
             // TODO https://issues.apache.org/jira/browse/IGNITE-22570
             CompletableFuture<Void> componentsStartFuture = lifecycleManager.startComponentsAsync(
@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.schema;
 
 import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.EQUALITY_FLAG;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.HEADER_SIZE;
 import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.PREFIX_FLAG;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.flagsToEntrySize;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 
 import java.math.BigDecimal;
@@ -41,6 +43,9 @@ import org.apache.ignite.internal.type.NativeTypeSpec;
  */
 @SuppressWarnings("ComparatorNotSerializable")
 public class BinaryTupleComparator implements Comparator<ByteBuffer> {
+    /** Result of {@link #compareInlinedPrefix} meaning that the inlined prefix is not enough to determine the order. */
+    public static final int UNDECIDED = Integer.MIN_VALUE;
+
     private final List<CatalogColumnCollation>  columnCollations;
     private final List<NativeType> columnTypes;
 
@@ -95,6 +100,64 @@ public class BinaryTupleComparator implements Comparator<ByteBuffer> {
         }
     }
 
+    /**
+     * Compares a truncated (inlined) prefix of a {@link BinaryTuple} with another tuple or {@link BinaryTuplePrefix}, using only the
+     * columns that are completely contained in the truncated bytes.
+     *
+     * <p>The first buffer contains the first bytes of a regular (non-prefix) binary tuple, cut at an arbitrary position. If one of the
+     * columns contained in it differs from the corresponding column of the second buffer, the result is the same as for
+     * {@link #compare}. Otherwise {@link #UNDECIDED} is returned and the caller must compare the complete tuples.
+     *
+     * @param inlinedPrefix First bytes of a binary tuple.
+     * @param buffer2 Binary tuple or binary tuple prefix to compare with.
+     * @return Comparison result or {@link #UNDECIDED}.
+     */
+    public int compareInlinedPrefix(ByteBuffer inlinedPrefix, ByteBuffer buffer2) {
+        assert inlinedPrefix.order() == ByteOrder.LITTLE_ENDIAN;
+        assert buffer2.order() == ByteOrder.LITTLE_ENDIAN;
+        assert !isFlagSet(inlinedPrefix, PREFIX_FLAG);
+
+        int numElements = columnTypes.size();
+
+        int inlinedSize = inlinedPrefix.limit();
+
+        if (inlinedSize < HEADER_SIZE) {
+            return UNDECIDED;
+        }
+
+        int entrySize = flagsToEntrySize(inlinedPrefix.get(0));
+        int valueBase = HEADER_SIZE + entrySize * numElements;
+
+        // Without the complete offset table we can not locate any value.
+        if (valueBase > inlinedSize) {
+            return UNDECIDED;
+        }
+
+        boolean isBuffer2Prefix = isFlagSet(buffer2, PREFIX_FLAG);
+
+        BinaryTupleReader tuple1 = new BinaryTuple(numElements, inlinedPrefix);
+        BinaryTupleReader tuple2 = isBuffer2Prefix ? new BinaryTuplePrefix(numElements, buffer2) : new BinaryTuple(numElements, buffer2);
+
+        int columnsToCompare = Math.min(numElements, tuple2.elementCount());
+
+        for (int i = 0; i < columnsToCompare; i++) {
+            int valueEnd = valueBase + offsetTableEntry(inlinedPrefix, HEADER_SIZE + i * entrySize, entrySize);
+
+            if (valueEnd > inlinedSize) {
+                return UNDECIDED;
+            }
+
+            int res = compareField(i, tuple1, tuple2);
+
+            if (res != 0) {
+                // Normalize the result so that it never clashes with UNDECIDED.
+                return Integer.signum(res);
+            }
+        }
+
+        return isBuffer2Prefix ? -equalityFlag(buffer2) : 0;
+    }
+
     /**
      * Compares two tuples by column using given column index.
      */
@@ -174,6 +237,17 @@ public class BinaryTupleComparator implements Comparator<ByteBuffer> {
         }
     }
 
+    private static int offsetTableEntry(ByteBuffer tuple, int index, int entrySize) {
+        switch (entrySize) {
+            case Byte.BYTES:
+                return Byte.toUnsignedInt(tuple.get(index));
+            case Short.BYTES:
+                return Short.toUnsignedInt(tuple.getShort(index));
+            default:
+                return tuple.getInt(index);
+        }
+    }
+
     private static boolean isFlagSet(ByteBuffer tuple, int flag) {
         return (tuple.get(0) & flag) != 0;
     }
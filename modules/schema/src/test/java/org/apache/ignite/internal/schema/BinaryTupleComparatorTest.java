@@ -24,6 +24,7 @@ import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -316,10 +317,60 @@ public class BinaryTupleComparatorTest {
         assertThat(comparator.compare(tuple1, tuple2), is(greaterThanOrEqualTo(-1)));
     }
 
+    @Test
+    public void testCompareInlinedPrefix() {
+        var comparator = new BinaryTupleComparator(
+                List.of(CatalogColumnCollation.ASC_NULLS_LAST, CatalogColumnCollation.ASC_NULLS_LAST),
+                List.of(NativeTypes.INT32, NativeTypes.STRING)
+        );
+
+        ByteBuffer tuple = new BinaryTupleBuilder(2)
+                .appendInt(1)
+                .appendString("foobar")
+                .build();
+
+        // Header, offset table and the first column only.
+        ByteBuffer inlinedPrefix = truncate(tuple, 7);
+
+        ByteBuffer greaterFirstColumn = new BinaryTupleBuilder(2)
+                .appendInt(2)
+                .appendString("a")
+                .build();
+
+        ByteBuffer sameFirstColumn = new BinaryTupleBuilder(2)
+                .appendInt(1)
+                .appendString("zzz")
+                .build();
+
+        assertThat(comparator.compareInlinedPrefix(inlinedPrefix, greaterFirstColumn), is(-1));
+        assertThat(comparator.compareInlinedPrefix(inlinedPrefix, sameFirstColumn), is(BinaryTupleComparator.UNDECIDED));
+
+        ByteBuffer prefix = new BinaryTuplePrefixBuilder(1, 2)
+                .appendInt(1)
+                .build();
+
+        assertThat(comparator.compareInlinedPrefix(inlinedPrefix, prefix), is(1));
+
+        setEqualityFlag(prefix);
+
+        assertThat(comparator.compareInlinedPrefix(inlinedPrefix, prefix), is(-1));
+
+        // Offset table is not complete.
+        assertThat(comparator.compareInlinedPrefix(truncate(tuple, 2), greaterFirstColumn), is(BinaryTupleComparator.UNDECIDED));
+
+        // Complete tuple.
+        assertThat(comparator.compareInlinedPrefix(tuple, sameFirstColumn), is(-1));
+        assertThat(comparator.compareInlinedPrefix(tuple, tuple.duplicate().order(ByteOrder.LITTLE_ENDIAN)), is(0));
+    }
+
     private static BinaryTupleComparator createSingleColumnComparator(NativeType type, CatalogColumnCollation collation) {
         return new BinaryTupleComparator(List.of(collation), List.of(type));
     }
 
+    private static ByteBuffer truncate(ByteBuffer tuple, int size) {
+        return tuple.duplicate().limit(size).slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
     private static void setEqualityFlag(ByteBuffer buffer) {
         byte flags = buffer.get(0);
 
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.ignite.internal.sql.BaseSqlIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that hash joins return the same rows whether the runtime join filters are pushed to the probe side or not.
+ */
+public class ItRuntimeJoinFilterTest extends BaseSqlIntegrationTest {
+    private static final String FILTERS_PROPERTY = "RUNTIME_JOIN_FILTERS_ENABLED";
+
+    @BeforeAll
+    public static void beforeTestsStarted() {
+        sql("CREATE TABLE probe (id INT PRIMARY KEY, k INT, d DECIMAL(10, 4))");
+        sql("CREATE TABLE build (id INT PRIMARY KEY, k BIGINT, d DECIMAL(10, 2))");
+
+        for (int i = 0; i < 100; i++) {
+            insertData("probe", List.of("ID", "K", "D"), new Object[] {i, i, new BigDecimal(i).movePointLeft(1)});
+        }
+
+        insertData("build", List.of("ID", "K", "D"),
+                new Object[] {0, 1L, new BigDecimal("0.10")},
+                new Object[] {1, 5L, new BigDecimal("0.50")},
+                new Object[] {2, 5L, new BigDecimal("0.50")},
+                new Object[] {3, 77L, new BigDecimal("7.70")},
+                new Object[] {4, 500L, new BigDecimal("50.00")},
+                new Object[] {5, null, null}
+        );
+    }
+
+    @AfterEach
+    public void clearProperty() {
+        System.clearProperty(FILTERS_PROPERTY);
+    }
+
+    @ParameterizedTest(name = "filters enabled: {0}")
+    @ValueSource(booleans = {true, false})
+    public void innerJoin(boolean filtersEnabled) {
+        System.setProperty(FILTERS_PROPERTY, Boolean.toString(filtersEnabled));
+
+        assertQuery("SELECT p.id, b.id FROM probe p JOIN build b ON p.k = b.k", JoinType.HASH)
+                .returns(1, 0)
+                .returns(5, 1)
+                .returns(5, 2)
+                .returns(77, 3)
+                .check();
+
+        assertQuery("SELECT p.id, b.id FROM probe p JOIN build b ON p.d = b.d", JoinType.HASH)
+                .returns(1, 0)
+                .returns(5, 1)
+                .returns(5, 2)
+                .returns(77, 3)
+                .check();
+    }
+
+    @ParameterizedTest(name = "filters enabled: {0}")
+    @ValueSource(booleans = {true, false})
+    public void rightJoin(boolean filtersEnabled) {
+        System.setProperty(FILTERS_PROPERTY, Boolean.toString(filtersEnabled));
+
+        assertQuery("SELECT p.id, b.id FROM probe p RIGHT JOIN build b ON p.k = b.k", JoinType.HASH)
+                .returns(1, 0)
+                .returns(5, 1)
+                .returns(5, 2)
+                .returns(77, 3)
+                .returns(null, 4)
+                .returns(null, 5)
+                .check();
+
+        assertQuery("SELECT p.id, b.id FROM probe p RIGHT JOIN build b ON p.d = b.d", JoinType.HASH)
+                .returns(1, 0)
+                .returns(5, 1)
+                .returns(5, 2)
+                .returns(77, 3)
+                .returns(null, 4)
+                .returns(null, 5)
+                .check();
+    }
+
+    @ParameterizedTest(name = "filters enabled: {0}")
+    @ValueSource(booleans = {true, false})
+    public void semiJoin(boolean filtersEnabled) {
+        System.setProperty(FILTERS_PROPERTY, Boolean.toString(filtersEnabled));
+
+        assertQuery("SELECT p.id FROM probe p WHERE EXISTS (SELECT 1 FROM build b WHERE b.k = p.k)", JoinType.HASH)
+                .returns(1)
+                .returns(5)
+                .returns(77)
+                .check();
+
+        assertQuery("SELECT p.id FROM probe p WHERE EXISTS (SELECT 1 FROM build b WHERE b.d = p.d)", JoinType.HASH)
+                .returns(1)
+                .returns(5)
+                .returns(77)
+                .check();
+    }
+}
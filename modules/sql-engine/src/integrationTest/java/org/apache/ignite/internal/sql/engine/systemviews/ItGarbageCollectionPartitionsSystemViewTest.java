@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.systemviews;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.internal.TestWrappers.unwrapIgniteImpl;
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_VARLEN_LENGTH;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.internal.catalog.Catalog;
+import org.apache.ignite.internal.catalog.CatalogManager;
+import org.apache.ignite.internal.sql.engine.util.MetadataMatcher;
+import org.apache.ignite.sql.ColumnType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * End-to-end tests to verify {@code GARBAGE_COLLECTION_PARTITIONS} system view.
+ */
+public class ItGarbageCollectionPartitionsSystemViewTest extends AbstractSystemViewTest {
+    private static final String ZONE_NAME = "GC_VIEW_ZONE";
+
+    private static final String TABLE_NAME = "GC_VIEW_TABLE";
+
+    private static final int PARTITIONS = 4;
+
+    /** Default value of {@code gc.batchSize}. */
+    private static final int DEFAULT_BATCH_SIZE = 5;
+
+    @Override
+    protected int initialNodes() {
+        return 2;
+    }
+
+    @Test
+    public void testMetadata() {
+        assertQuery("SELECT * FROM SYSTEM.GARBAGE_COLLECTION_PARTITIONS")
+                .columnMetadata(
+                        new MetadataMatcher().name("NODE_NAME").type(ColumnType.STRING).precision(DEFAULT_VARLEN_LENGTH).nullable(false),
+                        new MetadataMatcher().name("TABLE_ID").type(ColumnType.INT32).nullable(true),
+                        new MetadataMatcher().name("PARTITION_ID").type(ColumnType.INT32).nullable(true),
+                        new MetadataMatcher().name("GARBAGE_LEFT").type(ColumnType.BOOLEAN).nullable(true),
+                        new MetadataMatcher().name("BATCH_SIZE").type(ColumnType.INT32).nullable(true),
+                        new MetadataMatcher().name("COMPLETED_BATCHES").type(ColumnType.INT64).nullable(true),
+                        new MetadataMatcher().name("THROUGHPUT").type(ColumnType.INT64).nullable(true)
+                )
+                .check();
+    }
+
+    @Test
+    public void testData() throws InterruptedException {
+        sql("CREATE ZONE " + ZONE_NAME + " WITH STORAGE_PROFILES='" + DEFAULT_STORAGE_PROFILE + "', "
+                + "PARTITIONS = " + PARTITIONS + ", REPLICAS = " + initialNodes());
+        sql("CREATE TABLE " + TABLE_NAME + " (id INT PRIMARY KEY, val INT) ZONE " + ZONE_NAME);
+
+        for (int i = 0; i < 10; i++) {
+            sql("INSERT INTO " + TABLE_NAME + " VALUES (?, ?)", i, i);
+        }
+
+        String query = "SELECT NODE_NAME, PARTITION_ID, GARBAGE_LEFT, BATCH_SIZE, COMPLETED_BATCHES, THROUGHPUT "
+                + "FROM SYSTEM.GARBAGE_COLLECTION_PARTITIONS WHERE TABLE_ID = " + tableId(TABLE_NAME);
+
+        // Every node hosts a replica of every partition, and registers its storage in the garbage collector once the replica starts.
+        assertTrue(waitForCondition(() -> sql(query).size() == PARTITIONS * initialNodes(), 10_000));
+
+        List<List<Object>> rows = sql(query);
+
+        Map<String, Set<Integer>> partitionsByNode = rows.stream()
+                .collect(groupingBy(row -> (String) row.get(0), mapping(row -> (Integer) row.get(1), toSet())));
+
+        Set<Integer> expectedPartitions = IntStream.range(0, PARTITIONS).boxed().collect(toSet());
+
+        Set<String> expectedNodes = CLUSTER.runningNodes().map(Ignite::name).collect(toSet());
+
+        assertThat(partitionsByNode.keySet(), equalTo(expectedNodes));
+
+        partitionsByNode.values().forEach(partitions -> assertThat(partitions, equalTo(expectedPartitions)));
+
+        for (List<Object> row : rows) {
+            // Rows were only inserted, so there is no garbage and the batch size is not adapted.
+            assertEquals(false, row.get(2));
+            assertEquals(DEFAULT_BATCH_SIZE, row.get(3));
+            assertTrue((Long) row.get(4) >= 0);
+            assertTrue((Long) row.get(5) >= 0);
+        }
+
+        sql("DROP TABLE " + TABLE_NAME);
+        sql("DROP ZONE " + ZONE_NAME);
+    }
+
+    private static int tableId(String tableName) {
+        CatalogManager catalogManager = unwrapIgniteImpl(CLUSTER.aliveNode()).catalogManager();
+
+        Catalog catalog = catalogManager.catalog(catalogManager.latestCatalogVersion());
+
+        return catalog.table("PUBLIC", tableName).id();
+    }
+}
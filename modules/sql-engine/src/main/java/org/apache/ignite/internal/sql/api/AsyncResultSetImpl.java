@@ -23,6 +23,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
@@ -116,6 +117,19 @@ public class AsyncResultSetImpl<T> implements AsyncResultSet<T> {
         return () -> new TransformingIterator<>(it0, (item) -> (T) new SqlRowImpl(item, meta0));
     }
 
+    /**
+     * Returns rows of the current page in their internal representation.
+     *
+     * <p>Unlike {@link #currentPage()}, rows are not converted to the external types, thus they can be passed to the wire as is.
+     *
+     * @return Rows of the current page.
+     */
+    public List<InternalSqlRow> currentPageRows() {
+        requireResultSet();
+
+        return curPage.items();
+    }
+
     /** {@inheritDoc} */
     @Override
     public int currentPageSize() {
@@ -36,4 +36,11 @@ public class SqlPlannerDistributedConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 0)
     public final int estimatedNumberOfQueries = 1024;
+
+    /**
+     * Whether literals of queries without dynamic parameters are replaced with dynamic parameters before planning, so that queries that
+     * differ only in literals share a cached plan.
+     */
+    @Value(hasDefault = true)
+    public final boolean autoParameterizationEnabled = false;
 }
@@ -28,4 +28,12 @@ public class SqlExecutionLocalConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1)
     public final int threadCount = 4;
+
+    /**
+     * Number of local partitions a query fragment scans concurrently. Applies to every query started on this node, the public
+     * {@code Statement} and JDBC API don't allow to override it for a single statement.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public final int scanParallelism = 1;
 }
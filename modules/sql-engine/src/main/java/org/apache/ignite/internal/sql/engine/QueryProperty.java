@@ -35,6 +35,12 @@ public final class QueryProperty {
     public static final Property<String> DEFAULT_SCHEMA = new Property<>("default_schema", String.class);
     public static final Property<ZoneId> TIME_ZONE_ID = new Property<>("time_zone_id", ZoneId.class);
 
+    /**
+     * Number of local partitions a query fragment scans concurrently. Initiator node sets it from the node configuration, public
+     * API (both {@code Statement} and JDBC) doesn't expose it, thus it might be overridden by internal callers only.
+     */
+    public static final Property<Integer> SCAN_PARALLELISM = new Property<>("scan_parallelism", Integer.class);
+
     private static final Map<String, Property<?>> propsByName = createPropsByNameMap(QueryProperty.class);
 
     /** Returns a property for the given name or {@code null} if there is no property with such name. */
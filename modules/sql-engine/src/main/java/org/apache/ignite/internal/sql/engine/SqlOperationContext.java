@@ -42,6 +42,7 @@ public final class SqlOperationContext {
 
     private final UUID queryId;
     private final ZoneId timeZoneId;
+    private final int scanParallelism;
     private final Object[] parameters;
     private final HybridTimestamp operationTime;
     private final QueryTransactionContext txContext;
@@ -57,6 +58,7 @@ public final class SqlOperationContext {
     private SqlOperationContext(
             UUID queryId,
             ZoneId timeZoneId,
+            int scanParallelism,
             Object[] parameters,
             HybridTimestamp operationTime,
             @Nullable QueryTransactionContext txContext,
@@ -67,6 +69,7 @@ public final class SqlOperationContext {
     ) {
         this.queryId = queryId;
         this.timeZoneId = timeZoneId;
+        this.scanParallelism = scanParallelism;
         this.parameters = parameters;
         this.operationTime = operationTime;
         this.txContext = txContext;
@@ -104,6 +107,11 @@ public final class SqlOperationContext {
         return timeZoneId;
     }
 
+    /** Returns maximum number of partitions a single scan node is allowed to scan concurrently on every node. */
+    public int scanParallelism() {
+        return scanParallelism;
+    }
+
     /**
      * Returns name of the schema to use to resolve schema objects, like tables or system views, for which name of the schema was omitted.
      *
@@ -169,6 +177,7 @@ public final class SqlOperationContext {
     public static class Builder {
         private UUID queryId;
         private ZoneId timeZoneId;
+        private int scanParallelism = 1;
         private Object[] parameters = ArrayUtils.OBJECT_EMPTY_ARRAY;
         private HybridTimestamp operationTime;
         private @Nullable QueryTransactionContext txContext;
@@ -198,6 +207,11 @@ public final class SqlOperationContext {
             return this;
         }
 
+        public Builder scanParallelism(int scanParallelism) {
+            this.scanParallelism = scanParallelism;
+            return this;
+        }
+
         public Builder defaultSchemaName(@Nullable String defaultSchemaName) {
             this.defaultSchemaName = defaultSchemaName;
             return this;
@@ -228,6 +242,7 @@ public final class SqlOperationContext {
             return new SqlOperationContext(
                     requireNonNull(queryId, "queryId"),
                     requireNonNull(timeZoneId, "timeZoneId"),
+                    scanParallelism,
                     requireNonNull(parameters, "parameters"),
                     requireNonNull(operationTime, "operationTime"),
                     txContext,
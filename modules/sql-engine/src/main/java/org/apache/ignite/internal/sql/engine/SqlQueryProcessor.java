@@ -138,6 +138,7 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
             .set(QueryProperty.ALLOWED_QUERY_TYPES, SqlQueryType.ALL)
             .set(QueryProperty.TIME_ZONE_ID, DEFAULT_TIME_ZONE_ID)
             .set(QueryProperty.QUERY_TIMEOUT, 0L)
+            .set(QueryProperty.SCAN_PARALLELISM, 1)
             .build();
 
     private static final CacheFactory CACHE_FACTORY = CaffeineCacheFactory.INSTANCE;
@@ -284,6 +285,9 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 sqlSchemaManager
         ));
 
+        // Plans built with outdated statistics may choose a wrong join strategy or build side, so they are re-planned.
+        sqlStatisticManager.changesNotifier(prepareSvc::statisticsChanged);
+
         var msgSrvc = registerService(new MessageServiceImpl(
                 nodeName,
                 clusterSrvc.messagingService(),
@@ -364,10 +368,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 prepareSvc,
                 catalogManager,
                 executionSrvc,
-                DEFAULT_PROPERTIES,
+                SqlPropertiesHelper.chain(nodeDefaultProperties(), DEFAULT_PROPERTIES),
                 txTracker,
                 new QueryIdGenerator(nodeName.hashCode()),
-                eventLog
+                eventLog,
+                () -> clusterCfg.planner().autoParameterizationEnabled().value()
         ));
 
         queriesViewProvider.init(queryExecutor);
@@ -463,6 +468,13 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         return service;
     }
 
+    /** Returns the defaults of the query properties which are set in the node configuration. */
+    private SqlProperties nodeDefaultProperties() {
+        return SqlPropertiesHelper.newBuilder()
+                .set(QueryProperty.SCAN_PARALLELISM, nodeCfg.execution().scanParallelism().value())
+                .build();
+    }
+
     private CompletableFuture<QueryMetadata> prepareSingleAsync0(
             SqlProperties properties,
             @Nullable InternalTransaction explicitTransaction,
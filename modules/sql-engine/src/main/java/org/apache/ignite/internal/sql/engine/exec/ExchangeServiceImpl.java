@@ -100,7 +100,7 @@ public class ExchangeServiceImpl implements ExchangeService {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> request(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int amountOfBatches,
-            @Nullable SharedState state) {
+            @Nullable SharedState state, @Nullable RuntimeJoinFilter filter) {
         return messageService.send(
                 nodeName,
                 FACTORY.queryBatchRequestMessage()
@@ -110,6 +110,7 @@ public class ExchangeServiceImpl implements ExchangeService {
                         .exchangeId(exchangeId)
                         .amountOfBatches(amountOfBatches)
                         .sharedState(state)
+                        .runtimeFilter(filter)
                         .build()
         );
     }
@@ -152,6 +153,11 @@ public class ExchangeServiceImpl implements ExchangeService {
                 if (state != null) {
                     outbox.onRewindRequest(nodeName, state, msg.amountOfBatches());
                 } else {
+                    RuntimeJoinFilter filter = msg.runtimeFilter();
+                    if (filter != null) {
+                        outbox.onRuntimeFilter(nodeName, filter);
+                    }
+
                     outbox.onRequest(nodeName, msg.amountOfBatches());
                 }
             } catch (Throwable e) {
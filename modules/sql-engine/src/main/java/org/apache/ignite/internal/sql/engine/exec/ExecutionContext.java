@@ -96,6 +96,8 @@ public class ExecutionContext<RowT> implements DataContext {
 
     private final ZoneId timeZoneId;
 
+    private final int scanParallelism;
+
     private SharedState sharedState = new SharedState();
 
     /**
@@ -111,6 +113,7 @@ public class ExecutionContext<RowT> implements DataContext {
      * @param params Parameters.
      * @param txAttributes Transaction attributes.
      * @param timeZoneId Session time-zone ID.
+     * @param scanParallelism Maximum number of partitions scanned concurrently by a single scan node.
      * @param inBufSize Default execution nodes' internal buffer size. Negative value means default value.
      */
     @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
@@ -125,6 +128,7 @@ public class ExecutionContext<RowT> implements DataContext {
             Map<String, Object> params,
             TxAttributes txAttributes,
             ZoneId timeZoneId,
+            int scanParallelism,
             int inBufSize
     ) {
         this.expressionFactory = expressionFactory;
@@ -137,6 +141,7 @@ public class ExecutionContext<RowT> implements DataContext {
         this.originatingNodeName = originatingNodeName;
         this.txAttributes = txAttributes;
         this.timeZoneId = timeZoneId;
+        this.scanParallelism = Math.max(scanParallelism, 1);
         this.inBufSize = inBufSize < 0 ? Commons.IN_BUFFER_SIZE : inBufSize;
 
         assert this.inBufSize > 0 : this.inBufSize;
@@ -238,6 +243,13 @@ public class ExecutionContext<RowT> implements DataContext {
         return inBufSize;
     }
 
+    /**
+     * Gets maximum number of partitions a single scan node is allowed to scan concurrently.
+     */
+    public int scanParallelism() {
+        return scanParallelism;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SchemaPlus getRootSchema() {
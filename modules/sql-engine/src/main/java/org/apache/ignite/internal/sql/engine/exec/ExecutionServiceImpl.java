@@ -361,12 +361,13 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
     }
 
     private static SqlOperationContext createOperationContext(
-            UUID queryId, ZoneId timeZoneId, Object[] params, HybridTimestamp operationTime
+            UUID queryId, ZoneId timeZoneId, int scanParallelism, Object[] params, HybridTimestamp operationTime
     ) {
         return SqlOperationContext.builder()
                 .queryId(queryId)
                 .parameters(params)
                 .timeZoneId(timeZoneId)
+                .scanParallelism(scanParallelism)
                 .operationTime(operationTime)
                 .build();
     }
@@ -450,6 +451,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 Commons.parametersMap(operationContext.parameters()),
                 TxAttributes.dummy(),
                 operationContext.timeZoneId(),
+                operationContext.scanParallelism(),
                 -1
         );
 
@@ -644,7 +646,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
     private DistributedQueryManager getOrCreateQueryManager(String coordinatorNodeName, QueryStartRequest msg) {
         return queryManagerMap.computeIfAbsent(new ExecutionId(msg.queryId(), msg.executionToken()), key -> {
             SqlOperationContext operationContext = createOperationContext(
-                    key.queryId(), ZoneId.of(msg.timeZoneId()), msg.parameters(), msg.operationTime()
+                    key.queryId(), ZoneId.of(msg.timeZoneId()), msg.scanParallelism(), msg.parameters(), msg.operationTime()
             );
 
             return new DistributedQueryManager(key, coordinatorNodeName, operationContext);
@@ -849,6 +851,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     .txAttributes(txAttributes)
                     .catalogVersion(catalogVersion)
                     .timeZoneId(ctx.timeZoneId().getId())
+                    .scanParallelism(ctx.scanParallelism())
                     .operationTime(ctx.operationTime())
                     .timestamp(clockService.now())
                     .build();
@@ -939,6 +942,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     Commons.parametersMap(ctx.parameters()),
                     txAttributes,
                     ctx.timeZoneId(),
+                    ctx.scanParallelism(),
                     -1
             );
         }
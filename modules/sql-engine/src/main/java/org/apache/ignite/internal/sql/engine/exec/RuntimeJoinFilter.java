@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.type.DecimalNativeType;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypeSpec;
+import org.apache.ignite.internal.util.HashUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bloom filter over join keys of the build side of a hash join.
+ *
+ * <p>The filter is built by the join once its build side is fully received, and is propagated to the remote fragments which send the
+ * probe side rows. These fragments use the filter to drop rows that can't match any build side row before the rows are sent over the
+ * network. Since this is a bloom filter, some of the rows that pass the filter may still have no match, but a row that doesn't pass the
+ * filter never has one.
+ *
+ * <p>Key values of both sides are coerced to the types of the probe side key columns, which are the types the join compares the keys
+ * in, and hashed by their binary tuple encoding. So the hash doesn't depend on the Java classes used to represent the values, nor on
+ * the node the filter is evaluated on.
+ */
+public class RuntimeJoinFilter implements Serializable {
+    private static final long serialVersionUID = 4311203409375237719L;
+
+    /** Maximum size of the filter, in bits. */
+    private static final int MAX_BITS = 1 << 20;
+
+    private static final int BITS_PER_KEY = 8;
+
+    private static final int HASH_FUNCTIONS = 3;
+
+    /** Positions of the key columns in the probe side rows. */
+    private final int[] keys;
+
+    /** Types of the key columns. */
+    private final NativeTypeSpec[] keyTypes;
+
+    /** Scales of the decimal key columns, zero for the columns of other types. */
+    private final int[] keyScales;
+
+    private final long[] bits;
+
+    private RuntimeJoinFilter(int[] keys, NativeTypeSpec[] keyTypes, int[] keyScales, int numBits) {
+        this.keys = keys;
+        this.keyTypes = keyTypes;
+        this.keyScales = keyScales;
+        this.bits = new long[numBits >>> 6];
+    }
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param keys Positions of the key columns in the probe side rows.
+     * @param keyTypes Types of the key columns of the probe side.
+     * @param expectedKeys Number of distinct keys of the build side.
+     * @return The filter, or {@code null} if the build side has too many keys for the filter to be selective.
+     */
+    public static @Nullable RuntimeJoinFilter create(int[] keys, List<NativeType> keyTypes, int expectedKeys) {
+        assert keyTypes.size() == keys.length;
+
+        long requiredBits = (long) expectedKeys * BITS_PER_KEY;
+
+        if (requiredBits > MAX_BITS) {
+            return null;
+        }
+
+        NativeTypeSpec[] specs = new NativeTypeSpec[keys.length];
+        int[] scales = new int[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            NativeType type = keyTypes.get(i);
+
+            specs[i] = type.spec();
+            scales[i] = type instanceof DecimalNativeType ? ((DecimalNativeType) type).scale() : 0;
+        }
+
+        // At least one long, rounded up to the power of two to address the bits with a mask.
+        int numBits = Math.max(Long.SIZE, Integer.highestOneBit((int) Math.max(requiredBits - 1, 1)) << 1);
+
+        return new RuntimeJoinFilter(keys, specs, scales, numBits);
+    }
+
+    /**
+     * Adds a row of the build side to the filter.
+     *
+     * @param handler Row handler.
+     * @param row Build side row.
+     * @param buildKeys Positions of the key columns in the build side row, in the same order as the probe side keys.
+     */
+    public <RowT> void add(RowHandler<RowT> handler, RowT row, int[] buildKeys) {
+        assert buildKeys.length == keys.length;
+
+        long hash = hash(handler, row, buildKeys);
+        int mask = (bits.length << 6) - 1;
+
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = bitIndex(hash, i) & mask;
+
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Checks whether a probe side row may have a matching build side row.
+     *
+     * @param handler Row handler.
+     * @param row Probe side row.
+     * @return {@code false} if the row has no matching build side row for sure, {@code true} otherwise.
+     */
+    public <RowT> boolean mightMatch(RowHandler<RowT> handler, RowT row) {
+        for (int key : keys) {
+            if (handler.isNull(key, row)) {
+                // Keys with nulls never match.
+                return false;
+            }
+        }
+
+        long hash = hash(handler, row, keys);
+        int mask = (bits.length << 6) - 1;
+
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = bitIndex(hash, i) & mask;
+
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private <RowT> long hash(RowHandler<RowT> handler, RowT row, int[] rowKeys) {
+        BinaryTupleBuilder builder = new BinaryTupleBuilder(rowKeys.length);
+
+        for (int i = 0; i < rowKeys.length; i++) {
+            Object val = handler.get(rowKeys[i], row);
+
+            assert val != null : "Null keys are not added to the filter";
+
+            appendKey(builder, keyTypes[i], keyScales[i], val);
+        }
+
+        ByteBuffer tuple = builder.build();
+
+        return HashUtils.hash64(tuple);
+    }
+
+    /** Appends a key value to the tuple, coercing it to the key type first. */
+    private static void appendKey(BinaryTupleBuilder builder, NativeTypeSpec type, int scale, Object val) {
+        Class<?> storageType = NativeTypeSpec.toClass(type, true);
+
+        if (val instanceof Number && isNumeric(type)) {
+            // Numbers of the build side may be represented by a different class than the probe side key, e.g. a long for an int key.
+            val = TypeUtils.toInternal(val, storageType);
+        }
+
+        val = TypeUtils.fromInternal(val, storageType);
+
+        assert val != null : type;
+
+        switch (type) {
+            case BOOLEAN:
+                builder.appendBoolean((boolean) val);
+                break;
+
+            case INT8:
+                builder.appendByte((byte) val);
+                break;
+
+            case INT16:
+                builder.appendShort((short) val);
+                break;
+
+            case INT32:
+                builder.appendInt((int) val);
+                break;
+
+            case INT64:
+                builder.appendLong((long) val);
+                break;
+
+            case FLOAT:
+                builder.appendFloat((float) val);
+                break;
+
+            case DOUBLE:
+                builder.appendDouble((double) val);
+                break;
+
+            case DECIMAL:
+                builder.appendDecimalNotNull((BigDecimal) val, scale);
+                break;
+
+            case UUID:
+                builder.appendUuidNotNull((UUID) val);
+                break;
+
+            case BYTES:
+                builder.appendBytesNotNull((byte[]) val);
+                break;
+
+            case STRING:
+                builder.appendStringNotNull((String) val);
+                break;
+
+            case DATE:
+                builder.appendDateNotNull((LocalDate) val);
+                break;
+
+            case TIME:
+                builder.appendTimeNotNull((LocalTime) val);
+                break;
+
+            case DATETIME:
+                builder.appendDateTimeNotNull((LocalDateTime) val);
+                break;
+
+            case TIMESTAMP:
+                builder.appendTimestampNotNull((Instant) val);
+                break;
+
+            default:
+                throw new UnsupportedOperationException("Unknown type " + type);
+        }
+    }
+
+    private static boolean isNumeric(NativeTypeSpec type) {
+        switch (type) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /** Derives the index of the bit for the given hash function from two halves of the hash (Kirsch-Mitzenmacher double hashing). */
+    private static int bitIndex(long hash, int function) {
+        return (int) hash + function * (int) (hash >>> 32);
+    }
+}
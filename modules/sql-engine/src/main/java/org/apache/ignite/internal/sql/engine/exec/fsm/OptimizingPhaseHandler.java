@@ -20,17 +20,22 @@ package org.apache.ignite.internal.sql.engine.exec.fsm;
 import static org.apache.ignite.internal.sql.engine.exec.fsm.ValidationHelper.validateDynamicParameters;
 import static org.apache.ignite.internal.sql.engine.exec.fsm.ValidationHelper.validateParsedStatement;
 import static org.apache.ignite.lang.ErrorGroups.Sql.RUNTIME_ERR;
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
 
 import java.time.ZoneId;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.sql.engine.QueryProperty;
 import org.apache.ignite.internal.sql.engine.SqlOperationContext;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
+import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
+import org.apache.ignite.internal.sql.engine.sql.LiteralParameterizer.ParameterizedStatement;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
+import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.sql.SqlException;
 
 /** Validates parsed AST acquired on the previous phase and submit optimization task to {@link PrepareService}. */
@@ -52,37 +57,80 @@ class OptimizingPhaseHandler implements ExecutionPhaseHandler {
 
         HybridTimestamp operationTime = query.executor.deriveOperationTime(query.txContext);
 
+        ParameterizedStatement parameterized = query.executor.parameterize(result);
+
+        SqlOperationContext operationContext = parameterized == null
+                ? createOperationContext(query, operationTime, query.params)
+                : createOperationContext(query, operationTime, parameterized.parameters());
+
+        query.operationContext = operationContext;
+
+        CompletableFuture<Void> awaitFuture = query.executor.waitForMetadata(operationTime)
+                .thenCompose(none -> {
+                    if (parameterized == null) {
+                        return query.executor.prepare(result, operationContext);
+                    }
+
+                    // Replacing a literal with a parameter may make the statement invalid, for example if the type of the literal
+                    // relied on an implicit cast. In this case the original statement is planned instead. Other errors, like
+                    // cancellation or planning timeout, are not related to parameterization and fail the query as is.
+                    return query.executor.prepare(parameterized.parsedResult(), operationContext)
+                            .handle((plan, error) -> {
+                                if (error == null) {
+                                    return CompletableFuture.completedFuture(plan);
+                                }
+
+                                if (!isValidationError(error)) {
+                                    return CompletableFuture.<QueryPlan>failedFuture(error);
+                                }
+
+                                query.executor.rejectParameterization(result);
+
+                                SqlOperationContext originalContext = createOperationContext(query, operationTime, query.params);
+
+                                query.operationContext = originalContext;
+
+                                return query.executor.prepare(result, originalContext);
+                            })
+                            .thenCompose(Function.identity());
+                })
+                .thenAccept(plan -> {
+                    if (query.txContext.explicitTx() == null) {
+                        // in case of implicit tx we have to update observable time to prevent tx manager to start
+                        // implicit transaction too much in the past where version of catalog we used to prepare the
+                        // plan was not yet available
+                        query.txContext.updateObservableTime(query.executor.deriveMinimalRequiredTime(plan));
+                    }
+
+                    query.plan = plan;
+                });
+
+        return Result.proceedAfter(awaitFuture);
+    }
+
+    private static SqlOperationContext createOperationContext(Query query, HybridTimestamp operationTime, Object[] params) {
         String schemaName = query.properties.get(QueryProperty.DEFAULT_SCHEMA);
         ZoneId timeZoneId = query.properties.get(QueryProperty.TIME_ZONE_ID);
+        int scanParallelism = query.properties.getOrDefault(QueryProperty.SCAN_PARALLELISM, 1);
 
-        SqlOperationContext operationContext = SqlOperationContext.builder()
+        return SqlOperationContext.builder()
                 .queryId(query.id)
                 .cancel(query.cancel)
-                .parameters(query.params)
+                .parameters(params)
                 .timeZoneId(timeZoneId)
+                .scanParallelism(scanParallelism)
                 .defaultSchemaName(schemaName)
                 .operationTime(operationTime)
                 .txContext(query.txContext)
                 .txUsedListener(tx -> query.usedTransaction = tx)
                 .errorHandler(throwable -> query.setError(throwable))
                 .build();
+    }
 
-        query.operationContext = operationContext;
-
-        CompletableFuture<Void> awaitFuture = query.executor.waitForMetadata(operationTime)
-                .thenCompose(none -> query.executor.prepare(result, operationContext)
-                        .thenAccept(plan -> {
-                            if (query.txContext.explicitTx() == null) {
-                                // in case of implicit tx we have to update observable time to prevent tx manager to start
-                                // implicit transaction too much in the past where version of catalog we used to prepare the
-                                // plan was not yet available
-                                query.txContext.updateObservableTime(query.executor.deriveMinimalRequiredTime(plan));
-                            }
-
-                            query.plan = plan;
-                        }));
+    private static boolean isValidationError(Throwable error) {
+        Throwable cause = ExceptionUtils.unwrapCause(error);
 
-        return Result.proceedAfter(awaitFuture);
+        return cause instanceof SqlException && ((SqlException) cause).code() == STMT_VALIDATION_ERR;
     }
 
     /** Checks that the statement is allowed within an external/script transaction. */
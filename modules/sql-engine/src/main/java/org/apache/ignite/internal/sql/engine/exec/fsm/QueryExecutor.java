@@ -25,12 +25,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.catalog.Catalog;
@@ -63,6 +65,8 @@ import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
 import org.apache.ignite.internal.sql.engine.property.SqlProperties;
 import org.apache.ignite.internal.sql.engine.property.SqlPropertiesHelper;
+import org.apache.ignite.internal.sql.engine.sql.LiteralParameterizer;
+import org.apache.ignite.internal.sql.engine.sql.LiteralParameterizer.ParameterizedStatement;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserService;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
@@ -82,6 +86,7 @@ import org.jetbrains.annotations.Nullable;
  */
 public class QueryExecutor implements LifecycleAware {
     private final Cache<String, ParsedResult> queryToParsedResultCache;
+    private final Cache<String, Optional<ParameterizedStatement>> queryToParameterizedStatementCache;
     private final ParserService parserService;
     private final Executor executor;
     private final ScheduledExecutorService scheduler;
@@ -102,6 +107,8 @@ public class QueryExecutor implements LifecycleAware {
 
     private final QueryEventsFactory eventsFactory;
 
+    private final BooleanSupplier autoParameterizationEnabled;
+
     /**
      * Creates executor.
      *
@@ -120,6 +127,7 @@ public class QueryExecutor implements LifecycleAware {
      * @param transactionTracker Tracker to track usage of transactions by query.
      * @param idGenerator Id generator used to provide cluster-wide unique query id.
      * @param eventLog Event log.
+     * @param autoParameterizationEnabled Whether literals of statements are replaced with dynamic parameters before planning.
      */
     public QueryExecutor(
             String nodeId,
@@ -136,9 +144,11 @@ public class QueryExecutor implements LifecycleAware {
             SqlProperties defaultProperties,
             TransactionTracker transactionTracker,
             QueryIdGenerator idGenerator,
-            EventLog eventLog
+            EventLog eventLog,
+            BooleanSupplier autoParameterizationEnabled
     ) {
         this.queryToParsedResultCache = cacheFactory.create(parsedResultsCacheSize);
+        this.queryToParameterizedStatementCache = cacheFactory.create(parsedResultsCacheSize);
         this.parserService = parserService;
         this.executor = executor;
         this.scheduler = scheduler;
@@ -152,6 +162,7 @@ public class QueryExecutor implements LifecycleAware {
         this.idGenerator = idGenerator;
         this.eventLog = eventLog;
         this.eventsFactory = new QueryEventsFactory(nodeId);
+        this.autoParameterizationEnabled = autoParameterizationEnabled;
     }
 
     /**
@@ -505,6 +516,30 @@ public class QueryExecutor implements LifecycleAware {
         return schemaSyncService.waitForMetadataCompleteness(timestamp);
     }
 
+    /**
+     * Replaces literals of the given statement with dynamic parameters, if auto-parameterization is enabled.
+     *
+     * <p>Parameterization parses and unparses the statement once again, so its outcome is cached by the query string, like the parsed
+     * result itself.
+     *
+     * @return Parameterized statement or {@code null} if auto-parameterization is disabled or not applicable to the statement.
+     */
+    @Nullable ParameterizedStatement parameterize(ParsedResult result) {
+        if (!autoParameterizationEnabled.getAsBoolean() || !result.queryType().supportsParseResultCaching()) {
+            return null;
+        }
+
+        return queryToParameterizedStatementCache.get(
+                result.originalQuery(),
+                k -> Optional.ofNullable(LiteralParameterizer.parameterize(result))
+        ).orElse(null);
+    }
+
+    /** Prevents the given statement from being parameterized, because its parameterized form has failed validation. */
+    void rejectParameterization(ParsedResult result) {
+        queryToParameterizedStatementCache.put(result.originalQuery(), Optional.empty());
+    }
+
     CompletableFuture<QueryPlan> prepare(ParsedResult result, SqlOperationContext operationContext) {
         return prepareService.prepareAsync(result, operationContext);
     }
@@ -121,7 +121,11 @@ public class MappingServiceImpl implements MappingService {
                 : parameters.groupId();
 
         if (parameters.groupId() instanceof ZonePartitionId) {
-            // TODO: https://issues.apache.org/jira/browse/IGNITE-24679 - remove mappings from cache for zone partitions.
+            int zoneId = ((ZonePartitionId) parameters.groupId()).zoneId();
+
+            // TODO https://issues.apache.org/jira/browse/IGNITE-21201 Move complex computations to a different thread.
+            mappingsCache.removeIfValue(value -> value.zoneIds.contains(zoneId));
+
             return CompletableFutures.falseCompletedFuture();
         }
 
@@ -144,17 +148,21 @@ public class MappingServiceImpl implements MappingService {
         if (nodeExclusionFilter != null) {
             mappedFragments = mapFragments(template, mapOnBackups, nodeExclusionFilter);
         } else {
-            mappedFragments = mappingsCache.compute(
-                    new MappingsCacheKey(multiStepPlan.id(), mapOnBackups),
+            MappingsCacheKey cacheKey = new MappingsCacheKey(multiStepPlan.id(), mapOnBackups);
+
+            MappingsCacheValue cacheValue = mappingsCache.compute(
+                    cacheKey,
                     (key, val) -> {
                         if (val == null) {
                             IntSet tableIds = new IntOpenHashSet();
+                            IntSet zoneIds = new IntOpenHashSet();
                             boolean topologyAware = false;
 
                             for (Fragment fragment : template.fragments) {
                                 topologyAware = topologyAware || !fragment.systemViews().isEmpty();
-                                for (IgniteDataSource source : fragment.tables().values()) {
-                                    tableIds.add(source.id());
+                                for (IgniteTable table : fragment.tables().values()) {
+                                    tableIds.add(table.id());
+                                    zoneIds.add(table.zoneId());
                                 }
                             }
 
@@ -162,17 +170,30 @@ public class MappingServiceImpl implements MappingService {
 
                             assert nodeExclusionFilter == null;
 
-                            return new MappingsCacheValue(topVer, tableIds, mapFragments(template, mapOnBackups, null));
+                            return new MappingsCacheValue(topVer, tableIds, zoneIds, mapFragments(template, mapOnBackups, null));
                         }
 
                         long topologyVer = logicalTopologyVerSupplier.get();
 
                         if (val.topologyVersion < topologyVer) {
-                            return new MappingsCacheValue(topologyVer, val.tableIds, mapFragments(template, mapOnBackups, null));
+                            return new MappingsCacheValue(
+                                    topologyVer, val.tableIds, val.zoneIds, mapFragments(template, mapOnBackups, null)
+                            );
                         }
 
                         return val;
-                    }).mappedFragments;
+                    });
+
+            mappedFragments = cacheValue.mappedFragments;
+
+            // Failed mapping must not be reused, otherwise all subsequent executions of the plan would fail until the mapping
+            // is invalidated by an unrelated event. The listener is attached outside the computation, since the future may be
+            // completed already.
+            mappedFragments.whenComplete((ignored, ex) -> {
+                if (ex != null) {
+                    mappingsCache.compute(cacheKey, (key, val) -> val == cacheValue ? null : val);
+                }
+            });
         }
 
         return mappedFragments.thenApply(frags -> applyPartitionPruning(frags.fragments, parameters));
@@ -401,11 +422,13 @@ public class MappingServiceImpl implements MappingService {
     private static class MappingsCacheValue {
         private final long topologyVersion;
         private final IntSet tableIds;
+        private final IntSet zoneIds;
         private final CompletableFuture<MappedFragments> mappedFragments;
 
-        MappingsCacheValue(long topologyVersion, IntSet tableIds, CompletableFuture<MappedFragments> mappedFragments) {
+        MappingsCacheValue(long topologyVersion, IntSet tableIds, IntSet zoneIds, CompletableFuture<MappedFragments> mappedFragments) {
             this.topologyVersion = topologyVersion;
             this.tableIds = tableIds;
+            this.zoneIds = zoneIds;
             this.mappedFragments = mappedFragments;
         }
     }
@@ -146,6 +146,8 @@ public abstract class AbstractRightMaterializedJoinNode<RowT> extends AbstractNo
 
         waitingRight = NOT_WAITING;
 
+        onRightInputEnd();
+
         join();
     }
 
@@ -163,6 +165,11 @@ public abstract class AbstractRightMaterializedJoinNode<RowT> extends AbstractNo
         join();
     }
 
+    /** Called once all the rows of the right input have been received, before the join proceeds. */
+    protected void onRightInputEnd() {
+        // No-op.
+    }
+
     protected abstract void join() throws Exception;
 
     protected abstract void pushRight(RowT row) throws Exception;
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -36,7 +37,12 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeJoinFilter;
+import org.apache.ignite.internal.sql.engine.exec.row.BaseTypeSpec;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.row.TypeSpec;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.type.NativeType;
 import org.jetbrains.annotations.Nullable;
 
 /** HashJoin implementor. */
@@ -52,6 +58,9 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
     private final int[] leftJoinPositions;
     private final int[] rightJoinPositions;
 
+    /** Types of the key columns of the left input, {@code null} if some of the keys has no native type. */
+    private final @Nullable List<NativeType> leftKeyTypes;
+
     Iterator<RowT> rightIt = Collections.emptyIterator();
 
     /** Output row factory. */
@@ -59,11 +68,15 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
     final BiPredicate<RowT, RowT> nonEquiCondition;
 
+    /** Whether the node has been rewound at least once. */
+    private boolean rewound;
+
     /**
      * Creates HashJoinNode.
      *
      * @param ctx Execution context.
      * @param joinInfo Join info.
+     * @param leftRowSchema Schema of the left input rows.
      * @param outputRowFactory Output row factory.
      * @param nonEquiCondition Optional post-filtration predicate. If provided, only rows matching the predicate will be emitted as
      *         matched rows.
@@ -71,6 +84,7 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
     private HashJoinNode(
             ExecutionContext<RowT> ctx,
             JoinInfo joinInfo,
+            RowSchema leftRowSchema,
             RowFactory<RowT> outputRowFactory,
             @Nullable BiPredicate<RowT, RowT> nonEquiCondition
     ) {
@@ -80,6 +94,8 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         rightJoinPositions = joinInfo.rightKeys.toIntArray();
         assert leftJoinPositions.length == rightJoinPositions.length;
 
+        leftKeyTypes = keyTypes(leftRowSchema, leftJoinPositions);
+
         this.outputRowFactory = outputRowFactory;
         this.nonEquiCondition = nonEquiCondition != null
                 ? nonEquiCondition
@@ -92,6 +108,8 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
         hashStore.clear();
 
+        rewound = true;
+
         super.rewindInternal();
     }
 
@@ -107,31 +125,31 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
         switch (joinType) {
             case INNER:
-                return new InnerHashJoin<>(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+                return new InnerHashJoin<>(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
 
             case LEFT: {
                 RowHandler.RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(rightRowSchema);
 
-                return new LeftHashJoin<>(ctx, joinInfo, outputRowFactory, rightRowFactory, nonEquiCondition);
+                return new LeftHashJoin<>(ctx, joinInfo, leftRowSchema, outputRowFactory, rightRowFactory, nonEquiCondition);
             }
             case RIGHT: {
                 RowHandler.RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(leftRowSchema);
 
-                return new RightHashJoin<>(ctx, joinInfo, outputRowFactory, leftRowFactory, nonEquiCondition);
+                return new RightHashJoin<>(ctx, joinInfo, leftRowSchema, outputRowFactory, leftRowFactory, nonEquiCondition);
             }
             case FULL: {
                 RowHandler.RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(leftRowSchema);
                 RowHandler.RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(rightRowSchema);
 
                 return new FullOuterHashJoin<>(
-                        ctx, joinInfo, outputRowFactory, leftRowFactory, rightRowFactory, nonEquiCondition
+                        ctx, joinInfo, leftRowSchema, outputRowFactory, leftRowFactory, rightRowFactory, nonEquiCondition
                 );
             }
             case SEMI:
-                return new SemiHashJoin<>(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+                return new SemiHashJoin<>(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
 
             case ANTI:
-                return new AntiHashJoin<>(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+                return new AntiHashJoin<>(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
 
             default:
                 throw new IllegalStateException("Join type \"" + joinType + "\" is not supported yet");
@@ -149,10 +167,11 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         private InnerHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowSchema leftRowSchema,
                 RowFactory<RowT> outputRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+            super(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
         }
 
         @Override
@@ -203,6 +222,11 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
             getMoreOrEnd();
         }
+
+        @Override
+        protected boolean dropsUnmatchedLeftRows() {
+            return true;
+        }
     }
 
     private static class LeftHashJoin<RowT> extends HashJoinNode<RowT> {
@@ -220,11 +244,12 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         private LeftHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowSchema leftRowSchema,
                 RowFactory<RowT> outputRowFactory,
                 RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+            super(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
 
             assert nonEquiCondition == null : "Non equi condition is not supported in LEFT join";
 
@@ -303,11 +328,12 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         private RightHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowSchema leftRowSchema,
                 RowFactory<RowT> outputRowFactory,
                 RowFactory<RowT> leftRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+            super(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
 
             assert nonEquiCondition == null : "Non equi condition is not supported in RIGHT join";
 
@@ -402,6 +428,11 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         protected boolean keepRowsWithNull() {
             return true;
         }
+
+        @Override
+        protected boolean dropsUnmatchedLeftRows() {
+            return true;
+        }
     }
 
     private static class FullOuterHashJoin<RowT> extends HashJoinNode<RowT> {
@@ -425,12 +456,13 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         private FullOuterHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowSchema leftRowSchema,
                 RowFactory<RowT> outputRowFactory,
                 RowFactory<RowT> leftRowFactory,
                 RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+            super(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
 
             assert nonEquiCondition == null : "Non equi condition is not supported in FULL OUTER join";
 
@@ -546,10 +578,11 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         private SemiHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowSchema leftRowSchema,
                 RowFactory<RowT> outputRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+            super(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
         }
 
         /** {@inheritDoc} */
@@ -594,6 +627,11 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
             getMoreOrEnd();
         }
+
+        @Override
+        protected boolean dropsUnmatchedLeftRows() {
+            return true;
+        }
     }
 
     private static class AntiHashJoin<RowT> extends HashJoinNode<RowT> {
@@ -607,10 +645,11 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         private AntiHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowSchema leftRowSchema,
                 RowFactory<RowT> outputRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, outputRowFactory, nonEquiCondition);
+            super(ctx, joinInfo, leftRowSchema, outputRowFactory, nonEquiCondition);
 
             assert nonEquiCondition == null : "Non equi condition is not supported in ANTI join";
         }
@@ -723,6 +762,58 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         }
     }
 
+    /**
+     * Propagates a filter built from the keys of the right input to the remote sources of the left input, so the left rows
+     * which have no match are dropped before being sent over the network.
+     *
+     * <p>The filter is only built on the first iteration, when the left input is received through an exchange, and the join doesn't
+     * emit unmatched left rows.
+     */
+    @Override
+    protected void onRightInputEnd() {
+        if (rewound || !dropsUnmatchedLeftRows() || !(leftSource() instanceof Inbox) || !Commons.runtimeJoinFiltersEnabled()) {
+            return;
+        }
+
+        if (leftKeyTypes == null) {
+            // Some of the keys have no native type (e.g. NULL literals), so the keys can't be hashed consistently.
+            return;
+        }
+
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(leftJoinPositions, leftKeyTypes, hashStore.size());
+
+        if (filter == null) {
+            // Right input is too big for the filter to be selective.
+            return;
+        }
+
+        RowHandler<RowT> handler = context().rowHandler();
+
+        for (Key key : hashStore.keySet()) {
+            if (key != NULL_KEY) {
+                filter.add(handler, ((RowWrapper<RowT>) key).row, rightJoinPositions);
+            }
+        }
+
+        ((Inbox<RowT>) leftSource()).runtimeFilter(filter);
+    }
+
+    private static @Nullable List<NativeType> keyTypes(RowSchema rowSchema, int[] keys) {
+        List<NativeType> types = new ArrayList<>(keys.length);
+
+        for (int key : keys) {
+            TypeSpec type = rowSchema.fields().get(key);
+
+            if (!(type instanceof BaseTypeSpec)) {
+                return null;
+            }
+
+            types.add(((BaseTypeSpec) type).nativeType());
+        }
+
+        return types;
+    }
+
     private Key extractKey(RowT row, int[] mapping) {
         RowHandler<RowT> handler = context().rowHandler();
 
@@ -811,6 +902,17 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         return false;
     }
 
+    /**
+     * Returns {@code true} if the left rows having no matching right row are never emitted.
+     *
+     * <p>Such rows may be filtered out before the join, which is the case for INNER, RIGHT and SEMI joins.
+     *
+     * @return {@code true} when unmatched left rows are dropped.
+     */
+    protected boolean dropsUnmatchedLeftRows() {
+        return false;
+    }
+
     private static class TouchedCollection<RowT> {
         Collection<RowT> coll;
         boolean touched;
@@ -37,6 +37,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeJoinFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox.RemoteSource.State;
 import org.apache.ignite.internal.util.ExceptionUtils;
@@ -95,7 +96,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         Map<String, RemoteSource<RowT>> sources = new HashMap<>();
         for (String nodeName : srcNodeNames) {
-            sources.put(nodeName, new RemoteSource<>((cnt, state) -> requestBatches(nodeName, cnt, state)));
+            sources.put(nodeName, new RemoteSource<>((cnt, state, filter) -> requestBatches(nodeName, cnt, state, filter)));
         }
 
         this.perNodeBuffers = Map.copyOf(sources);
@@ -155,6 +156,19 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
     }
 
+    /**
+     * Propagates a filter to all the remote sources, so the rows that can't be matched by the consumer of this inbox are not sent
+     * at all. The filter is sent along with the next request of batches, thus the batches which are already requested may still
+     * contain such rows.
+     *
+     * @param filter Filter to propagate.
+     */
+    public void runtimeFilter(RuntimeJoinFilter filter) {
+        for (RemoteSource<RowT> source : perNodeBuffers.values()) {
+            source.runtimeFilter(filter);
+        }
+    }
+
     /**
      * Pushes a batch into a buffer.
      *
@@ -345,8 +359,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
     }
 
-    private void requestBatches(String nodeName, int cnt, @Nullable SharedState state) {
-        exchange.request(nodeName, executionId(), srcFragmentId, exchangeId, cnt, state)
+    private void requestBatches(String nodeName, int cnt, @Nullable SharedState state, @Nullable RuntimeJoinFilter filter) {
+        exchange.request(nodeName, executionId(), srcFragmentId, exchangeId, cnt, state, filter)
                 .whenComplete((ignored, ex) -> {
                     if (ex != null) {
                         IgniteInternalException wrapperEx = ExceptionUtils.withCause(
@@ -433,7 +447,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     static final class RemoteSource<RowT> {
         @FunctionalInterface
         private interface BatchRequester {
-            void request(int amountOfBatches, @Nullable SharedState state) throws IgniteInternalCheckedException;
+            void request(int amountOfBatches, @Nullable SharedState state, @Nullable RuntimeJoinFilter filter)
+                    throws IgniteInternalCheckedException;
         }
 
         /**
@@ -514,6 +529,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         private @Nullable SharedState sharedStateHolder = null;
 
+        /** A filter to propagate with the next request message, if any. */
+        private @Nullable RuntimeJoinFilter runtimeFilterHolder = null;
+
         private RemoteSource(BatchRequester batchRequester) {
             this.batchRequester = batchRequester;
         }
@@ -526,6 +544,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         void reset(SharedState state) {
             sharedStateHolder = state;
+            runtimeFilterHolder = null;
             batches.clear();
 
             this.lastEnqueued = lastRequested;
@@ -533,6 +552,11 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             this.curr = null;
         }
 
+        /** Sets a filter that should be propagated to the source on the next {@link #request} invocation. */
+        void runtimeFilter(RuntimeJoinFilter filter) {
+            runtimeFilterHolder = filter;
+        }
+
         /** A handler for batches received from remote source. */
         void onBatchReceived(int id, boolean last, List<RowT> rows) {
             if (id <= lastEnqueued) {
@@ -562,9 +586,10 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
                 lastRequested += countOfBatches;
 
-                batchRequester.request(countOfBatches, sharedStateHolder);
-                // shared state should be send only once until next rewind
+                batchRequester.request(countOfBatches, sharedStateHolder, runtimeFilterHolder);
+                // shared state and filter should be send only once until next rewind
                 sharedStateHolder = null;
+                runtimeFilterHolder = null;
             }
         }
 
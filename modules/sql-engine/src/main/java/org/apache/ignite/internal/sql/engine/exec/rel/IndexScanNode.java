@@ -133,7 +133,7 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
         if (comp != null) {
             return SubscriptionUtils.orderedMerge(comp, Commons.SORTED_IDX_PART_PREFETCH_SIZE, it);
         } else {
-            return SubscriptionUtils.concat(it);
+            return partitionsPublisher(partsWithConsistencyTokens.size(), it);
         }
     }
 
@@ -38,6 +38,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionId;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeJoinFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.apache.ignite.internal.sql.engine.trait.Destination;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -122,6 +123,19 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         }
     }
 
+    /**
+     * Sets a filter for the rows which are sent to the given node.
+     *
+     * <p>Rows rejected by the filter have no matching rows on the requester's side, thus they are dropped before being serialized
+     * and sent over the network. The filter is dropped on rewind.
+     *
+     * @param nodeName Requester node name.
+     * @param filter Filter to apply.
+     */
+    public void onRuntimeFilter(String nodeName, RuntimeJoinFilter filter) {
+        nodeBuffers.get(nodeName).filter(filter);
+    }
+
     /**
      * Starts the execution of the fragment and keeps the result in the intermediate buffer.
      *
@@ -316,7 +330,9 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             RowT row = inBuf.remove();
 
             for (RemoteDownstream<RowT> dest : buffers) {
-                dest.add(row);
+                if (dest.accepts(context().rowHandler(), row)) {
+                    dest.add(row);
+                }
             }
         }
 
@@ -471,6 +487,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
         private @Nullable List<RowT> curr;
         private int pendingCount;
+        private @Nullable RuntimeJoinFilter filter;
 
         private RemoteDownstream(String nodeName, BatchSender<RowT> sender) {
             this.nodeName = nodeName;
@@ -489,6 +506,17 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             lastSentBatchId += pendingCount;
             pendingCount = 0;
             curr = new ArrayList<>(IO_BATCH_SIZE);
+            filter = null;
+        }
+
+        /** Sets a filter of rows to send to the remote downstream. */
+        void filter(RuntimeJoinFilter filter) {
+            this.filter = filter;
+        }
+
+        /** Returns {@code false} if the row is known to be useless for the remote downstream, {@code true} otherwise. */
+        boolean accepts(RowHandler<RowT> handler, RowT row) {
+            return filter == null || filter.mightMatch(handler, row);
         }
 
         /** A handler of a requests from downstream. */
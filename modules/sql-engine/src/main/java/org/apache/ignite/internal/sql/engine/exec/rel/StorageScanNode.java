@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Flow;
@@ -26,6 +27,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -124,6 +126,26 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
      */
     protected abstract Publisher<RowT> scan();
 
+    /**
+     * Combines publishers of the individual partitions into a single publisher.
+     *
+     * <p>Up to {@link ExecutionContext#scanParallelism()} partitions are scanned concurrently, in which case the rows of different
+     * partitions are interleaved. Otherwise, partitions are scanned one after another.
+     *
+     * @param partitionsCount Number of the partitions to scan.
+     * @param partitions Publishers of the partitions.
+     * @return Publisher of the rows of all the partitions.
+     */
+    Publisher<RowT> partitionsPublisher(int partitionsCount, Iterator<Publisher<? extends RowT>> partitions) {
+        int parallelism = Math.min(context().scanParallelism(), partitionsCount);
+
+        if (parallelism > 1) {
+            return SubscriptionUtils.merge(parallelism, inBufSize, partitions);
+        } else {
+            return SubscriptionUtils.concat(partitions);
+        }
+    }
+
     private void push() throws Exception {
         if (isClosed()) {
             return;
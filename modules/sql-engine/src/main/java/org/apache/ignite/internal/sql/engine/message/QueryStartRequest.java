@@ -63,6 +63,9 @@ public interface QueryStartRequest extends TimestampAware, ExecutionContextAware
      */
     String timeZoneId();
 
+    /** Maximum number of partitions scanned concurrently by a single scan node. */
+    int scanParallelism();
+
     /** Time of the operation. */
     HybridTimestamp operationTime();
 }
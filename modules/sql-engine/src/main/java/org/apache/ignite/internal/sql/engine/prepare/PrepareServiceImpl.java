@@ -36,6 +36,9 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.schema.SchemaPlus;
@@ -66,6 +69,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueModify;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSelectCount;
 import org.apache.ignite.internal.sql.engine.schema.IgniteSchemas;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlKill;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
@@ -215,6 +219,37 @@ public class PrepareServiceImpl implements PrepareService {
         metricManager.unregisterSource(sqlPlanCacheMetricSource);
     }
 
+    /**
+     * Evicts cached plans that read the given table, so that the next execution of such queries builds a new plan using the actual
+     * statistics. Plans that are still being prepared are kept.
+     *
+     * @param tableId Id of the table which statistics have changed.
+     */
+    public void statisticsChanged(int tableId) {
+        cache.removeIfValue(planFut -> {
+            if (!planFut.isDone() || planFut.isCompletedExceptionally()) {
+                return false;
+            }
+
+            QueryPlan plan = planFut.join();
+
+            if (!(plan instanceof MultiStepPlan)) {
+                // Other plans don't depend on statistics.
+                return false;
+            }
+
+            for (RelOptTable table : RelOptUtil.findAllTables(((MultiStepPlan) plan).root())) {
+                IgniteTable igniteTable = table.unwrap(IgniteTable.class);
+
+                if (igniteTable != null && igniteTable.id() == tableId) {
+                    return true;
+                }
+            }
+
+            return false;
+        });
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<QueryPlan> prepareAsync(
@@ -407,7 +442,7 @@ public class PrepareServiceImpl implements PrepareService {
             // Use parameter metadata to compute a cache key.
             CacheKey key = createCacheKeyFromParameterMetadata(stmt.parsedResult, ctx, stmt.parameterMetadata);
 
-            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> CompletableFuture.supplyAsync(() -> {
+            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> planAsync(() -> {
                 IgnitePlanner planner = ctx.planner();
 
                 ValidationResult validated = stmt.value;
@@ -437,12 +472,25 @@ public class PrepareServiceImpl implements PrepareService {
                 }
 
                 return plan;
-            }, planningPool));
+            }));
 
             return planFut;
         });
     }
 
+    /** Optimizes a query in the planning pool and records the planning time. */
+    private CompletableFuture<QueryPlan> planAsync(Supplier<QueryPlan> planner) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+
+            QueryPlan plan = planner.get();
+
+            sqlPlanCacheMetricSource.recordPlanningTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+            return plan;
+        }, planningPool);
+    }
+
     private PlanId nextPlanId() {
         return new PlanId(prepareServiceId, planIdGen.getAndIncrement());
     }
@@ -544,7 +592,7 @@ public class PrepareServiceImpl implements PrepareService {
             // Use parameter metadata to compute a cache key.
             CacheKey key = createCacheKeyFromParameterMetadata(stmt.parsedResult, ctx, stmt.parameterMetadata);
 
-            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> CompletableFuture.supplyAsync(() -> {
+            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> planAsync(() -> {
                 IgnitePlanner planner = ctx.planner();
 
                 SqlNode validatedNode = stmt.value;
@@ -570,7 +618,7 @@ public class PrepareServiceImpl implements PrepareService {
                 }
 
                 return plan;
-            }, planningPool));
+            }));
 
             return planFut;
         });
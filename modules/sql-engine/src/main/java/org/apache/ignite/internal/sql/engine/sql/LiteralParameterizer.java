@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl.ParsedResultImpl;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Replaces literals of a statement with dynamic parameters, so that statements that differ only in literals have the same normalized
+ * query and thus share a cached plan.
+ *
+ * <p>Only literals compared with a non-literal expression are replaced, that is operands of comparison operators and elements of
+ * {@code IN} lists. Such literals do not affect the shape of the plan, and since the replaced values are passed to the execution as
+ * parameters, partition pruning still works with the actual values. Literals that may affect the plan or the result metadata (select
+ * list items, ordinals in {@code ORDER BY} and {@code GROUP BY}, {@code LIMIT}, etc) are left as is.
+ *
+ * <p>Statements with dynamic parameters are not parameterized, because the indexes of the replaced literals would depend on positions
+ * of the existing parameters, which are not reflected in the normalized query.
+ */
+public final class LiteralParameterizer {
+    private static final Set<SqlKind> COMPARISONS = EnumSet.of(
+            SqlKind.EQUALS,
+            SqlKind.NOT_EQUALS,
+            SqlKind.GREATER_THAN,
+            SqlKind.GREATER_THAN_OR_EQUAL,
+            SqlKind.LESS_THAN,
+            SqlKind.LESS_THAN_OR_EQUAL
+    );
+
+    private LiteralParameterizer() {
+    }
+
+    /**
+     * Replaces literals of the given statement with dynamic parameters.
+     *
+     * @param parsedResult Parsed statement. The syntax tree of the statement is not used, so the statement may still be planned as is.
+     * @return Parameterized statement or {@code null} if the statement can't be parameterized or has no literals to replace.
+     */
+    public static @Nullable ParameterizedStatement parameterize(ParsedResult parsedResult) {
+        SqlQueryType queryType = parsedResult.queryType();
+
+        if ((queryType != SqlQueryType.QUERY && queryType != SqlQueryType.DML) || parsedResult.dynamicParamsCount() > 0) {
+            return null;
+        }
+
+        String originalQuery = parsedResult.originalQuery();
+
+        SqlNode parsedTree = parse(originalQuery);
+        List<Object> values = replaceLiterals(parsedTree);
+
+        if (values.isEmpty()) {
+            return null;
+        }
+
+        ParsedResult parameterizedResult = new ParsedResultImpl(
+                queryType,
+                originalQuery,
+                ParserServiceImpl.normalize(parsedTree),
+                values.size(),
+                new ParameterizedTreeSupplier(originalQuery, parsedTree)
+        );
+
+        return new ParameterizedStatement(parameterizedResult, values.toArray());
+    }
+
+    private static SqlNode parse(String query) {
+        return IgniteSqlParser.parse(query, StatementParseResult.MODE).statement();
+    }
+
+    /** Replaces literals of the given tree in place, and returns the values of replaced literals in the order of parameter indexes. */
+    private static List<Object> replaceLiterals(SqlNode parsedTree) {
+        List<Object> values = new ArrayList<>();
+
+        parsedTree.accept(new SqlBasicVisitor<Void>() {
+            @Override
+            public Void visit(SqlCall call) {
+                SqlKind kind = call.getKind();
+
+                if (call instanceof SqlBasicCall && COMPARISONS.contains(kind)) {
+                    SqlNode left = call.operand(0);
+                    SqlNode right = call.operand(1);
+
+                    if (!(left instanceof SqlLiteral)) {
+                        call.setOperand(1, replace(right));
+                    } else if (!(right instanceof SqlLiteral)) {
+                        call.setOperand(0, replace(left));
+                    }
+                } else if ((kind == SqlKind.IN || kind == SqlKind.NOT_IN)
+                        && !(call.operand(0) instanceof SqlLiteral)
+                        && call.operand(1) instanceof SqlNodeList) {
+                    SqlNodeList list = call.operand(1);
+
+                    for (int i = 0; i < list.size(); i++) {
+                        list.set(i, replace(list.get(i)));
+                    }
+                }
+
+                return super.visit(call);
+            }
+
+            private SqlNode replace(SqlNode node) {
+                if (!(node instanceof SqlLiteral)) {
+                    return node;
+                }
+
+                Object value = literalValue((SqlLiteral) node);
+
+                if (value == null) {
+                    return node;
+                }
+
+                values.add(value);
+
+                return new SqlDynamicParam(values.size() - 1, node.getParserPosition());
+            }
+        });
+
+        return values;
+    }
+
+    /** Returns the value of the literal to be passed as a parameter, or {@code null} if the literal should be left as is. */
+    private static @Nullable Object literalValue(SqlLiteral literal) {
+        if (literal instanceof SqlCharStringLiteral) {
+            return literal.getValueAs(String.class);
+        }
+
+        if (literal instanceof SqlNumericLiteral && ((SqlNumericLiteral) literal).isExact()) {
+            BigDecimal value = literal.getValueAs(BigDecimal.class);
+
+            // Decimals are left as is, because the type of a parameter doesn't keep the precision and scale of a literal.
+            if (value.scale() > 0) {
+                return null;
+            }
+
+            try {
+                return value.intValueExact();
+            } catch (ArithmeticException ignored) {
+                // Doesn't fit an int, try a long.
+            }
+
+            try {
+                return value.longValueExact();
+            } catch (ArithmeticException ignored) {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    /** Statement with literals replaced by dynamic parameters. */
+    public static class ParameterizedStatement {
+        private final ParsedResult parsedResult;
+
+        private final Object[] parameters;
+
+        private ParameterizedStatement(ParsedResult parsedResult, Object[] parameters) {
+            this.parsedResult = parsedResult;
+            this.parameters = parameters;
+        }
+
+        /** Returns the parameterized statement. */
+        public ParsedResult parsedResult() {
+            return parsedResult;
+        }
+
+        /** Returns the values of the replaced literals. */
+        public Object[] parameters() {
+            return parameters;
+        }
+    }
+
+    /**
+     * Returns the parameterized tree once, and a newly parsed and parameterized tree on subsequent calls, because syntax nodes are
+     * mutable and must not be reused.
+     */
+    private static class ParameterizedTreeSupplier implements Supplier<SqlNode> {
+        private final String originalQuery;
+
+        private @Nullable SqlNode parsedTree;
+
+        private ParameterizedTreeSupplier(String originalQuery, SqlNode parsedTree) {
+            this.originalQuery = originalQuery;
+            this.parsedTree = parsedTree;
+        }
+
+        @Override
+        public synchronized SqlNode get() {
+            SqlNode tree = parsedTree;
+
+            if (tree != null) {
+                parsedTree = null;
+
+                return tree;
+            }
+
+            tree = parse(originalQuery);
+
+            replaceLiterals(tree);
+
+            return tree;
+        }
+    }
+}
@@ -97,9 +97,7 @@ public class ParserServiceImpl implements ParserService {
     private static ParsedResult prepareSingleResult(String originalQuery, SqlNode parsedTree, int dynamicParamsCount) {
         SqlQueryType queryType = Commons.getQueryType(parsedTree);
 
-        SqlPrettyWriter w = new SqlPrettyWriter(NORMALIZED_SQL_WRITER_CONFIG);
-        parsedTree.unparse(w, 0, 0);
-        String normalizedQuery = w.toString();
+        String normalizedQuery = normalize(parsedTree);
 
         assert queryType != null : normalizedQuery;
 
@@ -127,6 +125,14 @@ public class ParserServiceImpl implements ParserService {
         );
     }
 
+    /** Returns the text of the given syntax tree, which is used as a normalized form of the query. */
+    static String normalize(SqlNode parsedTree) {
+        SqlPrettyWriter w = new SqlPrettyWriter(NORMALIZED_SQL_WRITER_CONFIG);
+        parsedTree.unparse(w, 0, 0);
+
+        return w.toString();
+    }
+
     static class ParsedResultImpl implements ParsedResult {
         private final SqlQueryType queryType;
         private final String originalQuery;
@@ -134,7 +140,7 @@ public class ParserServiceImpl implements ParserService {
         private final int dynamicParamCount;
         private final Supplier<SqlNode> parsedTreeSupplier;
 
-        private ParsedResultImpl(
+        ParsedResultImpl(
                 SqlQueryType queryType,
                 String originalQuery,
                 String normalizedQuery,
@@ -28,6 +28,13 @@ public interface SqlStatisticManager extends LifecycleAware {
      */
     long tableSize(int tableId);
 
+    /**
+     * Sets a listener to be notified when statistics of a table have changed significantly.
+     *
+     * @param listener Listener.
+     */
+    default void changesNotifier(StatisticChangedListener listener) {}
+
     @Override
     default void start(){}
 
@@ -43,6 +43,7 @@ import org.apache.ignite.internal.table.LongPriorityQueue;
 import org.apache.ignite.internal.table.TableViewInternal;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.util.FastTimestamps;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -53,6 +54,9 @@ public class SqlStatisticManagerImpl implements SqlStatisticManager {
     private static final long DEFAULT_TABLE_SIZE = 1_000_000L;
     private static final ActualSize DEFAULT_VALUE = new ActualSize(DEFAULT_TABLE_SIZE, 0L);
 
+    /** Minimal difference between the previous and the new table size, in rows, to consider the change significant. */
+    private static final long MIN_SIGNIFICANT_SIZE_CHANGE = 1_000L;
+
     private final EventListener<ChangeLowWatermarkEventParameters> lwmListener = fromConsumer(this::onLwmChanged);
     private final EventListener<DropTableEventParameters> dropTableEventListener = fromConsumer(this::onTableDrop);
     private final EventListener<CreateTableEventParameters> createTableEventListener = fromConsumer(this::onTableCreate);
@@ -71,6 +75,8 @@ public class SqlStatisticManagerImpl implements SqlStatisticManager {
 
     private volatile long thresholdTimeToPostponeUpdateMs = TimeUnit.MINUTES.toMillis(1);
 
+    private volatile @Nullable StatisticChangedListener changesListener;
+
     /** Constructor. */
     public SqlStatisticManagerImpl(TableManager tableManager, CatalogService catalogService, LowWatermark lowWatermark) {
         this.tableManager = tableManager;
@@ -119,6 +125,8 @@ public class SqlStatisticManagerImpl implements SqlStatisticManager {
             // just request new table size in background.
             CompletableFuture<Void> updateResult = tableView.internalTable().estimatedSize()
                     .thenAccept(size -> {
+                        long[] prevSize = {-1};
+
                         // the table can be concurrently dropped and we shouldn't put new value in this case.
                         tableSizeMap.computeIfPresent(tableId, (k, v) -> {
                             // Discard current computation if value in cache is newer than current one.
@@ -126,8 +134,16 @@ public class SqlStatisticManagerImpl implements SqlStatisticManager {
                                 return v;
                             }
 
+                            prevSize[0] = v.getSize();
+
                             return new ActualSize(size, currTimestamp);
                         });
+
+                        StatisticChangedListener listener = changesListener;
+
+                        if (listener != null && prevSize[0] >= 0 && significantChange(prevSize[0], size)) {
+                            listener.onStatisticChanged(tableId);
+                        }
                     }).exceptionally(e -> {
                         LOG.info("Can't calculate size for table [id={}].", e, tableId);
                         return null;
@@ -137,6 +153,22 @@ public class SqlStatisticManagerImpl implements SqlStatisticManager {
         }
     }
 
+    /**
+     * Returns {@code true} if the table size has changed enough to affect the choice of a plan, that is at least twice and by not less
+     * than {@value #MIN_SIGNIFICANT_SIZE_CHANGE} rows.
+     */
+    private static boolean significantChange(long prevSize, long newSize) {
+        long min = Math.min(prevSize, newSize);
+        long max = Math.max(prevSize, newSize);
+
+        return max - min >= MIN_SIGNIFICANT_SIZE_CHANGE && max >= 2 * min;
+    }
+
+    @Override
+    public void changesNotifier(StatisticChangedListener listener) {
+        changesListener = listener;
+    }
+
     @Override
     public void start() {
         catalogService.listen(CatalogEvent.TABLE_CREATE, createTableEventListener);
@@ -775,6 +775,17 @@ public final class Commons {
         return IgniteSystemProperties.getBoolean("IMPLICIT_PK_ENABLED", false);
     }
 
+    /**
+     * Checks whether hash joins are allowed to propagate filters built from their build side to the remote sources of the probe side.
+     *
+     * <p>Note: disabled by default until the filters are proven to pay off on the benchmarks.
+     *
+     * @return A {@code true} if runtime join filters are enabled, {@code false} otherwise.
+     */
+    public static boolean runtimeJoinFiltersEnabled() {
+        return IgniteSystemProperties.getBoolean("RUNTIME_JOIN_FILTERS_ENABLED", false);
+    }
+
     /**
      * Checks whether a fast path optimizations are enabled or not.
      *
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.metrics;
 import java.util.List;
 import org.apache.ignite.internal.metrics.AbstractMetricSource;
 import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.DistributionMetric;
 import org.apache.ignite.internal.metrics.Metric;
 import org.apache.ignite.internal.sql.engine.util.cache.StatsCounter;
 
@@ -50,6 +51,19 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
         }
     }
 
+    /**
+     * Records the time spent on optimization of a query, which plan was not found in the cache.
+     *
+     * @param millis Planning time, in milliseconds.
+     */
+    public void recordPlanningTime(long millis) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.planningTime.add(millis);
+        }
+    }
+
     @Override
     protected Holder createHolder() {
         return new Holder();
@@ -59,10 +73,15 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
     protected static class Holder implements AbstractMetricSource.Holder<Holder> {
         private final AtomicLongMetric cachePlanHits = new AtomicLongMetric("Hits", "Cache plan hits");
         private final AtomicLongMetric cachePlanMisses = new AtomicLongMetric("Misses", "Cache plan misses");
+        private final DistributionMetric planningTime = new DistributionMetric(
+                "PlanningTime",
+                "Distribution of the optimization time of queries missing in the plan cache, in milliseconds.",
+                new long[] {1, 5, 10, 50, 100, 500, 1_000, 5_000, 15_000}
+        );
 
         @Override
         public Iterable<Metric> metrics() {
-            return List.of(cachePlanHits, cachePlanMisses);
+            return List.of(cachePlanHits, cachePlanMisses, planningTime);
         }
     }
 }
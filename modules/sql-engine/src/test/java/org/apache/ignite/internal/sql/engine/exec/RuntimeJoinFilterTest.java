@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RuntimeJoinFilter}.
+ */
+public class RuntimeJoinFilterTest {
+    private final RowHandler<Object[]> handler = ArrayRowHandler.INSTANCE;
+
+    @Test
+    public void noFalseNegatives() {
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(new int[] {1, 0}, List.of(NativeTypes.INT32, NativeTypes.STRING), 1_000);
+
+        assertNotNull(filter);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(handler, new Object[] {"val" + i, i, "other"}, new int[] {1, 0});
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightMatch(handler, new Object[] {i, "val" + i}));
+        }
+    }
+
+    @Test
+    public void rejectsMostOfNonMatchingRows() {
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(new int[] {0}, List.of(NativeTypes.INT32), 1_000);
+
+        assertNotNull(filter);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(handler, new Object[] {i}, new int[] {0});
+        }
+
+        int passed = 0;
+
+        for (int i = 1_000; i < 11_000; i++) {
+            if (filter.mightMatch(handler, new Object[] {i})) {
+                passed++;
+            }
+        }
+
+        assertTrue(passed < 1_000, "passed=" + passed);
+    }
+
+    @Test
+    public void matchesKeysWithDifferentRepresentation() {
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(
+                new int[] {0, 1}, List.of(NativeTypes.decimalOf(10, 2), NativeTypes.INT32), 1);
+
+        assertNotNull(filter);
+
+        filter.add(handler, new Object[] {new BigDecimal("1.50"), 42L}, new int[] {0, 1});
+
+        assertTrue(filter.mightMatch(handler, new Object[] {new BigDecimal("1.5"), 42}));
+        assertTrue(filter.mightMatch(handler, new Object[] {new BigDecimal("1.5000"), (short) 42}));
+    }
+
+    @Test
+    public void rejectsNullKeys() {
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(new int[] {0}, List.of(NativeTypes.INT32), 0);
+
+        assertNotNull(filter);
+
+        assertFalse(filter.mightMatch(handler, new Object[] {null}));
+        assertFalse(filter.mightMatch(handler, new Object[] {1}));
+    }
+
+    @Test
+    public void binaryKeysAreComparedByContent() {
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(new int[] {0}, List.of(NativeTypes.BYTES), 1);
+
+        assertNotNull(filter);
+
+        filter.add(handler, new Object[] {new byte[] {1, 2, 3}}, new int[] {0});
+
+        assertTrue(filter.mightMatch(handler, new Object[] {new byte[] {1, 2, 3}}));
+        assertTrue(filter.mightMatch(handler, new Object[] {new ByteString(new byte[] {1, 2, 3})}));
+    }
+
+    @Test
+    public void matchesInternalAndExternalTemporalValues() {
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(new int[] {0}, List.of(NativeTypes.DATE), 1);
+
+        assertNotNull(filter);
+
+        LocalDate date = LocalDate.of(2024, 2, 29);
+
+        filter.add(handler, new Object[] {(int) date.toEpochDay()}, new int[] {0});
+
+        assertTrue(filter.mightMatch(handler, new Object[] {date}));
+        assertTrue(filter.mightMatch(handler, new Object[] {(int) date.toEpochDay()}));
+    }
+
+    @Test
+    public void notCreatedForTooManyKeys() {
+        assertNull(RuntimeJoinFilter.create(new int[] {0}, List.of(NativeTypes.INT32), 10_000_000));
+    }
+}
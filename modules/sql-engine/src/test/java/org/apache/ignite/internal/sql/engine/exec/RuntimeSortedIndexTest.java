@@ -126,6 +126,7 @@ public class RuntimeSortedIndexTest extends IgniteAbstractTest {
                         Map.of(),
                         null,
                         SqlQueryProcessor.DEFAULT_TIME_ZONE_ID,
+                        1,
                         -1
                 ),
                 RelCollations.of(ImmutableIntList.copyOf(idxCols)),
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.fsm;
+
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.convertSqlRows;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.framework.TestCluster;
+import org.apache.ignite.internal.sql.engine.framework.TestNode;
+import org.apache.ignite.internal.sql.engine.schema.PartitionCalculator;
+import org.apache.ignite.internal.sql.engine.sql.LiteralParameterizer.ParameterizedStatement;
+import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.apache.ignite.internal.util.subscription.TransformingPublisher;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that queries return the same results and touch the same partitions whether literals are replaced with dynamic parameters
+ * before planning or not.
+ */
+public class AutoParameterizationExecutionTest extends BaseIgniteAbstractTest {
+    private static final String NODE_NAME = "N1";
+
+    private static final int ROWS_COUNT = 40;
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+
+    private final RecordingTable parameterizedTable = new RecordingTable();
+
+    private final RecordingTable originalTable = new RecordingTable();
+
+    private TestCluster parameterizedCluster;
+
+    private TestCluster originalCluster;
+
+    @BeforeEach
+    void startClusters() {
+        parameterizedCluster = createCluster(true, parameterizedTable);
+        originalCluster = createCluster(false, originalTable);
+
+        parameterizedCluster.start();
+        originalCluster.start();
+    }
+
+    @AfterEach
+    void stopClusters() throws Exception {
+        parameterizedCluster.stop();
+        originalCluster.stop();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT id, name FROM t1 WHERE id IN (3, 17, 25)",
+            "SELECT id, name FROM t1 WHERE id = 3 OR id = 17",
+            "SELECT id, name FROM t1 WHERE id IN (3, 17) AND name = 'b'",
+            "SELECT id FROM t1 WHERE id > 30 AND name <> 'c'",
+            "SELECT id, name FROM t1 WHERE name IN ('a', 'd')",
+            "SELECT id FROM t1 WHERE name = 'b' AND id < 10",
+            "SELECT id, created FROM t1 WHERE created > DATE '2024-01-20'",
+            "SELECT name, COUNT(*) FROM t1 WHERE id >= 10 GROUP BY name",
+    })
+    void resultsAndPrunedPartitionsMatch(String query) {
+        assertSameOutcome(query);
+
+        assertThat(parameterizedTable.scannedPartitions, is(originalTable.scannedPartitions));
+
+        assertThat(parameterize(query), notNullValue());
+    }
+
+    @Test
+    void partitionsArePrunedByReplacedValues() {
+        String query = "SELECT id FROM t1 WHERE id IN (3, 17)";
+
+        assertSameOutcome(query);
+
+        assertThat(parameterizedTable.scannedPartitions, is(Set.of(parameterizedTable.partition(3), parameterizedTable.partition(17))));
+        assertThat(parameterizedTable.scannedPartitions, is(originalTable.scannedPartitions));
+    }
+
+    @Test
+    void keyValueGetUsesReplacedValue() {
+        for (int id : new int[] {5, 6, ROWS_COUNT + 1}) {
+            parameterizedTable.reset();
+            originalTable.reset();
+
+            String query = "SELECT id, name, created FROM t1 WHERE id = " + id;
+
+            assertSameOutcome(query);
+
+            // Both statements are executed as a lookup by the primary key, and the parameterized one looks up the replaced value.
+            assertThat(parameterizedTable.lookedUpKeys, is(List.of(id)));
+            assertThat(originalTable.lookedUpKeys, is(List.of(id)));
+            assertThat(parameterizedTable.scannedPartitions, empty());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // The literals rely on implicit casts of character strings, which are not applied to dynamic parameters.
+            "SELECT id FROM t1 WHERE created = '2024-01-05'",
+            "SELECT id FROM t1 WHERE created > '2024-01-20'",
+            "SELECT id, name FROM t1 WHERE id = '5'",
+    })
+    void fallsBackToOriginalStatementOnValidationError(String query) {
+        assertThat(parameterize(query), notNullValue());
+
+        assertSameOutcome(query);
+
+        // The parameterized statement has failed validation, so the statement is not parameterized anymore.
+        assertThat(parameterize(query), nullValue());
+
+        assertSameOutcome(query);
+    }
+
+    @Test
+    void characterLiteralsAreComparedAsWithoutParameterization() {
+        for (String literal : new String[] {"'b'", "'b '", "CAST('b' AS CHAR(3))", "'B'"}) {
+            parameterizedTable.reset();
+            originalTable.reset();
+
+            assertSameOutcome("SELECT id FROM t1 WHERE name = " + literal);
+            assertSameOutcome("SELECT id FROM t1 WHERE name > " + literal);
+        }
+    }
+
+    private void assertSameOutcome(String query) {
+        Object expected = outcome(originalCluster.node(NODE_NAME), query);
+        Object actual = outcome(parameterizedCluster.node(NODE_NAME), query);
+
+        assertThat(query, actual, is(expected));
+    }
+
+    /** Returns sorted rows of the query, or the error code if the query fails. */
+    private static Object outcome(TestNode node, String query) {
+        try {
+            AsyncSqlCursor<InternalSqlRow> cursor = node.executeQuery(query);
+
+            List<List<Object>> rows = new ArrayList<>(convertSqlRows(await(cursor.requestNextAsync(10_000)).items()));
+
+            await(cursor.closeAsync());
+
+            rows.sort(Comparator.comparing(Object::toString));
+
+            return rows;
+        } catch (SqlException e) {
+            return e.code();
+        }
+    }
+
+    private @Nullable ParameterizedStatement parameterize(String query) {
+        return parameterizedCluster.node(NODE_NAME).queryExecutor().parameterize(new ParserServiceImpl().parse(query));
+    }
+
+    private static TestCluster createCluster(boolean autoParameterizationEnabled, RecordingTable table) {
+        // @formatter:off
+        return TestBuilders.cluster()
+                .nodes(NODE_NAME, "N2")
+                .autoParameterizationEnabled(autoParameterizationEnabled)
+                .addTable()
+                    .name("T1")
+                    .addKeyColumn("ID", NativeTypes.INT32)
+                    .addColumn("NAME", NativeTypes.stringOf(8))
+                    .addColumn("CREATED", NativeTypes.DATE)
+                    .end()
+                .defaultAssignmentsProvider(tableName -> (partitionsCount, includeBackups) -> {
+                    table.partitionsCount.set(partitionsCount);
+
+                    return IntStream.range(0, partitionsCount)
+                            .mapToObj(part -> List.of(part % 2 == 0 ? NODE_NAME : "N2"))
+                            .collect(Collectors.toList());
+                })
+                .defaultDataProvider(tableName -> table)
+                .build();
+        // @formatter:on
+    }
+
+    /** Table, which rows are spread over partitions by the primary key, and which records the accessed partitions and keys. */
+    private static class RecordingTable implements ScannableTable {
+        private final AtomicInteger partitionsCount = new AtomicInteger();
+
+        private final Set<Integer> scannedPartitions = ConcurrentHashMap.newKeySet();
+
+        private final List<Object> lookedUpKeys = new CopyOnWriteArrayList<>();
+
+        private final List<Object[]> rows = IntStream.range(0, ROWS_COUNT)
+                .mapToObj(id -> new Object[] {
+                        id,
+                        String.valueOf((char) ('a' + id % 4)),
+                        TypeUtils.toInternal(FIRST_DATE.plusDays(id), LocalDate.class)
+                })
+                .collect(Collectors.toList());
+
+        void reset() {
+            scannedPartitions.clear();
+            lookedUpKeys.clear();
+        }
+
+        int partition(int id) {
+            var calculator = new PartitionCalculator(partitionsCount.get(), new NativeType[] {NativeTypes.INT32});
+
+            calculator.append(id);
+
+            return calculator.partition();
+        }
+
+        private List<Object[]> partitionRows(int partitionId) {
+            return rows.stream()
+                    .filter(row -> partition((Integer) row[0]) == partitionId)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public <RowT> Publisher<RowT> scan(
+                ExecutionContext<RowT> ctx,
+                PartitionWithConsistencyToken partWithConsistencyToken,
+                RowFactory<RowT> rowFactory,
+                @Nullable BitSet requiredColumns
+        ) {
+            scannedPartitions.add(partWithConsistencyToken.partId());
+
+            return publisher(partitionRows(partWithConsistencyToken.partId()), rowFactory, requiredColumns);
+        }
+
+        @Override
+        public <RowT> Publisher<RowT> indexRangeScan(ExecutionContext<RowT> ctx, PartitionWithConsistencyToken partWithConsistencyToken,
+                RowFactory<RowT> rowFactory, int indexId, List<String> columns, @Nullable RangeCondition<RowT> cond,
+                @Nullable BitSet requiredColumns) {
+            throw new UnsupportedOperationException("The table has no sorted indexes");
+        }
+
+        @Override
+        public <RowT> Publisher<RowT> indexLookup(ExecutionContext<RowT> ctx, PartitionWithConsistencyToken partWithConsistencyToken,
+                RowFactory<RowT> rowFactory, int indexId, List<String> columns, RowT key, @Nullable BitSet requiredColumns) {
+            scannedPartitions.add(partWithConsistencyToken.partId());
+
+            Object id = rowFactory.handler().get(0, key);
+
+            List<Object[]> found = partitionRows(partWithConsistencyToken.partId()).stream()
+                    .filter(row -> row[0].equals(id))
+                    .collect(Collectors.toList());
+
+            return publisher(found, rowFactory, requiredColumns);
+        }
+
+        @Override
+        public <RowT> CompletableFuture<@Nullable RowT> primaryKeyLookup(
+                ExecutionContext<RowT> ctx,
+                @Nullable InternalTransaction explicitTx,
+                RowFactory<RowT> rowFactory,
+                RowT key,
+                @Nullable BitSet requiredColumns
+        ) {
+            Object id = rowFactory.handler().get(0, key);
+
+            lookedUpKeys.add(id);
+
+            RowT found = rows.stream()
+                    .filter(row -> row[0].equals(id))
+                    .findFirst()
+                    .map(row -> rowFactory.create(project(row, requiredColumns)))
+                    .orElse(null);
+
+            return CompletableFuture.completedFuture(found);
+        }
+
+        @Override
+        public CompletableFuture<Long> estimatedSize() {
+            return CompletableFuture.completedFuture((long) rows.size());
+        }
+
+        private static <RowT> Publisher<RowT> publisher(
+                List<Object[]> rows,
+                RowFactory<RowT> rowFactory,
+                @Nullable BitSet requiredColumns
+        ) {
+            return new TransformingPublisher<>(
+                    SubscriptionUtils.fromIterable(
+                            rows.stream().map(row -> project(row, requiredColumns)).collect(Collectors.toList())
+                    ),
+                    rowFactory::create
+            );
+        }
+
+        private static Object[] project(Object[] row, @Nullable BitSet requiredColumns) {
+            if (requiredColumns == null) {
+                return row;
+            }
+
+            Object[] projected = new Object[requiredColumns.cardinality()];
+
+            int idx = 0;
+
+            for (int i = requiredColumns.nextSetBit(0); i != -1; i = requiredColumns.nextSetBit(i + 1)) {
+                projected[idx++] = row[i];
+            }
+
+            return projected;
+        }
+    }
+}
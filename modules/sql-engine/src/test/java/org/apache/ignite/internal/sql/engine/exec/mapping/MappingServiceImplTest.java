@@ -17,7 +17,9 @@
 
 package org.apache.ignite.internal.sql.engine.exec.mapping;
 
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.COLOCATION_FEATURE_FLAG;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -39,6 +41,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -46,6 +49,7 @@ import org.apache.ignite.internal.TestHybridClock;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogService;
 import org.apache.ignite.internal.catalog.descriptors.CatalogObjectDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.hlc.TestClockService;
@@ -54,6 +58,7 @@ import org.apache.ignite.internal.partitiondistribution.TokenizedAssignments;
 import org.apache.ignite.internal.partitiondistribution.TokenizedAssignmentsImpl;
 import org.apache.ignite.internal.placementdriver.event.PrimaryReplicaEventParameters;
 import org.apache.ignite.internal.replicator.TablePartitionId;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
 import org.apache.ignite.internal.sql.engine.framework.TestCluster;
 import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
@@ -63,6 +68,7 @@ import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
 import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.testframework.WithSystemProperty;
 import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.junit.jupiter.api.Test;
@@ -281,6 +287,91 @@ public class MappingServiceImplTest extends BaseIgniteAbstractTest {
         verify(execProvider, times(2)).forTable(any(HybridTimestamp.class), any(IgniteTable.class), anyBoolean());
     }
 
+    @Test
+    @WithSystemProperty(key = COLOCATION_FEATURE_FLAG, value = "true")
+    public void testCacheInvalidationOnZonePrimaryExpiration() {
+        String localNodeName = "NODE";
+        List<String> nodeNames = List.of(localNodeName, "NODE1");
+
+        CatalogService catalogService = cluster.catalogManager();
+        Catalog catalog = catalogService.catalog(catalogService.latestCatalogVersion());
+
+        int mappedZoneId = catalog.tables().stream()
+                .filter(desc -> "T1".equals(desc.name()))
+                .findFirst()
+                .map(CatalogTableDescriptor::zoneId)
+                .orElseThrow();
+
+        int notMappedZoneId = mappedZoneId + 1;
+
+        assertTrue(catalog.tables().stream().noneMatch(desc -> desc.zoneId() == notMappedZoneId));
+
+        Function<Integer, PrimaryReplicaEventParameters> prepareEvtParams = zoneId -> new PrimaryReplicaEventParameters(
+                0, new ZonePartitionId(zoneId, 0), new UUID(0, 0), "ignored", HybridTimestamp.MIN_VALUE);
+
+        // Initialize mapping service.
+        ExecutionDistributionProvider execProvider = Mockito.spy(new TestExecutionDistributionProvider(nodeNames));
+
+        MappingServiceImpl mappingService = new MappingServiceImpl(
+                localNodeName,
+                CLOCK_SERVICE,
+                CaffeineCacheFactory.INSTANCE,
+                100,
+                PARTITION_PRUNER,
+                createStableTopologySupplier(),
+                execProvider
+        );
+
+        List<MappedFragment> mappedFragments = await(mappingService.map(PLAN, PARAMS));
+        verify(execProvider, times(1)).forTable(any(HybridTimestamp.class), any(IgniteTable.class), anyBoolean());
+
+        // Simulate expiration of the primary replica of a zone no mapped table belongs to - the cache entry should not be invalidated.
+        await(mappingService.onPrimaryReplicaExpired(prepareEvtParams.apply(notMappedZoneId)));
+        assertSame(mappedFragments, await(mappingService.map(PLAN, PARAMS)));
+        verify(execProvider, times(1)).forTable(any(HybridTimestamp.class), any(IgniteTable.class), anyBoolean());
+
+        // Simulate expiration of the primary replica of the mapped table's zone - the cache entry should be invalidated.
+        await(mappingService.onPrimaryReplicaExpired(prepareEvtParams.apply(mappedZoneId)));
+
+        List<MappedFragment> remappedFragments = await(mappingService.map(PLAN, PARAMS));
+
+        assertNotSame(mappedFragments, remappedFragments);
+        verify(execProvider, times(2)).forTable(any(HybridTimestamp.class), any(IgniteTable.class), anyBoolean());
+
+        // New mapping is cached again.
+        assertSame(remappedFragments, await(mappingService.map(PLAN, PARAMS)));
+    }
+
+    @Test
+    public void failedMappingIsNotCached() {
+        String localNodeName = "NODE";
+        List<String> nodeNames = List.of(localNodeName, "NODE1");
+        AtomicBoolean failMapping = new AtomicBoolean(true);
+
+        ExecutionDistributionProvider execProvider = Mockito.spy(new TestExecutionDistributionProvider(
+                nodeNames, () -> failMapping.get() ? new RuntimeException("Expected") : null
+        ));
+
+        MappingServiceImpl mappingService = new MappingServiceImpl(
+                localNodeName,
+                CLOCK_SERVICE,
+                CaffeineCacheFactory.INSTANCE,
+                100,
+                PARTITION_PRUNER,
+                createStableTopologySupplier(),
+                execProvider
+        );
+
+        assertThat(mappingService.map(PLAN, PARAMS), willThrow(RuntimeException.class, "Expected"));
+
+        failMapping.set(false);
+
+        List<MappedFragment> mappedFragments = await(mappingService.map(PLAN, PARAMS));
+        assertSame(mappedFragments, await(mappingService.map(PLAN, PARAMS)));
+
+        verify(execProvider, times(2)).forTable(any(HybridTimestamp.class), any(IgniteTable.class), anyBoolean());
+    }
+
     private MappingServiceImpl createMappingServiceNoCache(String localNodeName, List<String> nodeNames) {
         return createMappingService(localNodeName, nodeNames, 0);
     }
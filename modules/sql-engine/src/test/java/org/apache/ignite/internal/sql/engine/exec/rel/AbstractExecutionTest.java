@@ -104,6 +104,10 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
     }
 
     protected ExecutionContext<T> executionContext(int defaultBufferSize, boolean withDelays) {
+        return executionContext(defaultBufferSize, withDelays, 1);
+    }
+
+    protected ExecutionContext<T> executionContext(int defaultBufferSize, boolean withDelays, int scanParallelism) {
         if (withDelays) {
             StripedThreadPoolExecutor testExecutor = new IgniteTestStripedThreadPoolExecutor(8,
                     NamedThreadFactory.create("fake-test-node", "sqlTestExec", log),
@@ -139,6 +143,7 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
                 Map.of(),
                 TxAttributes.fromTx(new NoOpTransaction("fake-test-node", false)),
                 SqlQueryProcessor.DEFAULT_TIME_ZONE_ID,
+                scanParallelism,
                 -1
         );
     }
@@ -24,9 +24,12 @@ import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFu
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
@@ -38,9 +41,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.failure.handlers.NoOpFailureHandler;
@@ -58,6 +63,7 @@ import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeJoinFilter;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
@@ -317,6 +323,48 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
         }
     }
 
+    @Test
+    public void outboxDropsRowsRejectedByRuntimeFilter() {
+        UUID queryId = randomUUID();
+        int rowCount = 4 * Commons.IO_BATCH_SIZE;
+
+        createSourceFragment(
+                queryId,
+                ANOTHER_NODE,
+                serviceFactory,
+                new TestDataProvider(rowCount)
+        );
+
+        AsyncRootNode<Object[], Object[]> root = createRootFragment(
+                queryId,
+                -1,
+                ROOT_NODE,
+                List.of(ANOTHER_NODE_NAME),
+                false,
+                serviceFactory
+        );
+
+        // Keys of the build side may be represented by a wider type than the probe side keys.
+        RuntimeJoinFilter filter = RuntimeJoinFilter.create(new int[] {0}, List.of(NativeTypes.INT32), 3);
+
+        assertNotNull(filter);
+
+        for (long key : new long[] {1, 10, 100}) {
+            filter.add(rowHandler(), new Object[] {key}, new int[] {0});
+        }
+
+        Inbox<?> inbox = (Inbox<?>) IgniteTestUtils.getFieldValue(root, AsyncRootNode.class, "source");
+
+        await(inbox.context().submit(() -> inbox.runtimeFilter(filter), inbox::onError));
+
+        BatchedResult<Object[]> res = await(root.requestNextAsync(rowCount));
+
+        Set<Object> keys = res.items().stream().map(row -> row[0]).collect(Collectors.toSet());
+
+        assertThat(keys, hasItems(1, 10, 100));
+        assertThat(res.items().size(), lessThan(rowCount / 10));
+    }
+
     /**
      * The test checks requests with correlates from different downstreams are handled properly.
      */
@@ -24,6 +24,11 @@ import static org.apache.calcite.rel.core.JoinRelType.SEMI;
 import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,15 +42,19 @@ import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeJoinFilter;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.testframework.WithSystemProperty;
 import org.apache.ignite.internal.type.NativeTypes;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
 
 /** Hash join execution tests. */
 @SuppressWarnings("resource")
@@ -133,6 +142,38 @@ public class HashJoinExecutionTest extends AbstractJoinExecutionTest {
         assert2DimArrayEquals(expectedAfterRewind, rowsAfterRewind);
     }
 
+    @Test
+    @WithSystemProperty(key = "RUNTIME_JOIN_FILTERS_ENABLED", value = "true")
+    @SuppressWarnings("unchecked")
+    void innerHashJoinPropagatesRuntimeFilterToRemoteLeftInput() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        Inbox<Object[]> persons = mock(Inbox.class);
+
+        ScanNode<Object[]> deps = new ScanNode<>(ctx, Arrays.asList(
+                new Object[]{0, "Core", 1},
+                new Object[]{1, "SQL", 2},
+                new Object[]{2, "QA", null}
+        ));
+
+        HashJoinNode<Object[]> join = createJoinNode(ctx, INNER, null);
+
+        join.register(asList(persons, deps));
+        join.onRegister(mock(Downstream.class));
+
+        ctx.execute(() -> join.request(DEFAULT_BUFFER_SIZE), join::onError);
+
+        ArgumentCaptor<RuntimeJoinFilter> filter = ArgumentCaptor.forClass(RuntimeJoinFilter.class);
+
+        verify(persons, timeout(5_000)).runtimeFilter(filter.capture());
+
+        RowHandler<Object[]> handler = ctx.rowHandler();
+
+        assertTrue(filter.getValue().mightMatch(handler, new Object[]{1, "Igor"}));
+        assertTrue(filter.getValue().mightMatch(handler, new Object[]{2, "Roman"}));
+        assertFalse(filter.getValue().mightMatch(handler, new Object[]{null, "Ivan"}));
+    }
+
     @Test
     void innerHashJoinWithPostFiltration() {
         Object[][] persons = {
@@ -116,6 +116,52 @@ public class IndexScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
         validateResult(result, List.of(new Object[]{2}, new Object[]{1}, new Object[]{0}));
     }
 
+    /**
+     * Hash index lookup over many partitions returns the same rows whether the partitions are scanned one by one or concurrently.
+     */
+    @Test
+    public void testHashIndexWithScanParallelism() {
+        List<String> columns = List.of("C1");
+
+        TableDescriptor tableDescriptor = createTableDescriptor(columns);
+        IgniteIndex indexDescriptor = createHashIndexDescriptor(columns, tableDescriptor);
+
+        TestScannableTable<Object[]> scannableTable = new TestScannableTable<>();
+
+        int partitions = 8;
+        int rowsPerPartition = 300;
+
+        for (int part = 0; part < partitions; part++) {
+            Object[][] rows = new Object[rowsPerPartition][];
+
+            for (int i = 0; i < rowsPerPartition; i++) {
+                rows[i] = new Object[]{part * rowsPerPartition + i};
+            }
+
+            scannableTable.setPartitionData(part, rows);
+        }
+
+        Tester sequentialTester = new Tester(executionContext());
+        List<Object[]> sequential = sequentialTester.execute(
+                sequentialTester.createHashIndex(indexDescriptor, tableDescriptor, scannableTable)
+        );
+
+        Tester parallelTester = new Tester(executionContext(-1, false, 4));
+        List<Object[]> parallel = parallelTester.execute(
+                parallelTester.createHashIndex(indexDescriptor, tableDescriptor, scannableTable)
+        );
+
+        assertEquals(partitions * rowsPerPartition, sequential.size());
+
+        // Partitions scanned concurrently interleave their rows, so only the set of rows is compared.
+        Comparator<Object[]> cmp = Comparator.comparing(row -> (Integer) row[0]);
+
+        sequential.sort(cmp);
+        parallel.sort(cmp);
+
+        validateResult(parallel, sequential);
+    }
+
     private static TableDescriptor createTableDescriptor(List<String> columns) {
         Builder rowTypeBuilder = new Builder(Commons.typeFactory());
 
@@ -270,6 +270,7 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
                     TABLE_ID,
                     PART_CNT,
                     new SingleClusterNodeResolver(mock(ClusterNode.class)),
+                    () -> mock(ClusterNode.class),
                     txManager,
                     mock(MvTableStorage.class),
                     mock(TxStateStorage.class),
@@ -462,6 +462,17 @@ public class TestBuilders {
          * @return {@code this} for chaining.
          */
         ClusterBuilder planningTimeout(long value, TimeUnit timeUnit);
+
+        /**
+         * Enables replacing of literals of statements with dynamic parameters before planning.
+         *
+         * <p>The outcome of the replacement is cached along with parsed statements, so nodes of such a cluster cache parsed statements
+         * too.
+         *
+         * @param value Whether auto-parameterization is enabled.
+         * @return {@code this} for chaining.
+         */
+        ClusterBuilder autoParameterizationEnabled(boolean value);
     }
 
     /**
@@ -654,6 +665,7 @@ public class TestBuilders {
                     Commons.parametersMap(dynamicParams),
                     TxAttributes.fromTx(new NoOpTransaction(node.name(), false)),
                     SqlQueryProcessor.DEFAULT_TIME_ZONE_ID,
+                    1,
                     -1
             );
         }
@@ -667,6 +679,7 @@ public class TestBuilders {
         private final Map<String, Set<String>> nodeName2SystemView = new HashMap<>();
 
         private long planningTimeout = TimeUnit.SECONDS.toMillis(15);
+        private boolean autoParameterizationEnabled;
         private Function<CatalogManager, CatalogManager> catalogManagerDecorator = Function.identity();
         private OperationKillHandler @Nullable [] killHandlers = null;
 
@@ -753,6 +766,13 @@ public class TestBuilders {
             return this;
         }
 
+        @Override
+        public ClusterBuilder autoParameterizationEnabled(boolean value) {
+            this.autoParameterizationEnabled = value;
+
+            return this;
+        }
+
         /** {@inheritDoc} */
         @Override
         public TestCluster build() {
@@ -888,7 +908,8 @@ public class TestBuilders {
                                 ),
                                 ddlHandler,
                                 systemViewManager,
-                                killHandlers
+                                killHandlers,
+                                autoParameterizationEnabled
                         );
                     })
                     .collect(Collectors.toMap(TestNode::name, Function.identity()));
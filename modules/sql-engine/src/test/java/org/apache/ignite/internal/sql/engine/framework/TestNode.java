@@ -108,6 +108,8 @@ public class TestNode implements LifecycleAware {
     // forever in case of a bug in {@link PrepareService} timeouts mechanism.
     private static final int AWAIT_PLAN_TIMEOUT_MINUTES = 10;
 
+    private static final int PARSED_RESULTS_CACHE_SIZE = 1024;
+
     private final String nodeName;
     private final QueryExecutor queryExecutor;
     private final PrepareService prepareService;
@@ -127,6 +129,7 @@ public class TestNode implements LifecycleAware {
      * @param nodeName A name of the node to create.
      * @param clusterService A cluster service.
      * @param schemaManager A schema manager to use for query planning and execution.
+     * @param autoParameterizationEnabled Whether literals of statements are replaced with dynamic parameters before planning.
      */
     TestNode(
             String nodeName,
@@ -139,7 +142,8 @@ public class TestNode implements LifecycleAware {
             ExecutableTableRegistry tableRegistry,
             DdlCommandHandler ddlCommandHandler,
             SystemViewManager systemViewManager,
-            OperationKillHandler @Nullable [] killHandlers
+            OperationKillHandler @Nullable [] killHandlers,
+            boolean autoParameterizationEnabled
     ) {
         this.nodeName = nodeName;
         this.parserService = parserService;
@@ -225,8 +229,8 @@ public class TestNode implements LifecycleAware {
 
         queryExecutor = registerService(new QueryExecutor(
                 nodeName,
-                EmptyCacheFactory.INSTANCE,
-                0,
+                autoParameterizationEnabled ? CaffeineCacheFactory.INSTANCE : EmptyCacheFactory.INSTANCE,
+                autoParameterizationEnabled ? PARSED_RESULTS_CACHE_SIZE : 0,
                 parserService,
                 taskExecutor,
                 scheduler,
@@ -248,7 +252,8 @@ public class TestNode implements LifecycleAware {
                     public void log(String type, Supplier<Event> eventProvider) {
                         // No-op.
                     }
-                }
+                },
+                () -> autoParameterizationEnabled
         ));
     }
 
@@ -399,6 +404,11 @@ public class TestNode implements LifecycleAware {
         return executeQuery(properties, ImplicitTxContext.create(), query, params);
     }
 
+    /** Returns the query executor of the node. */
+    public QueryExecutor queryExecutor() {
+        return queryExecutor;
+    }
+
     public List<QueryInfo> runningQueries() {
         return queryExecutor.runningQueries();
     }
@@ -38,6 +38,7 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -350,6 +351,69 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
         assertTrue(empty, "Cache is not empty: " + cache.size());
     }
 
+    @Test
+    public void statisticsChangeEvictsMultiStepPlansReadingTable() {
+        IgniteTable table1 = TestBuilders.table()
+                .name("T1")
+                .tableId(1)
+                .addKeyColumn("ID", NativeTypes.INT32)
+                .addColumn("VAL", NativeTypes.INT32)
+                .distribution(IgniteDistributions.affinity(0, 1, 1))
+                .hashIndex().name("T1_PK").addColumn("ID").primaryKey(true).end()
+                .build();
+
+        IgniteTable table2 = TestBuilders.table()
+                .name("T2")
+                .tableId(2)
+                .addColumn("ID", NativeTypes.INT32)
+                .addColumn("VAL", NativeTypes.INT32)
+                .distribution(IgniteDistributions.single())
+                .build();
+
+        IgniteSchema schema = new IgniteSchema("PUBLIC", 0, List.of(table1, table2));
+
+        Cache<Object, Object> cache = CaffeineCacheFactory.INSTANCE.create(100);
+
+        CacheFactory cacheFactory = new CacheFactory() {
+            @Override
+            public <K, V> Cache<K, V> create(int size) {
+                return (Cache<K, V>) cache;
+            }
+
+            @Override
+            public <K, V> Cache<K, V> create(int size, StatsCounter statCounter) {
+                return (Cache<K, V>) cache;
+            }
+        };
+
+        PrepareServiceImpl service = createPlannerService(schema, cacheFactory, 1000);
+
+        String table1Query = "SELECT * FROM t1 WHERE val > 1";
+        String table2Query = "SELECT * FROM t2 WHERE val > 1";
+        String keyValueQuery = "SELECT * FROM t1 WHERE id = 1";
+
+        QueryPlan table1Plan = await(service.prepareAsync(parse(table1Query), createContext()));
+        QueryPlan table2Plan = await(service.prepareAsync(parse(table2Query), createContext()));
+        QueryPlan keyValuePlan = await(service.prepareAsync(parse(keyValueQuery), createContext()));
+
+        assertInstanceOf(MultiStepPlan.class, table1Plan);
+        assertInstanceOf(MultiStepPlan.class, table2Plan);
+        assertInstanceOf(KeyValueGetPlan.class, keyValuePlan);
+
+        // A plan that is still being prepared.
+        CompletableFuture<QueryPlan> pendingPlan = new CompletableFuture<>();
+
+        cache.put("pending", pendingPlan);
+
+        service.statisticsChanged(table1.id());
+
+        assertSame(pendingPlan, cache.get("pending"));
+
+        assertNotSame(table1Plan, await(service.prepareAsync(parse(table1Query), createContext())));
+        assertSame(table2Plan, await(service.prepareAsync(parse(table2Query), createContext())));
+        assertSame(keyValuePlan, await(service.prepareAsync(parse(keyValueQuery), createContext())));
+    }
+
     @Test
     public void testDoNotFailPlanningOnMissingSchemaThatIsNotUsed() {
         IgniteTable table = TestBuilders.table()
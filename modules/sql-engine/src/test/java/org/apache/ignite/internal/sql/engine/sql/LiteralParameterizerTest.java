@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.ignite.internal.sql.engine.sql.LiteralParameterizer.ParameterizedStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link LiteralParameterizer}.
+ */
+public class LiteralParameterizerTest {
+    private final ParserService parserService = new ParserServiceImpl();
+
+    @Test
+    void statementsDifferingInLiteralsHaveSameNormalizedQuery() {
+        ParameterizedStatement first = parameterize("SELECT * FROM my_table WHERE id = 1 AND name = 'a'");
+        ParameterizedStatement second = parameterize("SELECT * FROM my_table WHERE id = 2 AND name = 'b'");
+
+        assertThat(first, notNullValue());
+        assertThat(second, notNullValue());
+
+        assertThat(first.parsedResult().normalizedQuery(), is(second.parsedResult().normalizedQuery()));
+        assertThat(first.parsedResult().dynamicParamsCount(), is(2));
+
+        assertThat(first.parameters(), arrayContaining(1, "a"));
+        assertThat(second.parameters(), arrayContaining(2, "b"));
+    }
+
+    @Test
+    void replacesLiteralsOfInListAndDml() {
+        ParameterizedStatement select = parameterize("SELECT * FROM my_table WHERE id IN (1, 10000000000)");
+
+        assertThat(select, notNullValue());
+        assertThat(select.parameters(), arrayContaining(1, 10_000_000_000L));
+
+        ParameterizedStatement update = parameterize("UPDATE my_table SET val = 1 WHERE 2 < id");
+
+        assertThat(update, notNullValue());
+        assertThat(update.parameters(), arrayContaining(2));
+    }
+
+    @Test
+    void keepsLiteralsNotComparedWithColumns() {
+        ParameterizedStatement first = parameterize("SELECT 'a', id + 1 FROM my_table WHERE id = 1 ORDER BY 1 LIMIT 10");
+        ParameterizedStatement second = parameterize("SELECT 'b', id + 1 FROM my_table WHERE id = 1 ORDER BY 1 LIMIT 10");
+
+        assertThat(first, notNullValue());
+        assertThat(second, notNullValue());
+
+        assertThat(first.parameters(), arrayContaining(1));
+        assertThat(first.parsedResult().normalizedQuery(), not(is(second.parsedResult().normalizedQuery())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT * FROM my_table WHERE id = ? AND val = 1",
+            "SELECT * FROM my_table WHERE 1 = 1",
+            "SELECT * FROM my_table WHERE val = 1.5",
+            "SELECT * FROM my_table",
+            "INSERT INTO my_table VALUES (1, 1)",
+            "EXPLAIN PLAN FOR SELECT * FROM my_table WHERE id = 1",
+            "CREATE TABLE my_table (id INT PRIMARY KEY, val INT DEFAULT 1)"
+    })
+    void skipsStatementsWithoutReplaceableLiterals(String query) {
+        assertThat(parameterize(query), nullValue());
+    }
+
+    @Test
+    void parameterizedResultCreatesNewInstanceOfTree() {
+        ParameterizedStatement statement = parameterize("SELECT * FROM my_table WHERE id = 1");
+
+        assertThat(statement, notNullValue());
+
+        SqlNode firstCall = statement.parsedResult().parsedTree();
+        SqlNode secondCall = statement.parsedResult().parsedTree();
+
+        assertNotSame(firstCall, secondCall);
+        assertThat(firstCall.toString(), is(secondCall.toString()));
+    }
+
+    private ParameterizedStatement parameterize(String query) {
+        return LiteralParameterizer.parameterize(parserService.parse(query));
+    }
+}
@@ -299,6 +299,40 @@ class SqlStatisticManagerImplTest extends BaseIgniteAbstractTest {
         assertEquals(tableSize2, sqlStatisticManager.tableSize(tableId));
     }
 
+    @Test
+    public void notifiesAboutSignificantChanges() {
+        int tableId = ThreadLocalRandom.current().nextInt();
+        // Preparing:
+        prepareCatalogWithTable(tableId);
+
+        when(tableManager.cachedTable(tableId)).thenReturn(tableViewInternal);
+        when(tableViewInternal.internalTable()).thenReturn(internalTable);
+        when(internalTable.estimatedSize()).thenReturn(
+                CompletableFuture.completedFuture(100L),
+                CompletableFuture.completedFuture(150L),
+                CompletableFuture.completedFuture(500_000L));
+
+        SqlStatisticManagerImpl sqlStatisticManager = new SqlStatisticManagerImpl(tableManager, catalogManager, lowWatermark);
+        sqlStatisticManager.start();
+
+        List<Integer> changedTables = new ArrayList<>();
+        sqlStatisticManager.changesNotifier(changedTables::add);
+
+        sqlStatisticManager.setThresholdTimeToPostponeUpdateMs(0);
+
+        // Test:
+        // The default size is replaced with the actual one.
+        assertEquals(100L, sqlStatisticManager.tableSize(tableId));
+        assertEquals(List.of(tableId), changedTables);
+
+        // Too small change.
+        assertEquals(150L, sqlStatisticManager.tableSize(tableId));
+        assertEquals(List.of(tableId), changedTables);
+
+        assertEquals(500_000L, sqlStatisticManager.tableSize(tableId));
+        assertEquals(List.of(tableId, tableId), changedTables);
+    }
+
     private void prepareCatalogWithTable(int tableId) {
         when(catalogManager.earliestCatalogVersion()).thenReturn(1);
         when(catalogManager.latestCatalogVersion()).thenReturn(1);
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -170,6 +172,26 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     ReadResult read(RowId rowId, HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Reads the values of multiple rows from the storage as they were at the given timestamp. Every row is read by the rules of
+     * {@link #read(RowId, HybridTimestamp)}.
+     *
+     * <p>Implementations may reorder the lookups to reduce the cost of a batch, for example by visiting row IDs in their natural order.
+     *
+     * @param rowIds Row IDs.
+     * @param timestamp Timestamp.
+     * @return Read results, in the order of the passed row IDs.
+     */
+    default List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        var result = new ArrayList<ReadResult>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            result.add(read(rowId, timestamp));
+        }
+
+        return result;
+    }
+
     // TODO: https://issues.apache.org/jira/browse/IGNITE-22522 - remove mentions of commit *table*.
     /**
      * Creates (or replaces) an uncommitted (aka pending) version, assigned to the given transaction id.
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.storage.engine;
 
+import java.util.List;
+import org.apache.ignite.internal.metrics.MetricSource;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 
@@ -48,6 +50,13 @@ public interface StorageEngine {
      */
     boolean isVolatile();
 
+    /**
+     * Returns metric sources of the engine, which are registered and enabled by the node.
+     */
+    default List<MetricSource> metricSources() {
+        return List.of();
+    }
+
     /**
      * Creates new table storage.
      *
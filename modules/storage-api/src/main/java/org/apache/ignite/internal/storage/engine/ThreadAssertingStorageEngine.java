@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.storage.engine;
 
+import java.util.List;
+import org.apache.ignite.internal.metrics.MetricSource;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.worker.ThreadAssertions;
@@ -54,6 +56,11 @@ public class ThreadAssertingStorageEngine implements StorageEngine {
         return storageEngine.isVolatile();
     }
 
+    @Override
+    public List<MetricSource> metricSources() {
+        return storageEngine.metricSources();
+    }
+
     @Override
     public MvTableStorage createMvTable(StorageTableDescriptor tableDescriptor, StorageIndexDescriptorSupplier indexDescriptorSupplier) {
         MvTableStorage tableStorage = storageEngine.createMvTable(tableDescriptor, indexDescriptorSupplier);
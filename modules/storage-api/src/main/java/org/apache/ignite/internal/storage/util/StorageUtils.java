@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.storage.util;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import org.apache.ignite.internal.catalog.descriptors.CatalogColumnCollation;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
@@ -291,4 +293,19 @@ public class StorageUtils {
 
         return new BinaryTupleComparator(columnCollation, columnTypes);
     }
+
+    /**
+     * Returns positions of the given row IDs in the {@link RowId#compareTo} order. Batch lookups use it to visit the storage in key order
+     * while keeping the results in the order of the request.
+     *
+     * @param rowIds Row IDs.
+     * @return Positions of the row IDs in the passed list.
+     */
+    public static int[] rowIdsLookupOrder(List<RowId> rowIds) {
+        return IntStream.range(0, rowIds.size())
+                .boxed()
+                .sorted(Comparator.comparing(rowIds::get))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
 }
@@ -467,6 +467,35 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertThat(foundRow, isRow(null));
     }
 
+    @Test
+    void readAllReturnsResultsInRequestOrder() {
+        RowId rowId1 = insert(binaryRow, txId);
+        HybridTimestamp commitTimestamp = clock.now();
+        commitWrite(rowId1, commitTimestamp);
+
+        RowId rowId2 = insert(binaryRow2, txId);
+
+        RowId missingRowId = new RowId(PARTITION_ID);
+
+        List<RowId> rowIds = List.of(missingRowId, rowId2, rowId1);
+
+        List<ReadResult> latest = storage.readAll(rowIds, HybridTimestamp.MAX_VALUE);
+
+        assertThat(latest.size(), is(3));
+        assertTrue(latest.get(0).isEmpty());
+        assertThat(latest.get(1).rowId(), is(rowId2));
+        assertTrue(latest.get(1).isWriteIntent());
+        assertThat(latest.get(1).binaryRow(), isRow(binaryRow2));
+        assertThat(latest.get(2).rowId(), is(rowId1));
+        assertThat(latest.get(2).binaryRow(), isRow(binaryRow));
+
+        List<ReadResult> byTimestamp = storage.readAll(rowIds, commitTimestamp);
+
+        assertTrue(byTimestamp.get(0).isEmpty());
+        assertTrue(byTimestamp.get(1).isWriteIntent());
+        assertThat(byTimestamp.get(2).binaryRow(), isRow(binaryRow));
+    }
+
     @Test
     void readByTimestampOfLastVersionFindsLastVersion() {
         RowId rowId = insert(binaryRow, txId);
@@ -362,6 +362,13 @@ public abstract class AbstractPageMemoryIndexStorage<K extends IndexRowKey, V ex
          */
         protected abstract boolean exceedsUpperBound(V value);
 
+        /**
+         * Searches for the tree row that follows the passed one, see {@link BplusTree#findNext(Object, boolean)}.
+         */
+        protected @Nullable V findNext(K lowerBound, boolean includeRow) throws IgniteInternalCheckedException {
+            return localTree.findNext(lowerBound, includeRow);
+        }
+
         @Override
         public void close() {
             // No-op.
@@ -414,9 +421,9 @@ public abstract class AbstractPageMemoryIndexStorage<K extends IndexRowKey, V ex
             }
 
             if (treeRow == null) {
-                peekedRow = lower == null ? localTree.findFirst() : localTree.findNext(lower, true);
+                peekedRow = lower == null ? localTree.findFirst() : findNext(lower, true);
             } else {
-                peekedRow = localTree.findNext(treeRow, false);
+                peekedRow = findNext(treeRow, false);
             }
 
             if (peekedRow != null && exceedsUpperBound(peekedRow)) {
@@ -27,6 +27,7 @@ import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
 import org.apache.ignite.internal.storage.pagememory.index.hash.io.HashIndexTreeInnerIo;
 import org.apache.ignite.internal.storage.pagememory.index.hash.io.HashIndexTreeIo;
@@ -170,10 +171,30 @@ public class HashIndexTree extends BplusTree<HashIndexRowKey, HashIndexRow> {
         return hashIndexTreeIo.compare(dataPageReader, partId, pageAddr, idx, row);
     }
 
+    /**
+     * Returns a hash index row.
+     *
+     * <p>If {@code x} is a {@link HashIndexRow}, then it is treated as an inclusive upper bound of a lookup by the index columns: if the
+     * row exceeds the upper bound, {@code null} is returned, otherwise the index columns are taken from the upper bound and only the row
+     * ID is read from the page, which saves on copying the index columns (and reading them from data pages, if they are not inlined).
+     */
     @Override
-    public HashIndexRow getRow(BplusIo<HashIndexRowKey> io, long pageAddr, int idx, Object x) throws IgniteInternalCheckedException {
+    public @Nullable HashIndexRow getRow(BplusIo<HashIndexRowKey> io, long pageAddr, int idx, @Nullable Object x)
+            throws IgniteInternalCheckedException {
         HashIndexTreeIo hashIndexTreeIo = (HashIndexTreeIo) io;
 
+        if (x instanceof HashIndexRow) {
+            HashIndexRow upperBound = (HashIndexRow) x;
+
+            if (hashIndexTreeIo.compare(dataPageReader, partId, pageAddr, idx, upperBound) > 0) {
+                return null;
+            }
+
+            RowId rowId = hashIndexTreeIo.getRowId(partId, pageAddr, idx);
+
+            return new HashIndexRow(upperBound.indexColumnsHash(), upperBound.indexColumns(), rowId);
+        }
+
         return hashIndexTreeIo.getRow(dataPageReader, partId, pageAddr, idx);
     }
 
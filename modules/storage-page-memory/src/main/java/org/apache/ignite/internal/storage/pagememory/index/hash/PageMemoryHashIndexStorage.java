@@ -19,7 +19,6 @@ package org.apache.ignite.internal.storage.pagememory.index.hash;
 
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageInProgressOfRebalance;
 
-import java.util.Objects;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.freelist.FreeListImpl;
 import org.apache.ignite.internal.pagememory.util.GradualTask;
@@ -39,6 +38,10 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of Hash index storage using Page Memory.
+ *
+ * <p>Index rows are kept in a {@link HashIndexTree} ordered by the hash of the index columns, for both persistent and volatile
+ * profiles. A lookup descends the tree once and then reads the matching rows right on the leaf pages, comparing them with the key in
+ * place.
  */
 public class PageMemoryHashIndexStorage extends AbstractPageMemoryIndexStorage<HashIndexRowKey, HashIndexRow, HashIndexTree>
         implements HashIndexStorage {
@@ -90,6 +93,8 @@ public class PageMemoryHashIndexStorage extends AbstractPageMemoryIndexStorage<H
 
             HashIndexRow lowerBound = new HashIndexRow(indexColumns, lowestRowId);
 
+            HashIndexRow upperBound = new HashIndexRow(lowerBound.indexColumnsHash(), indexColumns, highestRowId);
+
             return new ScanCursor<RowId>(lowerBound) {
                 @Override
                 protected RowId map(HashIndexRow value) {
@@ -98,7 +103,15 @@ public class PageMemoryHashIndexStorage extends AbstractPageMemoryIndexStorage<H
 
                 @Override
                 protected boolean exceedsUpperBound(HashIndexRow value) {
-                    return !Objects.equals(value.indexColumns().valueBuffer(), key.byteBuffer());
+                    // Rows exceeding the upper bound are not returned by the tree, see HashIndexTree#getRow.
+                    return false;
+                }
+
+                @Override
+                protected @Nullable HashIndexRow findNext(HashIndexRowKey row, boolean includeRow)
+                        throws IgniteInternalCheckedException {
+                    // Compares the index columns with the key right on the tree page and doesn't copy them into the found row.
+                    return localTree.findNext(row, includeRow, upperBound);
                 }
             };
         });
@@ -229,6 +229,23 @@ public interface HashIndexTreeIo {
         return Long.compare(rowIdLsb, row.rowId().leastSignificantBits());
     }
 
+    /**
+     * Reads a row ID of the hash index row, without reading its index columns.
+     *
+     * @param partitionId Partition id.
+     * @param pageAddr Page address.
+     * @param idx Element's index.
+     * @return Row ID.
+     */
+    default RowId getRowId(int partitionId, long pageAddr, int idx) {
+        final int off = offset(idx);
+
+        long rowIdMsb = getLong(pageAddr + off, rowIdMsbOffset());
+        long rowIdLsb = getLong(pageAddr + off, rowIdLsbOffset());
+
+        return new RowId(partitionId, rowIdMsb, rowIdLsb);
+    }
+
     /**
      * Reads a hash index row value.
      *
@@ -32,13 +32,13 @@ import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.ca
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
 
 import java.nio.ByteBuffer;
-import java.util.Comparator;
 import java.util.UUID;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
 import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
 import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleComparator;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
 import org.apache.ignite.internal.storage.pagememory.index.freelist.ReadIndexColumnsValue;
@@ -153,6 +153,9 @@ public interface SortedIndexTreeIo {
     /**
      * Compare the {@link SortedIndexRowKey} from the page with passed {@link SortedIndexRowKey}.
      *
+     * <p>If the index columns are not fully inlined, the inlined prefix is compared first, and the data pages are read only if the
+     * columns contained in the prefix are equal to the ones of the passed key.
+     *
      * @param dataPageReader Data page reader.
      * @param binaryTupleComparator Comparator of index columns {@link BinaryTuple}s.
      * @param partitionId Partition ID.
@@ -164,7 +167,7 @@ public interface SortedIndexTreeIo {
      */
     default int compare(
             DataPageReader dataPageReader,
-            Comparator<ByteBuffer> binaryTupleComparator,
+            BinaryTupleComparator binaryTupleComparator,
             int partitionId,
             long pageAddr,
             int idx,
@@ -174,10 +177,23 @@ public interface SortedIndexTreeIo {
 
         int indexColumnsSize = getShort(pageAddr + off, SIZE_OFFSET);
 
+        ByteBuffer secondBinaryTupleBuffer = rowKey.indexColumns().valueBuffer();
+
         ByteBuffer firstBinaryTupleBuffer;
 
         if (indexColumnsSize == NOT_FULLY_INLINE) {
-            // TODO: IGNITE-17325 Use a comparator for inlined tuple
+            ByteBuffer inlinedPrefix = wrapPointer(pageAddr + off + TUPLE_OFFSET, indexColumnsInlineSize()).order(LITTLE_ENDIAN);
+
+            int cmp = binaryTupleComparator.compareInlinedPrefix(inlinedPrefix, secondBinaryTupleBuffer);
+
+            if (cmp != BinaryTupleComparator.UNDECIDED) {
+                if (cmp != 0) {
+                    return cmp;
+                }
+
+                return compareRowIds(pageAddr + off, rowKey);
+            }
+
             long link = readPartitionless(partitionId, pageAddr + off, linkOffset());
 
             ReadIndexColumnsValue indexColumnsTraversal = new ReadIndexColumnsValue();
@@ -189,27 +205,36 @@ public interface SortedIndexTreeIo {
             firstBinaryTupleBuffer = wrapPointer(pageAddr + off + TUPLE_OFFSET, indexColumnsSize);
         }
 
-        ByteBuffer secondBinaryTupleBuffer = rowKey.indexColumns().valueBuffer();
-
         int cmp = binaryTupleComparator.compare(firstBinaryTupleBuffer.order(LITTLE_ENDIAN), secondBinaryTupleBuffer);
 
         if (cmp != 0) {
             return cmp;
         }
 
+        return compareRowIds(pageAddr + off, rowKey);
+    }
+
+    /**
+     * Compares the row ID of the item with the row ID of the passed {@link SortedIndexRowKey}.
+     *
+     * @param itemAddr Address of the item inside the page.
+     * @param rowKey Lookup index row key.
+     * @return Comparison result.
+     */
+    private int compareRowIds(long itemAddr, SortedIndexRowKey rowKey) {
         assert rowKey instanceof SortedIndexRow : rowKey;
 
         SortedIndexRow row = (SortedIndexRow) rowKey;
 
-        long rowIdMsb = getLong(pageAddr + off, rowIdMsbOffset());
+        long rowIdMsb = getLong(itemAddr, rowIdMsbOffset());
 
-        cmp = Long.compare(rowIdMsb, row.rowId().mostSignificantBits());
+        int cmp = Long.compare(rowIdMsb, row.rowId().mostSignificantBits());
 
         if (cmp != 0) {
             return cmp;
         }
 
-        long rowIdLsb = getLong(pageAddr + off, rowIdLsbOffset());
+        long rowIdLsb = getLong(itemAddr, rowIdLsbOffset());
 
         return Long.compare(rowIdLsb, row.rowId().leastSignificantBits());
     }
@@ -25,6 +25,7 @@ import static org.apache.ignite.internal.storage.util.StorageUtils.transitionToC
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -227,22 +228,48 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         return busy(() -> {
             throwExceptionIfStorageNotInRunnableState();
 
-            if (rowId.partitionId() != partitionId) {
-                throw new IllegalArgumentException(
-                        String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+            checkRowIdPartition(rowId);
+
+            return readBusy(rowId, timestamp);
+        });
+    }
+
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            rowIds.forEach(this::checkRowIdPartition);
+
+            var result = new ReadResult[rowIds.size()];
+
+            // Version chains are looked up in the tree order, so that consecutive lookups mostly hit the same tree pages.
+            for (int i : StorageUtils.rowIdsLookupOrder(rowIds)) {
+                result[i] = readBusy(rowIds.get(i), timestamp);
             }
 
-            return findVersionChain(rowId, versionChain -> {
-                if (versionChain == null) {
-                    return ReadResult.empty(rowId);
-                }
+            return Arrays.asList(result);
+        });
+    }
 
-                if (lookingForLatestVersion(timestamp)) {
-                    return findLatestRowVersion(versionChain);
-                } else {
-                    return findRowVersionByTimestamp(versionChain, timestamp);
-                }
-            });
+    private void checkRowIdPartition(RowId rowId) {
+        if (rowId.partitionId() != partitionId) {
+            throw new IllegalArgumentException(
+                    String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+        }
+    }
+
+    private ReadResult readBusy(RowId rowId, HybridTimestamp timestamp) {
+        return findVersionChain(rowId, versionChain -> {
+            if (versionChain == null) {
+                return ReadResult.empty(rowId);
+            }
+
+            if (lookingForLatestVersion(timestamp)) {
+                return findLatestRowVersion(versionChain);
+            } else {
+                return findRowVersionByTimestamp(versionChain, timestamp);
+            }
         });
     }
 
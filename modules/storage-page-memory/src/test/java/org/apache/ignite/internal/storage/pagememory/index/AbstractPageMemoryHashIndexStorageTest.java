@@ -22,6 +22,15 @@ import static org.apache.ignite.internal.testframework.IgniteTestUtils.randomStr
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.storage.RowId;
@@ -30,6 +39,11 @@ import org.apache.ignite.internal.storage.index.AbstractHashIndexStorageTest;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.IndexRow;
 import org.apache.ignite.internal.storage.index.impl.BinaryTupleRowSerializer;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
+import org.apache.ignite.internal.storage.pagememory.index.hash.HashIndexRow;
+import org.apache.ignite.internal.storage.pagememory.index.hash.HashIndexTree;
+import org.apache.ignite.internal.storage.pagememory.index.hash.PageMemoryHashIndexStorage;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.sql.ColumnType;
 import org.junit.jupiter.api.Test;
 
@@ -89,4 +103,94 @@ abstract class AbstractPageMemoryHashIndexStorageTest extends AbstractHashIndexS
 
         assertThat(getAll(index, createIndexRow(serializer, new RowId(TEST_PARTITION), 1, "foo")), empty());
     }
+
+    @Test
+    void testTreeLookupWithUpperBound() throws Exception {
+        HashIndexStorage index = createIndexStorage(INDEX_NAME, ColumnType.INT32, ColumnType.STRING);
+        var serializer = new BinaryTupleRowSerializer(indexDescriptor(index));
+
+        IndexRow indexRow0 = createIndexRow(serializer, new RowId(TEST_PARTITION, 1, 0), 1, "foo");
+        IndexRow indexRow1 = createIndexRow(serializer, new RowId(TEST_PARTITION, 2, 0), 1, "foo");
+        IndexRow otherIndexRow = createIndexRow(serializer, new RowId(TEST_PARTITION), 2, "bar");
+
+        put(index, indexRow0);
+        put(index, indexRow1);
+        put(index, otherIndexRow);
+
+        HashIndexTree tree = ((PageMemoryHashIndexStorage) index).indexTree;
+
+        IndexColumns indexColumns = new IndexColumns(TEST_PARTITION, indexRow0.indexColumns().byteBuffer());
+
+        HashIndexRow lowerBound = new HashIndexRow(indexColumns, RowId.lowestRowId(TEST_PARTITION));
+        HashIndexRow upperBound = new HashIndexRow(lowerBound.indexColumnsHash(), indexColumns, RowId.highestRowId(TEST_PARTITION));
+
+        HashIndexRow row0 = tree.findNext(lowerBound, true, upperBound);
+
+        assertNotNull(row0);
+        assertEquals(indexRow0.rowId(), row0.rowId());
+        // Index columns are taken from the upper bound instead of being read from the page.
+        assertSame(indexColumns, row0.indexColumns());
+
+        HashIndexRow row1 = tree.findNext(row0, false, upperBound);
+
+        assertNotNull(row1);
+        assertEquals(indexRow1.rowId(), row1.rowId());
+        assertSame(indexColumns, row1.indexColumns());
+
+        // The next row, if any, belongs to another key and exceeds the upper bound.
+        assertNull(tree.findNext(row1, false, upperBound));
+
+        // The upper bound is inclusive and takes the row ID into account.
+        HashIndexRow upperBound0 = new HashIndexRow(lowerBound.indexColumnsHash(), indexColumns, indexRow0.rowId());
+
+        assertEquals(indexRow0.rowId(), tree.findNext(lowerBound, true, upperBound0).rowId());
+        assertNull(tree.findNext(row0, false, upperBound0));
+
+        // Without the upper bound the full row is read from the page.
+        HashIndexRow fullRow0 = tree.findNext(lowerBound, true);
+
+        assertNotNull(fullRow0);
+        assertEquals(indexRow0.rowId(), fullRow0.rowId());
+        assertNotSame(indexColumns, fullRow0.indexColumns());
+        assertEquals(indexColumns.valueBuffer().rewind(), fullRow0.indexColumns().valueBuffer().rewind());
+    }
+
+    @Test
+    void testCursorOverSeveralPagesSeesConcurrentPuts() {
+        HashIndexStorage index = createIndexStorage(INDEX_NAME, ColumnType.INT32, ColumnType.STRING);
+        var serializer = new BinaryTupleRowSerializer(indexDescriptor(index));
+
+        List<RowId> expected = new ArrayList<>();
+
+        IndexRow indexRow = null;
+
+        // Enough rows of the same key to span several tree pages, interleaved with rows of other keys.
+        for (int i = 0; i < 2_000; i++) {
+            indexRow = createIndexRow(serializer, new RowId(TEST_PARTITION, i, 0), 1, "foo");
+
+            put(index, indexRow);
+            put(index, createIndexRow(serializer, new RowId(TEST_PARTITION), i, "bar"));
+
+            expected.add(indexRow.rowId());
+        }
+
+        List<RowId> actual = new ArrayList<>();
+
+        try (Cursor<RowId> cursor = index.get(indexRow.indexColumns())) {
+            assertTrue(cursor.hasNext());
+
+            actual.add(cursor.next());
+
+            // The row is put after the cursor position, so it must be seen by the cursor.
+            IndexRow lateIndexRow = createIndexRow(serializer, new RowId(TEST_PARTITION, Long.MAX_VALUE, 0), 1, "foo");
+
+            put(index, lateIndexRow);
+
+            expected.add(lateIndexRow.rowId());
+
+            cursor.forEachRemaining(actual::add);
+        }
+
+        assertEquals(expected, actual);
+    }
 }
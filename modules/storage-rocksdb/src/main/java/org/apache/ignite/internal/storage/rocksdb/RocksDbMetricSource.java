@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+import org.rocksdb.HistogramType;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+/**
+ * Metric source, which exports RocksDB statistics of the storage profiles of {@link RocksDbStorageEngine}.
+ *
+ * <p>Tickers are summed over all profiles. Latency percentiles are the maximum over all profiles, in microseconds.
+ */
+public class RocksDbMetricSource extends AbstractMetricSource<RocksDbMetricSource.Holder> {
+    public static final String NAME = "storage.rocksdb";
+
+    /** Supplier of the statistics of the started storage profiles. */
+    private final Supplier<Iterable<Statistics>> statistics;
+
+    /**
+     * Constructor.
+     *
+     * @param statistics Supplier of the statistics of the started storage profiles.
+     */
+    public RocksDbMetricSource(Supplier<Iterable<Statistics>> statistics) {
+        super(NAME);
+
+        this.statistics = statistics;
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder(statistics);
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final Supplier<Iterable<Statistics>> statistics;
+
+        private final List<Metric> metrics = new ArrayList<>();
+
+        private Holder(Supplier<Iterable<Statistics>> statistics) {
+            this.statistics = statistics;
+
+            ticker("BlockCacheHits", "Number of block cache hits.", TickerType.BLOCK_CACHE_HIT);
+            ticker("BlockCacheMisses", "Number of block cache misses.", TickerType.BLOCK_CACHE_MISS);
+            ticker("BloomFilterUseful", "Number of point lookups that skipped reading a file thanks to a bloom filter.",
+                    TickerType.BLOOM_FILTER_USEFUL);
+            ticker("BytesRead", "Number of uncompressed bytes read by point lookups.", TickerType.BYTES_READ);
+            ticker("BytesWritten", "Number of uncompressed bytes written by write batches.", TickerType.BYTES_WRITTEN);
+            ticker("CompactionBytesRead", "Number of bytes read by compactions.", TickerType.COMPACT_READ_BYTES);
+            ticker("CompactionBytesWritten", "Number of bytes written by compactions.", TickerType.COMPACT_WRITE_BYTES);
+            ticker("FlushBytesWritten", "Number of bytes written by memtable flushes.", TickerType.FLUSH_WRITE_BYTES);
+            ticker("WriteStallMicros", "Total time writes were stalled, in microseconds.", TickerType.STALL_MICROS);
+
+            percentile("GetLatencyP95", "95th percentile of the point lookup latency, in microseconds.", HistogramType.DB_GET);
+            percentile("WriteLatencyP95", "95th percentile of the write batch latency, in microseconds.", HistogramType.DB_WRITE);
+            percentile("SeekLatencyP95", "95th percentile of the iterator seek latency, in microseconds.", HistogramType.DB_SEEK);
+        }
+
+        private void ticker(String name, String description, TickerType tickerType) {
+            metrics.add(new LongGauge(name, description, () -> sum(stats -> stats.getTickerCount(tickerType))));
+        }
+
+        private void percentile(String name, String description, HistogramType histogramType) {
+            metrics.add(new LongGauge(
+                    name,
+                    description,
+                    () -> max(stats -> (long) stats.getHistogramData(histogramType).getPercentile95())
+            ));
+        }
+
+        private long sum(ToLongFunction<Statistics> value) {
+            long sum = 0;
+
+            for (Statistics stats : statistics.get()) {
+                sum += value.applyAsLong(stats);
+            }
+
+            return sum;
+        }
+
+        private long max(ToLongFunction<Statistics> value) {
+            long max = 0;
+
+            for (Statistics stats : statistics.get()) {
+                max = Math.max(max, value.applyAsLong(stats));
+            }
+
+            return max;
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
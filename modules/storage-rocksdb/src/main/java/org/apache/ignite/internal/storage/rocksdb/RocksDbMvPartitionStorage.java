@@ -44,6 +44,7 @@ import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.KEY
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.createKey;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.normalize;
 import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
+import static org.apache.ignite.internal.storage.util.StorageUtils.rowIdsLookupOrder;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageInProgressOfRebalance;
@@ -53,6 +54,8 @@ import static org.apache.ignite.internal.util.ByteUtils.longToBytes;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
@@ -725,10 +728,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return busy(() -> {
             throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
 
-            if (rowId.partitionId() != partitionId) {
-                throw new IllegalArgumentException(
-                        String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
-            }
+            checkRowIdPartition(rowId);
 
             try (
                     // Set next partition as an upper bound.
@@ -744,6 +744,41 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            rowIds.forEach(this::checkRowIdPartition);
+
+            var result = new ReadResult[rowIds.size()];
+
+            try (
+                    // Set next partition as an upper bound.
+                    RocksIterator baseIterator = db.newIterator(helper.partCf, helper.upperBoundReadOpts);
+                    RocksIterator seekIterator = wrapIterator(baseIterator, helper.partCf)
+            ) {
+                // A single iterator is reused for the whole batch, seeks in key order keep it moving forward through the same blocks.
+                for (int i : rowIdsLookupOrder(rowIds)) {
+                    RowId rowId = rowIds.get(i);
+
+                    result[i] = lookingForLatestVersions(timestamp)
+                            ? readLatestVersion(rowId, seekIterator)
+                            : readByTimestamp(seekIterator, rowId, timestamp);
+                }
+            }
+
+            return Arrays.asList(result);
+        });
+    }
+
+    private void checkRowIdPartition(RowId rowId) {
+        if (rowId.partitionId() != partitionId) {
+            throw new IllegalArgumentException(
+                    String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+        }
+    }
+
     private static boolean lookingForLatestVersions(HybridTimestamp timestamp) {
         return timestamp == HybridTimestamp.MAX_VALUE;
     }
@@ -1156,6 +1191,18 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         gc.deleteQueue(writeBatch);
     }
 
+    /**
+     * Drops SST files that contain only the data of this partition, without waiting for the compaction to do it. Must only be called
+     * after the range deletion written by {@link #destroyData} has been flushed, otherwise the partition may be partially restored after
+     * a restart.
+     */
+    void deleteDataFiles() throws RocksDBException {
+        List<byte[]> range = List.of(helper.partitionStartPrefix(), helper.partitionEndPrefix());
+
+        db.deleteFilesInRanges(helper.partCf, range, false);
+        db.deleteFilesInRanges(helper.dataCf, range, false);
+    }
+
     @Override
     public @Nullable GcEntry peek(HybridTimestamp lowWatermark) {
         WriteBatchWithIndex batch = requireWriteBatch();
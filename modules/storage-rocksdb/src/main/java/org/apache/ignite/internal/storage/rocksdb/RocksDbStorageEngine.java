@@ -22,6 +22,8 @@ import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -32,6 +34,7 @@ import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.MetricSource;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.configurations.StorageProfileView;
@@ -44,6 +47,7 @@ import org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance
 import org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstanceCreator;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.rocksdb.RocksDB;
+import org.rocksdb.Statistics;
 
 /**
  * Storage engine implementation based on RocksDB.
@@ -91,6 +95,8 @@ public class RocksDbStorageEngine implements StorageEngine {
 
     private final LogSyncer logSyncer;
 
+    private final RocksDbMetricSource metricSource = new RocksDbMetricSource(this::statistics);
+
     /**
      * Constructor.
      *
@@ -153,6 +159,21 @@ public class RocksDbStorageEngine implements StorageEngine {
         return ENGINE_NAME;
     }
 
+    @Override
+    public List<MetricSource> metricSources() {
+        return List.of(metricSource);
+    }
+
+    private Iterable<Statistics> statistics() {
+        var statistics = new ArrayList<Statistics>(storageByProfileName.size());
+
+        for (RocksDbStorage storage : storageByProfileName.values()) {
+            statistics.add(storage.profile.statistics());
+        }
+
+        return statistics;
+    }
+
     @Override
     public void start() throws StorageException {
         // TODO: IGNITE-17066 Add handling deleting/updating storage profiles configuration
@@ -189,9 +210,14 @@ public class RocksDbStorageEngine implements StorageEngine {
 
     @Override
     public void stop() throws StorageException {
+        // Profiles are removed before being closed, so that metrics do not access the statistics of stopped profiles.
+        var storages = new ArrayList<>(storageByProfileName.values());
+
+        storageByProfileName.clear();
+
         try {
             closeAll(
-                    () -> closeAllManually(storageByProfileName.values()),
+                    () -> closeAllManually(storages),
                     () -> shutdownAndAwaitTermination(threadPool, 10, TimeUnit.SECONDS)
             );
         } catch (Exception e) {
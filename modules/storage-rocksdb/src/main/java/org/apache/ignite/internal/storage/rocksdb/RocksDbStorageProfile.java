@@ -17,10 +17,28 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.CLOCK_CACHE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.LEVEL_COMPACTION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.LRU_CACHE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.LZ4_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.NO_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.SNAPPY_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.UNIVERSAL_COMPACTION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.ZSTD_COMPRESSION;
+
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileView;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Filter;
+import org.rocksdb.HyperClockCache;
+import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
+import org.rocksdb.Statistics;
 import org.rocksdb.WriteBufferManager;
 
 /**
@@ -36,6 +54,12 @@ public class RocksDbStorageProfile {
     /** Write buffer manager instance. */
     private WriteBufferManager writeBufferManager;
 
+    /** Bloom filter policy shared by all column families that use filters. */
+    private Filter bloomFilter;
+
+    /** Statistics collected by the RocksDB instance of the profile. */
+    private Statistics statistics;
+
     /**
      * Constructor.
      *
@@ -53,9 +77,27 @@ public class RocksDbStorageProfile {
 
         long totalCacheSize = storageProfileConfig.size() + writeBufferSize;
 
-        cache = new LRUCache(totalCacheSize, -1, false);
+        cache = createCache(storageProfileConfig.cacheType(), totalCacheSize);
 
         writeBufferManager = new WriteBufferManager(writeBufferSize, cache);
+
+        bloomFilter = new BloomFilter(storageProfileConfig.bloomFilterBitsPerKey());
+
+        statistics = new Statistics();
+    }
+
+    private static Cache createCache(String cacheType, long capacity) {
+        switch (cacheType) {
+            case LRU_CACHE:
+                return new LRUCache(capacity, -1, false);
+
+            case CLOCK_CACHE:
+                // Zero estimated entry charge enables automatic tuning of the table size.
+                return new HyperClockCache(capacity, 0, -1, false);
+
+            default:
+                throw new IllegalArgumentException("Unknown cache type: " + cacheType);
+        }
     }
 
     /**
@@ -69,7 +111,7 @@ public class RocksDbStorageProfile {
      * Closes and frees resources associated with this profile.
      */
     public void stop() throws Exception {
-        IgniteUtils.closeAll(writeBufferManager, cache);
+        IgniteUtils.closeAll(statistics, bloomFilter, writeBufferManager, cache);
     }
 
     /**
@@ -78,4 +120,73 @@ public class RocksDbStorageProfile {
     public WriteBufferManager writeBufferManager() {
         return writeBufferManager;
     }
+
+    /**
+     * Returns statistics collected by the RocksDB instance of the profile.
+     */
+    public Statistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Applies the table format, compression and compaction settings of the profile to the column family options.
+     *
+     * @param options Column family options.
+     * @param withBloomFilter Whether the column family should use bloom filters, useful for point and prefix lookups.
+     * @return Passed column family options.
+     */
+    public ColumnFamilyOptions configure(ColumnFamilyOptions options, boolean withBloomFilter) {
+        var tableConfig = new BlockBasedTableConfig().setBlockCache(cache);
+
+        if (withBloomFilter) {
+            tableConfig.setFilterPolicy(bloomFilter);
+        }
+
+        if (storageProfileConfig.partitionedIndexAndFilters()) {
+            tableConfig
+                    .setIndexType(IndexType.kTwoLevelIndexSearch)
+                    .setPartitionFilters(withBloomFilter)
+                    .setCacheIndexAndFilterBlocks(true)
+                    .setCacheIndexAndFilterBlocksWithHighPriority(true)
+                    .setPinTopLevelIndexAndFilter(true);
+        }
+
+        return options
+                .setTableFormatConfig(tableConfig)
+                .setCompressionType(compressionType(storageProfileConfig.compression()))
+                .setBottommostCompressionType(compressionType(storageProfileConfig.bottommostCompression()))
+                .setCompactionStyle(compactionStyle(storageProfileConfig.compactionStyle()));
+    }
+
+    private static CompressionType compressionType(String compression) {
+        switch (compression) {
+            case NO_COMPRESSION:
+                return CompressionType.NO_COMPRESSION;
+
+            case SNAPPY_COMPRESSION:
+                return CompressionType.SNAPPY_COMPRESSION;
+
+            case LZ4_COMPRESSION:
+                return CompressionType.LZ4_COMPRESSION;
+
+            case ZSTD_COMPRESSION:
+                return CompressionType.ZSTD_COMPRESSION;
+
+            default:
+                throw new IllegalArgumentException("Unknown compression: " + compression);
+        }
+    }
+
+    private static CompactionStyle compactionStyle(String compactionStyle) {
+        switch (compactionStyle) {
+            case LEVEL_COMPACTION:
+                return CompactionStyle.LEVEL;
+
+            case UNIVERSAL_COMPACTION:
+                return CompactionStyle.UNIVERSAL;
+
+            default:
+                throw new IllegalArgumentException("Unknown compaction style: " + compactionStyle);
+        }
+    }
 }
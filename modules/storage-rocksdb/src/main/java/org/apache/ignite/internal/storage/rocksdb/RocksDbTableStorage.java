@@ -31,6 +31,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
@@ -58,6 +60,8 @@ import org.rocksdb.WriteBatch;
  * Table storage implementation based on {@link RocksDB} instance.
  */
 public class RocksDbTableStorage implements MvTableStorage {
+    private static final IgniteLogger LOG = Loggers.forClass(RocksDbTableStorage.class);
+
     private final SharedRocksDbInstance rocksDb;
 
     /** Partition storages. */
@@ -225,6 +229,13 @@ public class RocksDbTableStorage implements MvTableStorage {
         return inBusyLock(busyLock, () -> mvPartitionStorages.get(partitionId));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Besides writing the range deletion, drops SST files holding nothing but the partition data, so that their space is reclaimed
+     * without waiting for the compaction. No flush of the shared RocksDB instance is required for that. Failure to drop the files is
+     * logged and doesn't fail the destruction, the compaction removes the data in that case.
+     */
     @Override
     public CompletableFuture<Void> destroyPartition(int partitionId) {
         if (!busyLock.enterBusy()) {
@@ -243,19 +254,36 @@ public class RocksDbTableStorage implements MvTableStorage {
                     indexes.destroyAllIndexesForPartition(partitionId, writeBatch);
 
                     rocksDb.db.write(DFLT_WRITE_OPTS, writeBatch);
-
-                    return nullCompletedFuture();
                 } catch (RocksDBException e) {
                     throw new IgniteRocksDbException(
                             String.format("Error when destroying storage: [%s]", mvPartitionStorages.createStorageInfo(partitionId)), e
                     );
                 }
+
+                // Range deletion only hides the data until compaction reaches it, SST files that contain nothing but this partition's
+                // data can be dropped right away. Files are dropped before the destruction completes, so a re-created partition with the
+                // same ID never has its data in them. The data that is still in memtables is covered by the range deletion.
+                deleteDataFiles(mvPartitionStorage);
+
+                return nullCompletedFuture();
             });
         } finally {
             busyLock.leaveBusy();
         }
     }
 
+    private void deleteDataFiles(RocksDbMvPartitionStorage mvPartitionStorage) {
+        try {
+            mvPartitionStorage.deleteDataFiles();
+        } catch (RocksDBException e) {
+            LOG.warn(
+                    "Error when deleting storage files, they will be removed by the compaction: [{}]",
+                    e,
+                    mvPartitionStorages.createStorageInfo(mvPartitionStorage.partitionId())
+            );
+        }
+    }
+
     @Override
     public SortedIndexStorage getOrCreateSortedIndex(int partitionId, StorageSortedIndexDescriptor indexDescriptor) {
         return inBusyLock(busyLock, () -> {
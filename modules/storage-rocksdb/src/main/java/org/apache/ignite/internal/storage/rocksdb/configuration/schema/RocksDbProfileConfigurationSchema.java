@@ -19,6 +19,7 @@ package org.apache.ignite.internal.storage.rocksdb.configuration.schema;
 
 import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 import org.apache.ignite.internal.storage.configurations.StorageProfileConfigurationSchema;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
@@ -28,6 +29,30 @@ import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
  */
 @PolymorphicConfigInstance("rocksdb")
 public class RocksDbProfileConfigurationSchema extends StorageProfileConfigurationSchema {
+    /** LRU block cache. */
+    public static final String LRU_CACHE = "LRU";
+
+    /** Hyper clock block cache, scales better than LRU under concurrent reads. */
+    public static final String CLOCK_CACHE = "CLOCK";
+
+    /** No compression. */
+    public static final String NO_COMPRESSION = "NONE";
+
+    /** Snappy compression. */
+    public static final String SNAPPY_COMPRESSION = "SNAPPY";
+
+    /** LZ4 compression. */
+    public static final String LZ4_COMPRESSION = "LZ4";
+
+    /** ZSTD compression. */
+    public static final String ZSTD_COMPRESSION = "ZSTD";
+
+    /** Level compaction. */
+    public static final String LEVEL_COMPACTION = "LEVEL";
+
+    /** Universal compaction, lower write amplification at the cost of space and read amplification. */
+    public static final String UNIVERSAL_COMPACTION = "UNIVERSAL";
+
     /** Size of the rocksdb offheap cache. */
     @Value(hasDefault = true)
     public long size = 256 * 1024 * 1024;
@@ -36,4 +61,33 @@ public class RocksDbProfileConfigurationSchema extends StorageProfileConfigurati
     @Value(hasDefault = true)
     @Range(min = 1)
     public long writeBufferSize = 64 * 1024 * 1024;
+
+    /** Type of the block cache. */
+    @OneOf({LRU_CACHE, CLOCK_CACHE})
+    @Value(hasDefault = true)
+    public String cacheType = LRU_CACHE;
+
+    /** Compression of the data blocks of the last level. */
+    @OneOf({NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public String bottommostCompression = SNAPPY_COMPRESSION;
+
+    /** Compression of the data blocks of all levels except the last one. */
+    @OneOf({NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public String compression = SNAPPY_COMPRESSION;
+
+    /** Compaction style. */
+    @OneOf({LEVEL_COMPACTION, UNIVERSAL_COMPACTION})
+    @Value(hasDefault = true)
+    public String compactionStyle = LEVEL_COMPACTION;
+
+    /** Number of bits per key of the bloom filters. */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public int bloomFilterBitsPerKey = 10;
+
+    /** Whether index and filter blocks are partitioned and kept in the block cache instead of the heap of table readers. */
+    @Value(hasDefault = true)
+    public boolean partitionedIndexAndFilters = false;
 }
@@ -53,6 +53,7 @@ import org.apache.ignite.internal.storage.rocksdb.IndexIdCursor;
 import org.apache.ignite.internal.storage.rocksdb.IndexIdCursor.TableAndIndexId;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageProfile;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.jetbrains.annotations.Nullable;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -102,6 +103,9 @@ public final class SharedRocksDbInstance {
     /** RocksDB storage engine instance. */
     public final RocksDbStorageEngine engine;
 
+    /** Storage profile of the instance, defines the options of new column families. */
+    private final RocksDbStorageProfile profile;
+
     /** Path for the directory that stores the data. */
     public final Path path;
 
@@ -140,6 +144,7 @@ public final class SharedRocksDbInstance {
 
     SharedRocksDbInstance(
             RocksDbStorageEngine engine,
+            RocksDbStorageProfile profile,
             Path path,
             IgniteSpinBusyLock busyLock,
             RocksDbFlusher flusher,
@@ -153,6 +158,7 @@ public final class SharedRocksDbInstance {
             List<AutoCloseable> resources
     ) {
         this.engine = engine;
+        this.profile = profile;
         this.path = path;
         this.busyLock = busyLock;
 
@@ -416,7 +422,7 @@ public final class SharedRocksDbInstance {
     }
 
     private ColumnFamily createSortedIndexCf(byte[] cfName) {
-        ColumnFamilyOptions cfOptions = sortedIndexCfOptions(cfName);
+        ColumnFamilyOptions cfOptions = sortedIndexCfOptions(cfName, profile);
         this.resources.add(0, cfOptions); // Added to the first position of the resources.
         ColumnFamilyDescriptor cfDescriptor = new ColumnFamilyDescriptor(cfName, cfOptions);
 
@@ -40,8 +40,6 @@ import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageProfile;
 import org.apache.ignite.internal.storage.rocksdb.index.AbstractRocksDbIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndexStorage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
-import org.rocksdb.BlockBasedTableConfig;
-import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -81,7 +79,7 @@ public class SharedRocksDbInstanceCreator {
                     () -> {} // No-op.
             );
 
-            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(path);
+            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(path, profile);
 
             List<ColumnFamilyHandle> cfHandles = new ArrayList<>(cfDescriptors.size());
 
@@ -92,6 +90,7 @@ public class SharedRocksDbInstanceCreator {
                     .setAtomicFlush(true)
                     .setListeners(List.of(flusher.listener()))
                     .setWriteBufferManager(profile.writeBufferManager())
+                    .setStatistics(profile.statistics())
                     // Don't flush on shutdown to speed up node shutdown as on recovery we'll apply commands from log.
                     .setAvoidFlushDuringShutdown(true)
             );
@@ -150,6 +149,7 @@ public class SharedRocksDbInstanceCreator {
 
             return new SharedRocksDbInstance(
                     engine,
+                    profile,
                     path,
                     busyLock,
                     flusher,
@@ -180,7 +180,7 @@ public class SharedRocksDbInstanceCreator {
     /**
      * Returns a list of CF descriptors present in the RocksDB instance.
      */
-    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(Path path) throws RocksDBException {
+    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(Path path, RocksDbStorageProfile profile) throws RocksDBException {
         String absolutePathStr = path.toAbsolutePath().toString();
 
         List<byte[]> existingNames;
@@ -196,43 +196,41 @@ public class SharedRocksDbInstanceCreator {
         }
 
         return existingNames.stream()
-                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(cfName, path)))
+                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(cfName, path, profile)))
                 .collect(toList());
     }
 
     @SuppressWarnings("resource")
-    private ColumnFamilyOptions createCfOptions(byte[] cfName, Path path) {
+    private ColumnFamilyOptions createCfOptions(byte[] cfName, Path path, RocksDbStorageProfile profile) {
         String utf8cfName = toStringName(cfName);
 
         switch (ColumnFamilyType.fromCfName(utf8cfName)) {
             case META:
             case GC_QUEUE:
             case DATA:
-                return add(new ColumnFamilyOptions());
+                return add(profile.configure(new ColumnFamilyOptions(), false));
 
             case PARTITION:
-                return add(defaultCfOptions().useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE));
+                return add(defaultCfOptions(profile).useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE));
 
             case HASH_INDEX:
-                return add(defaultCfOptions().useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH));
+                return add(defaultCfOptions(profile).useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH));
 
             case SORTED_INDEX:
-                return add(sortedIndexCfOptions(cfName));
+                return add(sortedIndexCfOptions(cfName, profile));
             default:
                 throw new StorageException("Unidentified column family: [name={}, path={}]", cfName, path);
         }
     }
 
     @SuppressWarnings("resource")
-    private static ColumnFamilyOptions defaultCfOptions() {
-        return new ColumnFamilyOptions()
-                .setMemtablePrefixBloomSizeRatio(0.125)
-                .setTableFormatConfig(new BlockBasedTableConfig().setFilterPolicy(new BloomFilter()));
+    private static ColumnFamilyOptions defaultCfOptions(RocksDbStorageProfile profile) {
+        return profile.configure(new ColumnFamilyOptions().setMemtablePrefixBloomSizeRatio(0.125), true);
     }
 
     @SuppressWarnings("resource")
-    static ColumnFamilyOptions sortedIndexCfOptions(byte[] cfName) {
-        return new ColumnFamilyOptions()
+    static ColumnFamilyOptions sortedIndexCfOptions(byte[] cfName, RocksDbStorageProfile profile) {
+        return profile.configure(new ColumnFamilyOptions(), false)
                 .setComparator(ColumnFamilyUtils.comparatorFromCfName(cfName))
                 .useCappedPrefixExtractor(AbstractRocksDbIndexStorage.PREFIX_WITH_IDS_LENGTH);
     }
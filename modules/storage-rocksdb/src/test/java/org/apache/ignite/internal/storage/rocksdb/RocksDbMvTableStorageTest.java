@@ -23,10 +23,12 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -49,6 +51,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDBException;
 
 /**
  * Tests for the {@link RocksDbTableStorage}.
@@ -121,11 +125,9 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
             return partitionStorage1.addWrite(rowId1, testData, txId, COMMIT_TABLE_ID, 0);
         });
 
+        // Partition destruction completes after the range deletion is flushed.
         tableStorage.destroyPartition(PARTITION_ID_0).get(1, TimeUnit.SECONDS);
 
-        // Partition destruction doesn't enforce flush.
-        ((RocksDbTableStorage) tableStorage).awaitFlush(true);
-
         assertThat(tableStorage.getMvPartition(PARTITION_ID_0), is(nullValue()));
         assertThat(getOrCreateMvPartition(PARTITION_ID_0).read(rowId0, HybridTimestamp.MAX_VALUE).binaryRow(),
                 is(nullValue()));
@@ -133,6 +135,43 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
                 is(equalTo(unwrap(testData))));
     }
 
+    /**
+     * Tests that destroying a partition drops the SST files that contain only its data.
+     */
+    @Test
+    void testDropPartitionDeletesDataFiles() throws Exception {
+        MvPartitionStorage partitionStorage = getOrCreateMvPartition(PARTITION_ID_0);
+
+        partitionStorage.runConsistently(locker -> {
+            for (int i = 0; i < 100; i++) {
+                RowId rowId = new RowId(PARTITION_ID_0);
+
+                locker.lock(rowId);
+
+                partitionStorage.addWriteCommitted(rowId, binaryRow(new TestKey(i, "" + i), new TestValue(i, "" + i)), clock.now());
+            }
+
+            return null;
+        });
+
+        var rocksDbTableStorage = (RocksDbTableStorage) tableStorage;
+
+        assertThat(rocksDbTableStorage.awaitFlush(true), willCompleteSuccessfully());
+
+        // Move the data out of L0, files of L0 are never dropped by the range file deletion.
+        rocksDbTableStorage.db().compactRange(rocksDbTableStorage.partitionCfHandle());
+        rocksDbTableStorage.db().compactRange(rocksDbTableStorage.dataCfHandle());
+
+        assertThat(dataFilesCount(rocksDbTableStorage, rocksDbTableStorage.partitionCfHandle()), is(greaterThan(0L)));
+        assertThat(dataFilesCount(rocksDbTableStorage, rocksDbTableStorage.dataCfHandle()), is(greaterThan(0L)));
+
+        assertThat(tableStorage.destroyPartition(PARTITION_ID_0), willCompleteSuccessfully());
+
+        // Files are dropped without flushing the range deletion, which stays in the memtable.
+        assertThat(dataFilesCount(rocksDbTableStorage, rocksDbTableStorage.partitionCfHandle()), is(0L));
+        assertThat(dataFilesCount(rocksDbTableStorage, rocksDbTableStorage.dataCfHandle()), is(0L));
+    }
+
     /**
      * Tests that restarting the storage does not result in data loss.
      */
@@ -178,4 +217,13 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
     void storageAdvertisesItIsPersistent() {
         assertThat(tableStorage.isVolatile(), is(false));
     }
+
+    /** Returns the number of live SST files of the column family below L0. */
+    private static long dataFilesCount(RocksDbTableStorage tableStorage, ColumnFamilyHandle cf) throws RocksDBException {
+        byte[] cfName = cf.getName();
+
+        return tableStorage.db().getLiveFilesMetaData().stream()
+                .filter(file -> file.level() > 0 && Arrays.equals(file.columnFamilyName(), cfName))
+                .count();
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.storage.rocksdb.engine;
+
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.engine.AbstractStorageEngineTest;
+import org.apache.ignite.internal.storage.engine.StorageEngine;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageProfile;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbTableStorage;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileView;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
+import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
+import org.apache.ignite.internal.testframework.InjectExecutorService;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.IndexType;
+import org.rocksdb.RocksDBException;
+
+/**
+ * Implementation of the {@link AbstractStorageEngineTest} for the {@link RocksDbStorageEngine#ENGINE_NAME} engine with a profile that
+ * overrides all table format, compression and compaction defaults.
+ */
+@ExtendWith(ExecutorServiceExtension.class)
+@ExtendWith(WorkDirectoryExtension.class)
+public class RocksDbStorageEngineTunedProfileTest extends AbstractStorageEngineTest {
+    @InjectConfiguration("mock.flushDelayMillis = 0")
+    private RocksDbStorageEngineConfiguration engineConfiguration;
+
+    @InjectConfiguration("mock.profiles.default {engine = rocksdb, cacheType = CLOCK, compression = LZ4, bottommostCompression = ZSTD,"
+            + " compactionStyle = UNIVERSAL, bloomFilterBitsPerKey = 16, partitionedIndexAndFilters = true}")
+    StorageConfiguration storageConfiguration;
+
+    @WorkDirectory
+    private Path workDir;
+
+    @InjectExecutorService
+    private ScheduledExecutorService scheduledExecutor;
+
+    private RocksDbStorageEngine engine;
+
+    @Override
+    protected StorageEngine createEngine() {
+        engine = new RocksDbStorageEngine(
+                "test",
+                engineConfiguration,
+                storageConfiguration,
+                workDir,
+                logSyncer,
+                scheduledExecutor
+        );
+
+        return engine;
+    }
+
+    @Test
+    void testColumnFamilyOptionsCarryProfileSettings() throws Exception {
+        var profile = new RocksDbStorageProfile(profileView());
+
+        profile.start();
+
+        try (
+                ColumnFamilyOptions withFilter = profile.configure(new ColumnFamilyOptions(), true);
+                ColumnFamilyOptions withoutFilter = profile.configure(new ColumnFamilyOptions(), false);
+                BloomFilter expectedFilter = new BloomFilter(16)
+        ) {
+            for (ColumnFamilyOptions options : new ColumnFamilyOptions[] {withFilter, withoutFilter}) {
+                assertThat(options.compressionType(), is(CompressionType.LZ4_COMPRESSION));
+                assertThat(options.bottommostCompressionType(), is(CompressionType.ZSTD_COMPRESSION));
+                assertThat(options.compactionStyle(), is(CompactionStyle.UNIVERSAL));
+
+                assertThat(options.tableFormatConfig(), is(instanceOf(BlockBasedTableConfig.class)));
+
+                var tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+
+                assertThat(tableConfig.indexType(), is(IndexType.kTwoLevelIndexSearch));
+                assertThat(tableConfig.cacheIndexAndFilterBlocks(), is(true));
+                assertThat(tableConfig.pinTopLevelIndexAndFilter(), is(true));
+            }
+
+            var tableConfigWithFilter = (BlockBasedTableConfig) withFilter.tableFormatConfig();
+
+            assertThat(tableConfigWithFilter.filterPolicy(), is(expectedFilter));
+            assertThat(tableConfigWithFilter.partitionFilters(), is(true));
+
+            var tableConfigWithoutFilter = (BlockBasedTableConfig) withoutFilter.tableFormatConfig();
+
+            assertThat(tableConfigWithoutFilter.filterPolicy(), is(nullValue()));
+            assertThat(tableConfigWithoutFilter.partitionFilters(), is(false));
+        } finally {
+            profile.stop();
+        }
+    }
+
+    @Test
+    void testBlockCacheAndStatistics() throws Exception {
+        RocksDbProfileView profileView = profileView();
+
+        MetricSet metricSet = engine.metricSources().stream()
+                .map(MetricSource::enable)
+                .findFirst()
+                .orElseThrow();
+
+        RocksDbTableStorage tableStorage = engine.createMvTable(
+                new StorageTableDescriptor(1, 1, DEFAULT_STORAGE_PROFILE),
+                mock(StorageIndexDescriptorSupplier.class)
+        );
+
+        try (AutoCloseable ignored0 = tableStorage::close) {
+            assertThat(blockCacheCapacity(tableStorage), is(profileView.size() + profileView.writeBufferSize()));
+
+            CompletableFuture<MvPartitionStorage> partitionFuture = tableStorage.createMvPartition(0);
+
+            assertThat(partitionFuture, willCompleteSuccessfully());
+
+            MvPartitionStorage partitionStorage = partitionFuture.join();
+
+            try (AutoCloseable ignored1 = partitionStorage::close) {
+                partitionStorage.runConsistently(locker -> {
+                    partitionStorage.lastApplied(10, 20);
+
+                    return null;
+                });
+
+                assertThat(partitionStorage.flush(), willCompleteSuccessfully());
+            }
+        }
+
+        assertThat(metricSet, is(notNullValue()));
+        assertThat(metricSet.<LongMetric>get("BytesWritten").value(), is(greaterThan(0L)));
+        assertThat(metricSet.<LongMetric>get("FlushBytesWritten").value(), is(greaterThan(0L)));
+    }
+
+    private RocksDbProfileView profileView() {
+        return (RocksDbProfileView) storageConfiguration.profiles().value().get(DEFAULT_STORAGE_PROFILE);
+    }
+
+    private static long blockCacheCapacity(RocksDbTableStorage tableStorage) throws RocksDBException {
+        return tableStorage.db().getLongProperty("rocksdb.block-cache-capacity");
+    }
+}
@@ -349,6 +349,7 @@ public class ItColocationTest extends BaseIgniteAbstractTest {
                 TABLE_ID, // table id.
                 PARTS, // number of partitions.
                 new SingleClusterNodeResolver(clusterNode),
+                () -> clusterNode,
                 txManager,
                 mock(MvTableStorage.class),
                 new TestTxStateStorage(),
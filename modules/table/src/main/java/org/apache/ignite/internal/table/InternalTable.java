@@ -213,6 +213,20 @@ public interface InternalTable extends ManuallyCloseable {
      */
     CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition);
 
+    /**
+     * Asynchronously updates records in the table (insert, update, delete) as a batch of a bulk load. The batch takes an exclusive lock
+     * on the table partition instead of locking every row and index entry, see {@link DataStreamerOptions#bulkLoad()}.
+     *
+     * @param rows Rows to update.
+     * @param deleted Bit set indicating deleted rows (one bit per item in {@param rows}). When null, no rows are deleted.
+     * @param partition Partition that the rows belong to.
+     * @param bulkLoad Whether the batch is a part of a bulk load.
+     * @return Future representing pending completion of the operation.
+     */
+    default CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition, boolean bulkLoad) {
+        return updateAll(rows, deleted, partition);
+    }
+
     /**
      * Asynchronously inserts a row into the table or replaces if exists and return replaced previous row.
      *
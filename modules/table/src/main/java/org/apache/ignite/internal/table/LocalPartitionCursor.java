@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.internal.thread.PublicApiThreading.execUserSyncOperation;
+import static org.apache.ignite.internal.util.ViewUtils.sync;
+
+import java.util.NoSuchElementException;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.thread.ThreadAttributes;
+import org.apache.ignite.internal.util.PendingComparableValuesTracker;
+import org.apache.ignite.lang.Cursor;
+import org.apache.ignite.table.Tuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cursor over the rows of a partition, which are read directly from the storage of the local node without sending requests to the
+ * replica. The rows are read at the read timestamp of a read-only transaction, once the local replica has applied all updates up to that
+ * timestamp.
+ *
+ * <p>Committed row versions are returned straight from the storage. A row with a write intent is read by a regular read-only lookup by
+ * its key, which resolves the state of the writing transaction on the primary replica.
+ *
+ * <p>The cursor is a part of the public API of compute jobs, so its methods are executed as user sync operations. This allows them to
+ * read the storage from any thread that runs jobs, including virtual threads, which cannot carry {@link ThreadAttributes}.
+ */
+public class LocalPartitionCursor implements Cursor<Tuple> {
+    private final TableViewInternal table;
+
+    private final InternalTransaction tx;
+
+    private final SchemaRegistry schemaRegistry;
+
+    private final int schemaVersion;
+
+    private final PartitionTimestampCursor storageCursor;
+
+    private @Nullable Tuple next;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param table Table.
+     * @param partitionId Partition ID.
+     * @param tx Read-only transaction, which read timestamp is used for the scan. The transaction is committed when the cursor is closed.
+     * @throws IllegalStateException If the partition is not stored on the local node.
+     */
+    public LocalPartitionCursor(TableViewInternal table, int partitionId, InternalTransaction tx) {
+        assert tx.isReadOnly() : "Local partition scan requires a read-only transaction: " + tx.id();
+
+        InternalTable internalTable = table.internalTable();
+
+        MvPartitionStorage partitionStorage = internalTable.storage().getMvPartition(partitionId);
+        PendingComparableValuesTracker<HybridTimestamp, Void> safeTimeTracker = internalTable.getPartitionSafeTimeTracker(partitionId);
+
+        if (partitionStorage == null || safeTimeTracker == null) {
+            throw new IllegalStateException(format(
+                    "Partition is not stored on the local node [table={}, partitionId={}]",
+                    table.name(), partitionId
+            ));
+        }
+
+        HybridTimestamp readTimestamp = tx.readTimestamp();
+
+        this.table = table;
+        this.tx = tx;
+        this.schemaRegistry = table.schemaView();
+        // Rows are returned in the schema that is active at the read timestamp, same as for any other read in the transaction.
+        this.schemaVersion = sync(table.schemaVersions().schemaVersionAt(readTimestamp, table.tableId()));
+        this.storageCursor = execUserSyncOperation(() -> {
+            // Same as the replica does for read-only requests: all updates that may be visible at the read timestamp must be applied
+            // first.
+            sync(safeTimeTracker.waitFor(readTimestamp));
+
+            return partitionStorage.scan(readTimestamp);
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        return execUserSyncOperation(() -> {
+            while (next == null && !closed && storageCursor.hasNext()) {
+                next = resolve(storageCursor.next());
+            }
+
+            return next != null;
+        });
+    }
+
+    @Override
+    public Tuple next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Tuple res = next;
+
+        next = null;
+
+        return res;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        execUserSyncOperation(() -> {
+            try {
+                storageCursor.close();
+            } finally {
+                tx.commit();
+            }
+        });
+    }
+
+    private @Nullable Tuple resolve(ReadResult readResult) {
+        if (!readResult.isWriteIntent()) {
+            BinaryRow row = readResult.binaryRow();
+
+            return row == null ? null : TableRow.tuple(schemaRegistry.resolve(row, schemaVersion));
+        }
+
+        // Any version of the row gives its key: the write intent itself, or the newest committed version if the intent is a removal.
+        BinaryRow keySource = readResult.binaryRow();
+
+        if (keySource == null) {
+            HybridTimestamp newestCommitTimestamp = readResult.newestCommitTimestamp();
+
+            keySource = newestCommitTimestamp == null ? null : storageCursor.committed(newestCommitTimestamp);
+        }
+
+        if (keySource == null) {
+            // A removal of a row that has never been committed, the row is not visible regardless of the writing transaction outcome.
+            return null;
+        }
+
+        Tuple key = TableRow.keyTuple(schemaRegistry.resolve(keySource, schemaVersion));
+
+        return sync(table.recordView().getAsync(tx, key));
+    }
+}
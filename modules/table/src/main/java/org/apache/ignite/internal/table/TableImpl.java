@@ -163,6 +163,11 @@ public class TableImpl implements TableViewInternal {
         return schemaReg;
     }
 
+    @Override
+    public SchemaVersions schemaVersions() {
+        return schemaVersions;
+    }
+
     @Override
     public void schemaView(SchemaRegistry schemaReg) {
         Objects.requireNonNull(schemaReg, () -> "Schema registry must not be null [tableName=" + name() + ']');
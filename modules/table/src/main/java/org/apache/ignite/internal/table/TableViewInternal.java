@@ -22,6 +22,7 @@ import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor;
 import org.apache.ignite.internal.table.distributed.PartitionSet;
+import org.apache.ignite.internal.table.distributed.schema.SchemaVersions;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.mapper.Mapper;
@@ -59,6 +60,11 @@ public interface TableViewInternal extends Table {
      */
     void schemaView(SchemaRegistry schemaReg);
 
+    /**
+     * Returns access to the schema versions of the table, which obeys the rules of Schema Synchronization.
+     */
+    SchemaVersions schemaVersions();
+
     /**
      * Returns a partition ID for a key tuple.
      *
@@ -199,6 +199,8 @@ import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewProvider;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.LongPriorityQueue;
@@ -256,7 +258,7 @@ import org.jetbrains.annotations.TestOnly;
 /**
  * Table manager.
  */
-public class TableManager implements IgniteTablesInternal, IgniteComponent {
+public class TableManager implements IgniteTablesInternal, IgniteComponent, SystemViewProvider {
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(TableManager.class);
 
@@ -625,6 +627,11 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
         );
     }
 
+    @Override
+    public List<SystemView<?>> systemViews() {
+        return List.of(mvGc.systemView());
+    }
+
     @Override
     public CompletableFuture<Void> startAsync(ComponentContext componentContext) {
         return inBusyLockAsync(busyLock, () -> {
@@ -1685,6 +1692,7 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
                 tableDescriptor.id(),
                 partitions,
                 topologyService,
+                topologyService::localMember,
                 txManager,
                 tableStorage,
                 txStateStorage,
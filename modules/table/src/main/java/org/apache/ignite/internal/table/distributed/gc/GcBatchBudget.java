@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.table.distributed.gc;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Budget of garbage collection batch sizes shared by all the partitions of a node.
+ *
+ * <p>Partitions with a garbage backlog grow their batches above the configured size, and take the increments from this budget. So the
+ * amount of garbage collected per scheduling round above the configured batch size does not grow with the number of partitions that
+ * have a backlog.
+ */
+class GcBatchBudget {
+    /** Ratio between the budget and the configured batch size. */
+    static final int BUDGET_MULTIPLIER = 64;
+
+    /** Sum of the batch size increments taken by the partitions. */
+    private final AtomicLong used = new AtomicLong();
+
+    /**
+     * Takes a batch size increment from the budget.
+     *
+     * @param amount Requested increment.
+     * @param configuredBatchSize Batch size from the configuration.
+     * @return Granted increment, from {@code 0} to {@code amount}.
+     */
+    int acquire(int amount, int configuredBatchSize) {
+        long limit = (long) configuredBatchSize * BUDGET_MULTIPLIER;
+
+        while (true) {
+            long current = used.get();
+
+            int granted = (int) Math.min(amount, Math.max(0, limit - current));
+
+            if (granted == 0 || used.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Returns a batch size increment to the budget.
+     *
+     * @param amount Increment to return.
+     */
+    void release(int amount) {
+        used.addAndGet(-amount);
+    }
+
+    /** Returns the sum of the batch size increments taken by the partitions. */
+    long used() {
+        return used.get();
+    }
+}
@@ -18,12 +18,20 @@
 package org.apache.ignite.internal.table.distributed.gc;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Container for handling storage by the garbage collector.
  */
 class GcStorageHandler {
+    /** Maximum ratio between the adapted and the configured batch size. */
+    static final int MAX_BATCH_SIZE_MULTIPLIER = 64;
+
+    /** Batch duration, exceeding which shrinks the batch size, so that a batch does not hold row locks for too long. */
+    static final long TARGET_BATCH_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     /**
      * Handler of multi-versioned partition storage and its indexes for garbage collection.
      *
@@ -39,7 +47,89 @@ class GcStorageHandler {
      */
     final AtomicReference<CompletableFuture<Void>> gcInProgressFuture = new AtomicReference<>();
 
-    GcStorageHandler(GcUpdateHandler gcUpdateHandler) {
+    /** Number of completed garbage collection batches. */
+    final AtomicLong completedBatches = new AtomicLong();
+
+    /** Budget of the batch size increments shared with the other partitions. */
+    private final GcBatchBudget budget;
+
+    /** Increment of the batch size over the configured one, taken from the {@link #budget}. Changed under the handler monitor. */
+    private volatile int extraBatchSize;
+
+    /** Whether there was garbage left after the last batch. */
+    private volatile boolean garbageLeft;
+
+    /** Number of entries collected per second by the last batch that did not drain the partition. */
+    private volatile long throughput;
+
+    GcStorageHandler(GcUpdateHandler gcUpdateHandler, GcBatchBudget budget) {
         this.gcUpdateHandler = gcUpdateHandler;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the size of the next garbage collection batch.
+     *
+     * @param configuredBatchSize Batch size from the configuration.
+     */
+    int batchSize(int configuredBatchSize) {
+        return configuredBatchSize + extraBatchSize;
+    }
+
+    /**
+     * Adapts the batch size after a garbage collection batch. While the partition has garbage left, and batches are fast enough, the
+     * batch size grows, so that partitions with a large backlog get more work per scheduling round than partitions with little garbage.
+     * The growth is taken from the budget shared with the other partitions, and is returned to it once the batch size shrinks.
+     *
+     * @param configuredBatchSize Batch size from the configuration.
+     * @param garbageLeft Whether there is garbage left in the partition.
+     * @param durationNanos Duration of the batch.
+     */
+    synchronized void onBatchCompleted(int configuredBatchSize, boolean garbageLeft, long durationNanos) {
+        completedBatches.incrementAndGet();
+
+        this.garbageLeft = garbageLeft;
+
+        int size = batchSize(configuredBatchSize);
+
+        if (garbageLeft) {
+            // The batch has collected exactly the requested number of entries only if the partition is not drained.
+            throughput = size * TimeUnit.SECONDS.toNanos(1) / Math.max(1, durationNanos);
+        }
+
+        if (!garbageLeft) {
+            size = configuredBatchSize;
+        } else if (durationNanos > TARGET_BATCH_DURATION_NANOS) {
+            size = Math.max(configuredBatchSize, size / 2);
+        } else {
+            size = (int) Math.min((long) configuredBatchSize * MAX_BATCH_SIZE_MULTIPLIER, (long) size * 2);
+        }
+
+        int extra = size - configuredBatchSize;
+
+        if (extra > extraBatchSize) {
+            extraBatchSize += budget.acquire(extra - extraBatchSize, configuredBatchSize);
+        } else if (extra < extraBatchSize) {
+            budget.release(extraBatchSize - extra);
+
+            extraBatchSize = extra;
+        }
+    }
+
+    /** Returns the batch size increment of the partition to the shared budget, once the partition is no longer collected. */
+    synchronized void releaseBudget() {
+        budget.release(extraBatchSize);
+
+        extraBatchSize = 0;
+    }
+
+    /** Returns whether there was garbage left after the last garbage collection batch. */
+    boolean garbageLeft() {
+        return garbageLeft;
+    }
+
+    /** Returns the number of entries collected per second by the last batch that did not drain the partition. */
+    long throughput() {
+        return throughput;
     }
 }
@@ -21,11 +21,15 @@ import static org.apache.ignite.internal.event.EventListener.fromConsumer;
 import static org.apache.ignite.internal.lowwatermark.event.LowWatermarkEvent.LOW_WATERMARK_CHANGED;
 import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_READ;
 import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_WRITE;
+import static org.apache.ignite.internal.type.NativeTypes.BOOLEAN;
+import static org.apache.ignite.internal.type.NativeTypes.INT32;
+import static org.apache.ignite.internal.type.NativeTypes.INT64;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLockSafe;
 import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -44,8 +48,11 @@ import org.apache.ignite.internal.lowwatermark.LowWatermark;
 import org.apache.ignite.internal.lowwatermark.event.ChangeLowWatermarkEventParameters;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.schema.configuration.GcConfiguration;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.TrackerClosedException;
 import org.apache.ignite.lang.ErrorGroups.GarbageCollector;
 import org.jetbrains.annotations.TestOnly;
@@ -79,6 +86,9 @@ public class MvGc implements ManuallyCloseable {
     /** Storage handler by table partition ID for which garbage will be collected. */
     private final ConcurrentMap<TablePartitionId, GcStorageHandler> storageHandlerByPartitionId = new ConcurrentHashMap<>();
 
+    /** Budget of the batch size increments shared by the partitions. */
+    private final GcBatchBudget batchBudget = new GcBatchBudget();
+
     /**
      * Constructor.
      *
@@ -121,7 +131,7 @@ public class MvGc implements ManuallyCloseable {
         inBusyLock(() -> {
             GcStorageHandler previous = storageHandlerByPartitionId.putIfAbsent(
                     tablePartitionId,
-                    new GcStorageHandler(gcUpdateHandler)
+                    new GcStorageHandler(gcUpdateHandler, batchBudget)
             );
 
             // TODO: IGNITE-18939 Should be called once, you need to check that previous == null
@@ -150,10 +160,31 @@ public class MvGc implements ManuallyCloseable {
 
             CompletableFuture<Void> gcInProgressFuture = removed.gcInProgressFuture.get();
 
-            return gcInProgressFuture == null ? nullCompletedFuture() : gcInProgressFuture;
+            if (gcInProgressFuture == null) {
+                removed.releaseBudget();
+
+                return nullCompletedFuture();
+            }
+
+            return gcInProgressFuture.whenComplete((unused, throwable) -> removed.releaseBudget());
         });
     }
 
+    /** Returns system view exposing the garbage collection state of the local partition storages. */
+    public SystemView<?> systemView() {
+        return SystemViews.<Entry<TablePartitionId, GcStorageHandler>>nodeViewBuilder()
+                .name("GARBAGE_COLLECTION_PARTITIONS")
+                .nodeNameColumnAlias("NODE_NAME")
+                .<Integer>addColumn("TABLE_ID", INT32, entry -> entry.getKey().tableId())
+                .<Integer>addColumn("PARTITION_ID", INT32, entry -> entry.getKey().partitionId())
+                .<Boolean>addColumn("GARBAGE_LEFT", BOOLEAN, entry -> entry.getValue().garbageLeft())
+                .<Integer>addColumn("BATCH_SIZE", INT32, entry -> entry.getValue().batchSize(gcConfig.value().batchSize()))
+                .<Long>addColumn("COMPLETED_BATCHES", INT64, entry -> entry.getValue().completedBatches.get())
+                .<Long>addColumn("THROUGHPUT", INT64, entry -> entry.getValue().throughput())
+                .dataProvider(SubscriptionUtils.fromIterable(storageHandlerByPartitionId.entrySet()))
+                .build();
+    }
+
     private void onLwmChanged(ChangeLowWatermarkEventParameters parameters) {
         inBusyLockSafe(busyLock, () -> executor.submit(() -> inBusyLock(this::initNewGcBusy)));
     }
@@ -225,7 +256,7 @@ public class MvGc implements ManuallyCloseable {
                 // We can only start garbage collection when the partition safe time is reached.
                 gcUpdateHandler.getSafeTimeTracker()
                         .waitFor(lowWatermark)
-                        .thenApplyAsync(unused -> gcUpdateHandler.vacuumBatch(lowWatermark, gcConfig.value().batchSize(), true), executor)
+                        .thenApplyAsync(unused -> vacuumBatch(storageHandler, lowWatermark), executor)
                         .whenComplete((isGarbageLeft, throwable) -> {
                             if (throwable != null) {
                                 if (unwrapCause(throwable) instanceof TrackerClosedException) {
@@ -257,6 +288,22 @@ public class MvGc implements ManuallyCloseable {
         });
     }
 
+    private boolean vacuumBatch(GcStorageHandler storageHandler, HybridTimestamp lowWatermark) {
+        int configuredBatchSize = gcConfig.value().batchSize();
+
+        long startNanos = System.nanoTime();
+
+        boolean isGarbageLeft = storageHandler.gcUpdateHandler.vacuumBatch(
+                lowWatermark,
+                storageHandler.batchSize(configuredBatchSize),
+                true
+        );
+
+        storageHandler.onBatchCompleted(configuredBatchSize, isGarbageLeft, System.nanoTime() - startNanos);
+
+        return isGarbageLeft;
+    }
+
     private <T> T inBusyLock(Supplier<T> supplier) {
         if (!busyLock.enterBusy()) {
             throw new IgniteInternalException(GarbageCollector.CLOSED_ERR);
@@ -1128,15 +1128,7 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
         CompletableFuture<Void> safeReadFuture = isPrimaryInTimestamp(isPrimary, readTimestamp) ? nullCompletedFuture()
                 : safeTime.waitFor(request.readTimestamp());
 
-        return safeReadFuture.thenCompose(unused -> {
-            CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-            for (int i = 0; i < primaryKeys.size(); i++) {
-                resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-            }
-
-            return allOfToList(resolutionFuts);
-        });
+        return safeReadFuture.thenCompose(unused -> resolveRowsByPkForReadOnly(primaryKeys, readTimestamp));
     }
 
     /**
@@ -1423,6 +1415,22 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
         ).thenApply(ignore -> closeCursorIfBatchNotFull(result, batchCount, cursorId));
     }
 
+    /**
+     * Read-only index scan loop. Takes index rows from the cursor until the batch can be filled, reads all their rows from the storage
+     * with a single {@link MvPartitionStorage#readAll} call and collects the rows that match their index rows to the result.
+     *
+     * <p>Index entries are not versioned, so every one of them has to be checked against the row version visible at the read
+     * timestamp: an entry may belong to a row version that is newer than the read timestamp, to an aborted write or to a version that
+     * has been replaced by another one with different indexed columns.
+     *
+     * @param schemaAwareIndexStorage Index storage.
+     * @param cursor Index cursor.
+     * @param readTimestamp Read timestamp.
+     * @param batchSize Batch size.
+     * @param result Result collection.
+     * @param tableVersion Table schema version at the read timestamp.
+     * @return Future.
+     */
     private CompletableFuture<Void> continueReadOnlyIndexScan(
             TableSchemaAwareIndexStorage schemaAwareIndexStorage,
             Cursor<IndexRow> cursor,
@@ -1431,19 +1439,37 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
             List<BinaryRow> result,
             int tableVersion
     ) {
-        if (result.size() >= batchSize || !cursor.hasNext()) {
+        int remaining = batchSize - result.size();
+
+        if (remaining <= 0 || !cursor.hasNext()) {
             return nullCompletedFuture();
         }
 
-        IndexRow indexRow = cursor.next();
+        var indexRows = new ArrayList<IndexRow>(remaining);
+        var rowIds = new ArrayList<RowId>(remaining);
+
+        while (indexRows.size() < remaining && cursor.hasNext()) {
+            IndexRow indexRow = cursor.next();
+
+            indexRows.add(indexRow);
+            rowIds.add(indexRow.rowId());
+        }
+
+        List<ReadResult> readResults = mvDataStorage.readAll(rowIds, readTimestamp);
 
-        RowId rowId = indexRow.rowId();
+        CompletableFuture<TimedBinaryRow>[] resolutionFuts = new CompletableFuture[readResults.size()];
 
-        return resolvePlainReadResult(rowId, null, readTimestamp).thenComposeAsync(resolvedReadResult -> {
-            BinaryRow binaryRow = upgrade(binaryRow(resolvedReadResult), tableVersion);
+        for (int i = 0; i < readResults.size(); i++) {
+            resolutionFuts[i] = resolvePlainReadResult(rowIds.get(i), readResults.get(i), null, readTimestamp);
+        }
 
-            if (binaryRow != null && indexRowMatches(indexRow, binaryRow, schemaAwareIndexStorage)) {
-                result.add(binaryRow);
+        return allOf(resolutionFuts).thenComposeAsync(unused -> {
+            for (int i = 0; i < resolutionFuts.length; i++) {
+                BinaryRow binaryRow = upgrade(binaryRow(resolutionFuts[i].join()), tableVersion);
+
+                if (binaryRow != null && indexRowMatches(indexRows.get(i), binaryRow, schemaAwareIndexStorage)) {
+                    result.add(binaryRow);
+                }
             }
 
             return continueReadOnlyIndexScan(schemaAwareIndexStorage, cursor, readTimestamp, batchSize, result, tableVersion);
@@ -1564,6 +1590,24 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
     ) {
         ReadResult readResult = mvDataStorage.read(rowId, timestamp == null ? HybridTimestamp.MAX_VALUE : timestamp);
 
+        return resolvePlainReadResult(rowId, readResult, txId, timestamp);
+    }
+
+    /**
+     * Resolves a result of a direct storage read that has already been made.
+     *
+     * @param rowId Row id the result has been read for.
+     * @param readResult Read result.
+     * @param txId Transaction id is used for RW only.
+     * @param timestamp Read timestamp.
+     * @return Future finishes with the resolved binary row.
+     */
+    private CompletableFuture<@Nullable TimedBinaryRow> resolvePlainReadResult(
+            RowId rowId,
+            ReadResult readResult,
+            @Nullable UUID txId,
+            @Nullable HybridTimestamp timestamp
+    ) {
         return resolveReadResult(readResult, txId, timestamp, () -> {
             if (readResult.newestCommitTimestamp() == null) {
                 return null;
@@ -1775,31 +1819,45 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
 
         CompletableFuture<Void> lockFut = pkLocker.locksForLookupByKey(txId, pk);
 
-        Supplier<CompletableFuture<T>> sup = () -> {
-            boolean cursorClosureSetUp = false;
-            Cursor<RowId> cursor = null;
+        if (isCompletedSuccessfully(lockFut)) {
+            return resolveRowByPkWithoutLock(pk, txId, action);
+        } else {
+            return lockFut.thenCompose(ignored -> resolveRowByPkWithoutLock(pk, txId, action));
+        }
+    }
 
-            try {
-                cursor = getFromPkIndex(pk);
+    /**
+     * Finds the row and its identifier by given pk search row, without taking the lookup lock on the primary key index. The caller must
+     * hold a lock that covers the key.
+     *
+     * @param pk Binary Tuple representing a primary key.
+     * @param txId An identifier of the transaction regarding which we need to resolve the given row.
+     * @param action An action to perform on a resolved row.
+     * @param <T> A type of the value returned by action.
+     * @return A future object representing the result of the given action.
+     */
+    private <T> CompletableFuture<T> resolveRowByPkWithoutLock(
+            BinaryTuple pk,
+            UUID txId,
+            IgniteTriFunction<@Nullable RowId, @Nullable BinaryRow, @Nullable HybridTimestamp, CompletableFuture<T>> action
+    ) {
+        boolean cursorClosureSetUp = false;
+        Cursor<RowId> cursor = null;
 
-                Cursor<RowId> finalCursor = cursor;
-                CompletableFuture<T> resolvingFuture = continueResolvingByPk(cursor, txId, action)
-                        .whenComplete((res, ex) -> finalCursor.close());
+        try {
+            cursor = getFromPkIndex(pk);
 
-                cursorClosureSetUp = true;
+            Cursor<RowId> finalCursor = cursor;
+            CompletableFuture<T> resolvingFuture = continueResolvingByPk(cursor, txId, action)
+                    .whenComplete((res, ex) -> finalCursor.close());
 
-                return resolvingFuture;
-            } finally {
-                if (!cursorClosureSetUp && cursor != null) {
-                    cursor.close();
-                }
-            }
-        };
+            cursorClosureSetUp = true;
 
-        if (isCompletedSuccessfully(lockFut)) {
-            return sup.get();
-        } else {
-            return lockFut.thenCompose(ignored -> sup.get());
+            return resolvingFuture;
+        } finally {
+            if (!cursorClosureSetUp && cursor != null) {
+                cursor.close();
+            }
         }
     }
 
@@ -1924,65 +1982,115 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
         // It means that there exists one and only one non-empty readResult for any read timestamp for the given key.
         // Which in turn means that if we have found non empty readResult during PK index iteration
         // we can proceed with readResult resolution and stop the iteration.
-        try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
-            // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
-            List<ReadResult> writeIntents = new ArrayList<>();
-            List<ReadResult> regularEntries = new ArrayList<>();
+        List<ReadResult> readResults = new ArrayList<>();
 
+        try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
             for (RowId rowId : cursor) {
-                ReadResult readResult = mvDataStorage.read(rowId, ts);
+                readResults.add(mvDataStorage.read(rowId, ts));
+            }
+        }
 
-                if (readResult.isWriteIntent()) {
-                    writeIntents.add(readResult);
-                } else if (!readResult.isEmpty()) {
-                    regularEntries.add(readResult);
+        return resolveReadOnlyReadResults(readResults, ts);
+    }
+
+    /**
+     * Resolves rows by multiple primary keys for read only transaction. Row IDs of all keys are collected from the primary key index
+     * first and then read from the storage in one batch, see {@link MvPartitionStorage#readAll}.
+     *
+     * @param pks Primary keys.
+     * @param ts A timestamp regarding which we need to resolve the given rows.
+     * @return Future with rows in the order of the primary keys, {@code null} for keys that are not found.
+     */
+    private CompletableFuture<List<BinaryRow>> resolveRowsByPkForReadOnly(List<BinaryTuple> pks, HybridTimestamp ts) {
+        List<RowId> rowIds = new ArrayList<>(pks.size());
+        int[] rowIdsEnds = new int[pks.size()];
+
+        for (int i = 0; i < pks.size(); i++) {
+            try (Cursor<RowId> cursor = getFromPkIndex(pks.get(i))) {
+                for (RowId rowId : cursor) {
+                    rowIds.add(rowId);
                 }
             }
 
-            // Nothing found in the storage, return null.
-            if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
-                return nullCompletedFuture();
-            }
+            rowIdsEnds[i] = rowIds.size();
+        }
 
-            if (writeIntents.isEmpty()) {
-                // No write intents, then return the committed value. We already know that regularEntries is not empty.
-                return completedFuture(regularEntries.get(0).binaryRow());
-            } else {
-                ReadResult writeIntent = writeIntents.get(0);
+        List<ReadResult> readResults = mvDataStorage.readAll(rowIds, ts);
 
-                // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
-                // This means that we can just resolve the state of this transaction.
-                checkWriteIntentsBelongSameTx(writeIntents);
+        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[pks.size()];
 
-                return inBusyLockAsync(busyLock, () ->
-                        resolveWriteIntentReadability(writeIntent, ts)
-                                .thenApply(writeIntentReadable ->
-                                        inBusyLock(busyLock, () -> {
-                                            if (writeIntentReadable) {
-                                                return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
-                                            } else {
-                                                for (ReadResult wi : writeIntents) {
-                                                    HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+        for (int i = 0; i < pks.size(); i++) {
+            int from = i == 0 ? 0 : rowIdsEnds[i - 1];
 
-                                                    if (newestCommitTimestamp == null) {
-                                                        continue;
-                                                    }
+            resolutionFuts[i] = resolveReadOnlyReadResults(readResults.subList(from, rowIdsEnds[i]), ts);
+        }
+
+        return allOfToList(resolutionFuts);
+    }
+
+    /**
+     * Resolves a row for read only transaction from the read results of all row IDs found in the primary key index for one key.
+     *
+     * @param readResults Read results of the row IDs of one primary key.
+     * @param ts A timestamp regarding which we need to resolve the row.
+     * @return Result of the given action.
+     */
+    private CompletableFuture<@Nullable BinaryRow> resolveReadOnlyReadResults(List<ReadResult> readResults, HybridTimestamp ts) {
+        // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
+        List<ReadResult> writeIntents = new ArrayList<>();
+        List<ReadResult> regularEntries = new ArrayList<>();
 
-                                                    ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+        for (ReadResult readResult : readResults) {
+            if (readResult.isWriteIntent()) {
+                writeIntents.add(readResult);
+            } else if (!readResult.isEmpty()) {
+                regularEntries.add(readResult);
+            }
+        }
 
-                                                    assert !committedReadResult.isWriteIntent() :
-                                                            "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
-                                                                    + newestCommitTimestamp + ']';
+        // Nothing found in the storage, return null.
+        if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
+            return nullCompletedFuture();
+        }
 
-                                                    return committedReadResult.binaryRow();
+        if (writeIntents.isEmpty()) {
+            // No write intents, then return the committed value. We already know that regularEntries is not empty.
+            return completedFuture(regularEntries.get(0).binaryRow());
+        } else {
+            ReadResult writeIntent = writeIntents.get(0);
+
+            // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
+            // This means that we can just resolve the state of this transaction.
+            checkWriteIntentsBelongSameTx(writeIntents);
+
+            return inBusyLockAsync(busyLock, () ->
+                    resolveWriteIntentReadability(writeIntent, ts)
+                            .thenApply(writeIntentReadable ->
+                                    inBusyLock(busyLock, () -> {
+                                        if (writeIntentReadable) {
+                                            return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
+                                        } else {
+                                            for (ReadResult wi : writeIntents) {
+                                                HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+
+                                                if (newestCommitTimestamp == null) {
+                                                    continue;
                                                 }
 
-                                                // No suitable value found in write intents, read the committed value (if exists)
-                                                return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                                ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+
+                                                assert !committedReadResult.isWriteIntent() :
+                                                        "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
+                                                                + newestCommitTimestamp + ']';
+
+                                                return committedReadResult.binaryRow();
                                             }
-                                        }))
-                );
-            }
+
+                                            // No suitable value found in write intents, read the committed value (if exists)
+                                            return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                        }
+                                    }))
+            );
         }
     }
 
@@ -2037,13 +2145,7 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
                     format("Unknown single request [actionType={}]", request.requestType()));
         }
 
-        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-        for (int i = 0; i < primaryKeys.size(); i++) {
-            resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-        }
-
-        return allOfToList(resolutionFuts);
+        return resolveRowsByPkForReadOnly(primaryKeys, readTimestamp);
     }
 
     /**
@@ -2197,125 +2299,164 @@ public class PartitionReplicaListener implements ReplicaListener, ReplicaTablePr
                 });
             }
             case RW_UPSERT_ALL: {
-                CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>>[] rowIdFuts = new CompletableFuture[searchRows.size()];
-                BinaryTuple[] pks = new BinaryTuple[searchRows.size()];
+                if (request.bulkLoad()) {
+                    assert request.full() : "Bulk load is only supported in implicit transactions [txId=" + txId + ']';
 
-                Map<UUID, HybridTimestamp> lastCommitTimes = new ConcurrentHashMap<>();
-                BitSet deleted = request.deleted();
+                    // A bulk load batch takes the table partition exclusively instead of locking every row and index entry.
+                    return lockManager.acquire(txId, new LockKey(tableLockKey), LockMode.X)
+                            .thenCompose(tableLock -> processUpsertAll(request, leaseStartTime, true));
+                }
 
-                // When the same key is updated multiple times within the same batch, we need to maintain operation order and apply
-                // only the last update. This map stores the previous searchRows index for each key.
-                Map<ByteBuffer, Integer> prevRowIdx = new HashMap<>();
+                return processUpsertAll(request, leaseStartTime, false);
+            }
+            default: {
+                throw new IgniteInternalException(Replicator.REPLICA_COMMON_ERR,
+                        format("Unknown multi request [actionType={}]", request.requestType()));
+            }
+        }
+    }
 
-                for (int i = 0; i < searchRows.size(); i++) {
-                    BinaryRow searchRow = searchRows.get(i);
-                    boolean isDelete = deleted != null && deleted.get(i);
+    /**
+     * Processes {@link RequestType#RW_UPSERT_ALL} request.
+     *
+     * @param request Multi request operation.
+     * @param leaseStartTime Lease start time.
+     * @param bulkLoad Whether the batch is a part of a bulk load. In this case the caller holds an exclusive lock on the table partition,
+     *         and neither rows nor index entries are locked.
+     * @return Listener response.
+     */
+    private CompletableFuture<ReplicaResult> processUpsertAll(
+            ReadWriteMultiRowReplicaRequest request,
+            long leaseStartTime,
+            boolean bulkLoad
+    ) {
+        UUID txId = request.transactionId();
+        List<BinaryRow> searchRows = request.binaryRows();
 
-                    BinaryTuple pk = isDelete
-                            ? resolvePk(searchRow.tupleSlice())
-                            : extractPk(searchRow);
+        CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>>[] rowIdFuts = new CompletableFuture[searchRows.size()];
+        BinaryTuple[] pks = new BinaryTuple[searchRows.size()];
 
-                    pks[i] = pk;
+        Map<UUID, HybridTimestamp> lastCommitTimes = new ConcurrentHashMap<>();
+        BitSet deleted = request.deleted();
 
-                    Integer prevRowIdx0 = prevRowIdx.put(pk.byteBuffer(), i);
-                    if (prevRowIdx0 != null) {
-                        rowIdFuts[prevRowIdx0] = nullCompletedFuture(); // Skip previous row with the same key.
-                    }
-                }
+        // When the same key is updated multiple times within the same batch, we need to maintain operation order and apply
+        // only the last update. This map stores the previous searchRows index for each key.
+        Map<ByteBuffer, Integer> prevRowIdx = new HashMap<>();
 
-                for (int i = 0; i < searchRows.size(); i++) {
-                    if (rowIdFuts[i] != null) {
-                        continue; // Skip previous row with the same key.
-                    }
+        for (int i = 0; i < searchRows.size(); i++) {
+            BinaryRow searchRow = searchRows.get(i);
+            boolean isDelete = deleted != null && deleted.get(i);
 
-                    BinaryRow searchRow = searchRows.get(i);
-                    boolean isDelete = deleted != null && deleted.get(i);
+            BinaryTuple pk = isDelete
+                    ? resolvePk(searchRow.tupleSlice())
+                    : extractPk(searchRow);
 
-                    rowIdFuts[i] = resolveRowByPk(pks[i], txId, (rowId, row, lastCommitTime) -> {
-                        if (isDelete && rowId == null) {
-                            return nullCompletedFuture();
-                        }
+            pks[i] = pk;
 
-                        if (lastCommitTime != null) {
-                            //noinspection DataFlowIssue (rowId is not null if lastCommitTime is not null)
-                            lastCommitTimes.put(rowId.uuid(), lastCommitTime);
-                        }
+            Integer prevRowIdx0 = prevRowIdx.put(pk.byteBuffer(), i);
+            if (prevRowIdx0 != null) {
+                rowIdFuts[prevRowIdx0] = nullCompletedFuture(); // Skip previous row with the same key.
+            }
+        }
 
-                        if (isDelete) {
-                            assert row != null;
+        for (int i = 0; i < searchRows.size(); i++) {
+            if (rowIdFuts[i] != null) {
+                continue; // Skip previous row with the same key.
+            }
 
-                            return takeLocksForDelete(row, rowId, txId)
-                                    .thenApply(id -> new IgniteBiTuple<>(id, null));
-                        }
+            BinaryRow searchRow = searchRows.get(i);
+            boolean isDelete = deleted != null && deleted.get(i);
 
-                        boolean insert = rowId == null;
-                        RowId rowId0 = insert ? new RowId(partId(), RowIdGenerator.next()) : rowId;
+            IgniteTriFunction<@Nullable RowId, @Nullable BinaryRow, @Nullable HybridTimestamp,
+                    CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>>> action = (rowId, row, lastCommitTime) -> {
+                if (isDelete && rowId == null) {
+                    return nullCompletedFuture();
+                }
 
-                        return insert
-                                ? takeLocksForInsert(searchRow, rowId0, txId)
-                                : takeLocksForUpdate(searchRow, rowId0, txId);
-                    });
+                if (lastCommitTime != null) {
+                    //noinspection DataFlowIssue (rowId is not null if lastCommitTime is not null)
+                    lastCommitTimes.put(rowId.uuid(), lastCommitTime);
                 }
 
-                return allOf(rowIdFuts).thenCompose(ignore -> {
-                    Map<UUID, TimedBinaryRowMessage> rowsToUpdate = IgniteUtils.newHashMap(searchRows.size());
-                    List<RowId> rows = new ArrayList<>();
+                if (isDelete && bulkLoad) {
+                    return completedFuture(new IgniteBiTuple<>(rowId, null));
+                }
 
-                    for (int i = 0; i < searchRows.size(); i++) {
-                        IgniteBiTuple<RowId, Collection<Lock>> locks = rowIdFuts[i].join();
-                        if (locks == null) {
-                            continue;
-                        }
+                if (isDelete) {
+                    assert row != null;
 
-                        RowId lockedRow = locks.get1();
+                    return takeLocksForDelete(row, rowId, txId)
+                            .thenApply(id -> new IgniteBiTuple<>(id, null));
+                }
 
-                        TimedBinaryRowMessageBuilder timedBinaryRowMessageBuilder = PARTITION_REPLICATION_MESSAGES_FACTORY
-                                .timedBinaryRowMessage()
-                                .timestamp(lastCommitTimes.get(lockedRow.uuid()));
+                boolean insert = rowId == null;
+                RowId rowId0 = insert ? new RowId(partId(), RowIdGenerator.next()) : rowId;
 
-                        if (deleted == null || !deleted.get(i)) {
-                            timedBinaryRowMessageBuilder.binaryRowMessage(binaryRowMessage(searchRows.get(i)));
-                        }
+                if (bulkLoad) {
+                    return completedFuture(new IgniteBiTuple<>(rowId0, null));
+                }
 
-                        rowsToUpdate.put(lockedRow.uuid(), timedBinaryRowMessageBuilder.build());
+                return insert
+                        ? takeLocksForInsert(searchRow, rowId0, txId)
+                        : takeLocksForUpdate(searchRow, rowId0, txId);
+            };
 
-                        rows.add(lockedRow);
-                    }
+            rowIdFuts[i] = bulkLoad ? resolveRowByPkWithoutLock(pks[i], txId, action) : resolveRowByPk(pks[i], txId, action);
+        }
 
-                    if (rowsToUpdate.isEmpty()) {
-                        return completedFuture(new ReplicaResult(null, null));
-                    }
+        return allOf(rowIdFuts).thenCompose(ignore -> {
+            Map<UUID, TimedBinaryRowMessage> rowsToUpdate = IgniteUtils.newHashMap(searchRows.size());
+            List<RowId> rows = new ArrayList<>();
 
-                    return validateWriteAgainstSchemaAfterTakingLocks(request.transactionId())
-                            .thenCompose(catalogVersion -> awaitCleanup(rows, catalogVersion))
-                            .thenCompose(
-                                    catalogVersion -> applyUpdateAllCommand(
-                                            request,
-                                            rowsToUpdate,
-                                            catalogVersion,
-                                            leaseStartTime
-                                    )
-                            )
-                            .thenApply(res -> {
-                                // Release short term locks.
-                                for (CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>> rowIdFut : rowIdFuts) {
-                                    IgniteBiTuple<RowId, Collection<Lock>> futRes = rowIdFut.join();
-                                    Collection<Lock> locks = futRes == null ? null : futRes.get2();
+            for (int i = 0; i < searchRows.size(); i++) {
+                IgniteBiTuple<RowId, Collection<Lock>> locks = rowIdFuts[i].join();
+                if (locks == null) {
+                    continue;
+                }
 
-                                    if (locks != null) {
-                                        locks.forEach(lock -> lockManager.release(lock.txId(), lock.lockKey(), lock.lockMode()));
-                                    }
-                                }
+                RowId lockedRow = locks.get1();
 
-                                return new ReplicaResult(null, res);
-                            });
-                });
+                TimedBinaryRowMessageBuilder timedBinaryRowMessageBuilder = PARTITION_REPLICATION_MESSAGES_FACTORY
+                        .timedBinaryRowMessage()
+                        .timestamp(lastCommitTimes.get(lockedRow.uuid()));
+
+                if (deleted == null || !deleted.get(i)) {
+                    timedBinaryRowMessageBuilder.binaryRowMessage(binaryRowMessage(searchRows.get(i)));
+                }
+
+                rowsToUpdate.put(lockedRow.uuid(), timedBinaryRowMessageBuilder.build());
+
+                rows.add(lockedRow);
             }
-            default: {
-                throw new IgniteInternalException(Replicator.REPLICA_COMMON_ERR,
-                        format("Unknown multi request [actionType={}]", request.requestType()));
+
+            if (rowsToUpdate.isEmpty()) {
+                return completedFuture(new ReplicaResult(null, null));
             }
-        }
+
+            return validateWriteAgainstSchemaAfterTakingLocks(request.transactionId())
+                    .thenCompose(catalogVersion -> awaitCleanup(rows, catalogVersion))
+                    .thenCompose(
+                            catalogVersion -> applyUpdateAllCommand(
+                                    request,
+                                    rowsToUpdate,
+                                    catalogVersion,
+                                    leaseStartTime
+                            )
+                    )
+                    .thenApply(res -> {
+                        // Release short term locks.
+                        for (CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>> rowIdFut : rowIdFuts) {
+                            IgniteBiTuple<RowId, Collection<Lock>> futRes = rowIdFut.join();
+                            Collection<Lock> locks = futRes == null ? null : futRes.get2();
+
+                            if (locks != null) {
+                                locks.forEach(lock -> lockManager.release(lock.txId(), lock.lockKey(), lock.lockMode()));
+                            }
+                        }
+
+                        return new ReplicaResult(null, res);
+                    });
+        });
     }
 
     /**
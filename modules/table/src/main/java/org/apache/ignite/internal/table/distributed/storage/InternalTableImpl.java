@@ -131,6 +131,7 @@ import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
+import org.apache.ignite.internal.util.TrackerClosedException;
 import org.apache.ignite.internal.utils.PrimaryReplica;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.network.ClusterNode;
@@ -177,6 +178,9 @@ public class InternalTableImpl implements InternalTable {
     /** Resolver that resolves a node consistent ID to cluster node. */
     private final ClusterNodeResolver clusterNodeResolver;
 
+    /** Supplier of the local cluster node. */
+    private final Supplier<ClusterNode> localNodeSupplier;
+
     /** Transactional manager. */
     protected final TxManager txManager;
 
@@ -220,6 +224,7 @@ public class InternalTableImpl implements InternalTable {
      * @param tableId Table identifier.
      * @param partitions Number of partitions.
      * @param clusterNodeResolver Cluster node resolver.
+     * @param localNodeSupplier Supplier of the local cluster node.
      * @param txManager Transaction manager.
      * @param tableStorage Table storage.
      * @param txStateStorage Transaction state storage.
@@ -235,6 +240,7 @@ public class InternalTableImpl implements InternalTable {
             int tableId,
             int partitions,
             ClusterNodeResolver clusterNodeResolver,
+            Supplier<ClusterNode> localNodeSupplier,
             TxManager txManager,
             MvTableStorage tableStorage,
             TxStateStorage txStateStorage,
@@ -252,6 +258,7 @@ public class InternalTableImpl implements InternalTable {
         this.tableId = tableId;
         this.partitions = partitions;
         this.clusterNodeResolver = clusterNodeResolver;
+        this.localNodeSupplier = localNodeSupplier;
         this.txManager = txManager;
         this.tableStorage = tableStorage;
         this.txStateStorage = txStateStorage;
@@ -916,7 +923,7 @@ public class InternalTableImpl implements InternalTable {
         }
 
         if (tx.isReadOnly()) {
-            return evaluateReadOnlyRecipientNode(partitionId(keyRow), tx.readTimestamp())
+            return evaluateReadOnlyRecipientNode(partitionId(keyRow), tx)
                     .thenCompose(recipientNode -> get(keyRow, tx.readTimestamp(), tx.id(), tx.coordinatorId(), recipientNode));
         }
 
@@ -1013,7 +1020,7 @@ public class InternalTableImpl implements InternalTable {
         if (tx != null && tx.isReadOnly()) {
             BinaryRowEx firstRow = keyRows.iterator().next();
 
-            return evaluateReadOnlyRecipientNode(partitionId(firstRow), tx.readTimestamp())
+            return evaluateReadOnlyRecipientNode(partitionId(firstRow), tx)
                     .thenCompose(recipientNode -> getAll(keyRows, tx.readTimestamp(), tx.id(), tx.coordinatorId(), recipientNode));
         }
 
@@ -1165,7 +1172,13 @@ public class InternalTableImpl implements InternalTable {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition) {
-        return updateAllWithRetry(rows, deleted, partition, null);
+        return updateAllWithRetry(rows, deleted, partition, false, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition, boolean bulkLoad) {
+        return updateAllWithRetry(rows, deleted, partition, bulkLoad, null);
     }
 
     /**
@@ -1174,6 +1187,7 @@ public class InternalTableImpl implements InternalTable {
      * @param rows Rows.
      * @param deleted Deleted.
      * @param partition The partition.
+     * @param bulkLoad Whether the batch is a part of a bulk load.
      * @param txStartTs Start timestamp.
      * @return The future.
      */
@@ -1181,6 +1195,7 @@ public class InternalTableImpl implements InternalTable {
             Collection<BinaryRowEx> rows,
             @Nullable BitSet deleted,
             int partition,
+            boolean bulkLoad,
             @Nullable Long txStartTs
     ) {
         InternalTransaction tx = txManager.beginImplicitRw(observableTimestampTracker);
@@ -1191,8 +1206,8 @@ public class InternalTableImpl implements InternalTable {
         CompletableFuture<Void> fut = enlistAndInvoke(
                 tx,
                 partition,
-                enlistmentConsistencyToken ->
-                        upsertAllInternal(rows, deleted, tx, replicationGroupId, enlistmentConsistencyToken, true),
+                enlistmentConsistencyToken -> readWriteMultiRowReplicaRequest(
+                        RW_UPSERT_ALL, rows, deleted, tx, replicationGroupId, enlistmentConsistencyToken, true, bulkLoad),
                 true,
                 null
         );
@@ -1206,7 +1221,7 @@ public class InternalTableImpl implements InternalTable {
                 long ts = (txStartTs == null) ? tx.startTimestamp().getPhysical() : txStartTs;
 
                 if (canRetry(e, ts, timeout)) {
-                    return updateAllWithRetry(rows, deleted, partition, ts);
+                    return updateAllWithRetry(rows, deleted, partition, bulkLoad, ts);
                 }
 
                 sneakyThrow(e);
@@ -1301,6 +1316,19 @@ public class InternalTableImpl implements InternalTable {
             ReplicationGroupId groupId,
             Long enlistmentConsistencyToken,
             boolean full
+    ) {
+        return readWriteMultiRowReplicaRequest(requestType, rows, deleted, tx, groupId, enlistmentConsistencyToken, full, false);
+    }
+
+    private ReadWriteMultiRowReplicaRequest readWriteMultiRowReplicaRequest(
+            RequestType requestType,
+            Collection<? extends BinaryRow> rows,
+            @Nullable BitSet deleted,
+            InternalTransaction tx,
+            ReplicationGroupId groupId,
+            Long enlistmentConsistencyToken,
+            boolean full,
+            boolean bulkLoad
     ) {
         assert allSchemaVersionsSame(rows) : "Different schema versions encountered: " + uniqueSchemaVersions(rows);
 
@@ -1311,6 +1339,7 @@ public class InternalTableImpl implements InternalTable {
                 .schemaVersion(rows.iterator().next().schemaVersion())
                 .binaryTuples(serializeBinaryTuples(rows))
                 .deleted(deleted)
+                .bulkLoad(bulkLoad)
                 .transactionId(tx.id())
                 .enlistmentConsistencyToken(enlistmentConsistencyToken)
                 .requestType(requestType)
@@ -2098,6 +2127,64 @@ public class InternalTableImpl implements InternalTable {
         // No-op
     }
 
+    /**
+     * Evaluates cluster node for read-only request processing within the transaction. Reads of a transaction with a staleness bound are
+     * served by the local replica, if there is one and its safe time has already reached the read timestamp, so that neither the
+     * primary replica is loaded nor the request waits for the safe time.
+     *
+     * @param partId Partition id.
+     * @param tx Read-only transaction.
+     * @return Cluster node to evaluate read-only request.
+     */
+    private CompletableFuture<ClusterNode> evaluateReadOnlyRecipientNode(int partId, InternalTransaction tx) {
+        HybridTimestamp readTimestamp = tx.readTimestamp();
+
+        if (tx.boundedStaleness()) {
+            ClusterNode localNode = localReplicaNode(partId, readTimestamp);
+
+            if (localNode != null) {
+                txManager.onReadOnlyRead(readStalenessMillis(readTimestamp), true);
+
+                return completedFuture(localNode);
+            }
+        }
+
+        return evaluateReadOnlyRecipientNode(partId, readTimestamp)
+                .thenApply(node -> {
+                    txManager.onReadOnlyRead(readStalenessMillis(readTimestamp), false);
+
+                    return node;
+                });
+    }
+
+    private long readStalenessMillis(HybridTimestamp readTimestamp) {
+        return clockService.current().getPhysical() - readTimestamp.getPhysical();
+    }
+
+    /**
+     * Returns the local node if it hosts a replica of the partition, which safe time is not less than the read timestamp, or {@code null}
+     * otherwise.
+     */
+    private @Nullable ClusterNode localReplicaNode(int partId, HybridTimestamp readTimestamp) {
+        PendingComparableValuesTracker<HybridTimestamp, Void> safeTimeTracker = safeTimeTrackerByPartitionId.get(partId);
+
+        if (safeTimeTracker == null) {
+            return null;
+        }
+
+        try {
+            if (safeTimeTracker.current().compareTo(readTimestamp) < 0) {
+                return null;
+            }
+        } catch (TrackerClosedException e) {
+            // The local replica has been stopped.
+            return null;
+        }
+
+        // The safe time tracker is only registered for the partitions, which replicas are hosted by the local node.
+        return localNodeSupplier.get();
+    }
+
     // TODO: IGNITE-17963 Use smarter logic for recipient node evaluation.
 
     /**
@@ -2292,18 +2379,6 @@ public class InternalTableImpl implements InternalTable {
         return readWriteMultiRowReplicaRequest(RW_UPSERT_ALL, keyRows0, null, txo, groupId, enlistmentConsistencyToken, full);
     }
 
-    private ReplicaRequest upsertAllInternal(
-            Collection<? extends BinaryRow> keyRows0,
-            @Nullable BitSet deleted,
-            InternalTransaction txo,
-            ReplicationGroupId groupId,
-            Long enlistmentConsistencyToken,
-            boolean full
-    ) {
-        return readWriteMultiRowReplicaRequest(
-                RW_UPSERT_ALL, keyRows0, deleted, txo, groupId, enlistmentConsistencyToken, full);
-    }
-
     /**
      * Ensure that the exception allows you to restart a transaction.
      *
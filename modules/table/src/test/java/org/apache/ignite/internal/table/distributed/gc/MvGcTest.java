@@ -26,6 +26,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -370,6 +371,77 @@ public class MvGcTest extends BaseIgniteAbstractTest {
         assertThat(invokeVacuumMethodFuture, willSucceedFast());
     }
 
+    @Test
+    void testAdaptiveBatchSize() {
+        int configured = 5;
+        long fast = 0;
+        long slow = GcStorageHandler.TARGET_BATCH_DURATION_NANOS + 1;
+
+        GcStorageHandler handler = new GcStorageHandler(createGcUpdateHandler(), new GcBatchBudget());
+
+        assertEquals(configured, handler.batchSize(configured));
+
+        // Batch size grows while there is garbage left and batches are fast.
+        handler.onBatchCompleted(configured, true, fast);
+        assertEquals(configured * 2, handler.batchSize(configured));
+
+        for (int i = 0; i < 10; i++) {
+            handler.onBatchCompleted(configured, true, fast);
+        }
+
+        assertEquals(configured * GcStorageHandler.MAX_BATCH_SIZE_MULTIPLIER, handler.batchSize(configured));
+        assertTrue(handler.garbageLeft());
+
+        // Slow batches shrink it.
+        handler.onBatchCompleted(configured, true, slow);
+        assertEquals(configured * GcStorageHandler.MAX_BATCH_SIZE_MULTIPLIER / 2, handler.batchSize(configured));
+
+        // No garbage left resets it.
+        handler.onBatchCompleted(configured, false, fast);
+        assertEquals(configured, handler.batchSize(configured));
+        assertFalse(handler.garbageLeft());
+
+        assertEquals(13, handler.completedBatches.get());
+    }
+
+    @Test
+    void testBatchSizeGrowthIsCappedAcrossPartitions() {
+        int configured = 5;
+        long fast = 0;
+
+        var budget = new GcBatchBudget();
+
+        GcStorageHandler handler0 = new GcStorageHandler(createGcUpdateHandler(), budget);
+        GcStorageHandler handler1 = new GcStorageHandler(createGcUpdateHandler(), budget);
+
+        for (int i = 0; i < 10; i++) {
+            handler0.onBatchCompleted(configured, true, fast);
+            handler1.onBatchCompleted(configured, true, fast);
+        }
+
+        long budgetSize = (long) configured * GcBatchBudget.BUDGET_MULTIPLIER;
+
+        // Each partition alone could grow to 64 times the configured size, but together they share the budget.
+        assertEquals(budgetSize, budget.used());
+        assertEquals(
+                2 * configured + budgetSize,
+                handler0.batchSize(configured) + handler1.batchSize(configured)
+        );
+
+        assertTrue(handler0.throughput() > 0);
+
+        // A drained partition returns its increment, so that the other one can take it.
+        handler0.onBatchCompleted(configured, false, fast);
+        assertEquals(configured, handler0.batchSize(configured));
+
+        handler1.onBatchCompleted(configured, true, fast);
+        assertEquals(configured * GcStorageHandler.MAX_BATCH_SIZE_MULTIPLIER, handler1.batchSize(configured));
+
+        // A removed partition returns its increment as well.
+        handler1.releaseBudget();
+        assertEquals(0, budget.used());
+    }
+
     private TablePartitionId createTablePartitionId() {
         return new TablePartitionId(nextTableId.getAndIncrement(), PARTITION_ID);
     }
@@ -227,7 +227,9 @@ import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.tostring.IgniteToStringInclude;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.tx.IncompatibleSchemaAbortException;
+import org.apache.ignite.internal.tx.LockKey;
 import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.LockMode;
 import org.apache.ignite.internal.tx.TransactionMeta;
 import org.apache.ignite.internal.tx.TransactionResult;
 import org.apache.ignite.internal.tx.TxManager;
@@ -1220,6 +1222,94 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         assertEquals(2, rows.size());
     }
 
+    @Test
+    public void testReadOnlyScanRetrieveBatchReplicaRequestSortedIndexWithWriteIntents() throws Exception {
+        int sortedIndexId = sortedIndexStorage.id();
+
+        UUID committedTxId = newTxId();
+        UUID pendingTxId = newTxId();
+        UUID committedWriteIntentTxId = newTxId();
+
+        txManager.updateTxMeta(pendingTxId, old -> new TxStateMeta(TxState.PENDING, localNode.id(), commitPartitionId, null, null));
+
+        // Committed rows, visible.
+        putToSortedIndex(addCommittedRow(committedTxId, 0), 0);
+        putToSortedIndex(addCommittedRow(committedTxId, 1), 1);
+
+        // Write intents of a pending transaction without committed versions, invisible.
+        putToSortedIndex(addWriteIntent(new RowId(PART_ID), pendingTxId, 2), 2);
+        putToSortedIndex(addWriteIntent(new RowId(PART_ID), pendingTxId, 3), 3);
+
+        // Write intents of a committed transaction, which have not been switched yet, visible.
+        putToSortedIndex(addWriteIntent(new RowId(PART_ID), committedWriteIntentTxId, 4), 4);
+        putToSortedIndex(addWriteIntent(new RowId(PART_ID), committedWriteIntentTxId, 5), 5);
+
+        txManager.updateTxMeta(
+                committedWriteIntentTxId,
+                old -> new TxStateMeta(COMMITTED, localNode.id(), commitPartitionId, clock.now(), null)
+        );
+
+        // A write intent of a pending transaction over a committed row. Only the committed version is visible, so the index entry of
+        // the write intent must not match the row.
+        RowId rewrittenRowId = addCommittedRow(committedTxId, 6);
+
+        putToSortedIndex(rewrittenRowId, 6);
+        putToSortedIndex(addWriteIntent(rewrittenRowId, pendingTxId, 7), 7);
+
+        UUID scanTxId = newTxId();
+        HybridTimestamp readTimestamp = clock.now();
+
+        // Small batches make the scan read the index rows in several storage reads, with invisible rows in between.
+        List<Integer> values = new ArrayList<>();
+
+        // The second batch is not full, which means that the scan is over.
+        for (int batch = 0; batch < 2; batch++) {
+            CompletableFuture<ReplicaResult> fut = partitionReplicaListener.invoke(
+                    TABLE_MESSAGES_FACTORY.readOnlyScanRetrieveBatchReplicaRequest()
+                            .groupId(tablePartitionIdMessage(grpId))
+                            .tableId(TABLE_ID)
+                            .transactionId(scanTxId)
+                            .readTimestamp(readTimestamp)
+                            .scanId(1L)
+                            .indexToUse(sortedIndexId)
+                            .batchSize(3)
+                            .coordinatorId(localNode.id())
+                            .build(), localNode.id());
+
+            List<BinaryRow> rows = (List<BinaryRow>) fut.get(1, TimeUnit.SECONDS).result();
+
+            for (BinaryRow row : rows) {
+                values.add(kvMarshaller.unmarshalValue(Row.wrapBinaryRow(schemaDescriptor, row)).intVal);
+            }
+        }
+
+        assertEquals(List.of(0, 1, 4, 5, 6), values);
+    }
+
+    private RowId addCommittedRow(UUID txId, int value) {
+        RowId rowId = new RowId(PART_ID);
+
+        addWriteIntent(rowId, txId, value);
+
+        testMvPartitionStorage.commitWrite(rowId, clock.now());
+
+        return rowId;
+    }
+
+    private RowId addWriteIntent(RowId rowId, UUID txId, int value) {
+        BinaryRow row = binaryRow(key(nextBinaryKey()), new TestValue(value, "val" + value));
+
+        testMvPartitionStorage.addWrite(rowId, row, txId, TABLE_ID, PART_ID);
+
+        return rowId;
+    }
+
+    private void putToSortedIndex(RowId rowId, int value) {
+        BinaryTuple indexedValue = new BinaryTuple(1, new BinaryTupleBuilder(1).appendInt(value).build());
+
+        sortedIndexStorage.storage().put(new IndexRowImpl(indexedValue, rowId));
+    }
+
     @Test
     public void testReadOnlyScanRetrieveBatchReplicaRequstHashIndex() throws Exception {
         UUID txId = newTxId();
@@ -1371,6 +1461,44 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         return marshaller.marshal(key);
     }
 
+    @Test
+    public void testBulkLoadUpsertAllTakesTablePartitionLock() {
+        UUID loadTxId = newTxId();
+        UUID writerTxId = newTxId();
+
+        BinaryRow row0 = binaryRow(0);
+        BinaryRow row1 = binaryRow(1);
+
+        assertThat(lockManager.acquire(writerTxId, new LockKey(grpId), LockMode.IX), willCompleteSuccessfully());
+
+        CompletableFuture<?> loadFut = partitionReplicaListener.invoke(TABLE_MESSAGES_FACTORY.readWriteMultiRowReplicaRequest()
+                        .groupId(tablePartitionIdMessage(grpId))
+                        .tableId(TABLE_ID)
+                        .transactionId(loadTxId)
+                        .requestType(RW_UPSERT_ALL)
+                        .schemaVersion(row0.schemaVersion())
+                        .binaryTuples(binaryRowsToBuffers(asList(row0, row1)))
+                        .enlistmentConsistencyToken(ANY_ENLISTMENT_CONSISTENCY_TOKEN)
+                        .commitPartitionId(commitPartitionId())
+                        .coordinatorId(localNode.id())
+                        .full(true)
+                        .bulkLoad(true)
+                        .timestamp(clock.now())
+                        .build(),
+                localNode.id()
+        );
+
+        // The batch waits for the exclusive table partition lock while a concurrent writer holds the intention lock.
+        assertFalse(loadFut.isDone());
+
+        lockManager.releaseAll(writerTxId);
+
+        assertThat(loadFut, willCompleteSuccessfully());
+
+        checkRowInMvStorage(row0, true);
+        checkRowInMvStorage(row1, true);
+    }
+
     @Test
     public void testWriteIntentOnPrimaryReplicaMultiRowOps() {
         UUID txId = newTxId();
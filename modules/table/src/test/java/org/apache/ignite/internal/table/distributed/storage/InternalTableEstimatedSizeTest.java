@@ -210,6 +210,7 @@ public class InternalTableEstimatedSizeTest extends BaseIgniteAbstractTest {
                 TABLE_ID,
                 PARTITIONS_NUM,
                 clusterService.topologyService(),
+                clusterService.topologyService()::localMember,
                 txManager,
                 tableStorage,
                 txStateStorage,
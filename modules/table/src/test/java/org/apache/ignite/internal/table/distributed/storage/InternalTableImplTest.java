@@ -36,14 +36,18 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import java.nio.ByteBuffer;
@@ -66,6 +70,7 @@ import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.network.SingleClusterNodeResolver;
 import org.apache.ignite.internal.partition.replicator.network.replication.MultipleRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.MultipleRowReplicaRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.RequestType;
 import org.apache.ignite.internal.partition.replicator.network.replication.ScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.SingleRowPkReplicaRequest;
@@ -76,6 +81,7 @@ import org.apache.ignite.internal.placementdriver.leases.Lease;
 import org.apache.ignite.internal.replicator.ReplicaService;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.replicator.message.ReplicaMessagesFactory;
 import org.apache.ignite.internal.replicator.message.ReplicaRequest;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
@@ -103,6 +109,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -233,6 +240,7 @@ public class InternalTableImplTest extends BaseIgniteAbstractTest {
                 tableId,
                 partitionCount, // number of partitions.
                 new SingleClusterNodeResolver(clusterNode),
+                () -> clusterNode,
                 txManager,
                 mock(MvTableStorage.class),
                 mock(TxStateStorage.class),
@@ -321,6 +329,88 @@ public class InternalTableImplTest extends BaseIgniteAbstractTest {
         );
     }
 
+    @Test
+    void implicitSinglePartitionBatchIsCommittedInOnePhase() {
+        InternalTable table = newInternalTable(TABLE_ID, 2);
+
+        stubImplicitReadWriteTransaction();
+
+        assertThat(table.upsertAll(List.of(createBinaryRow(0), createBinaryRow(0)), null), willCompleteSuccessfully());
+
+        ArgumentCaptor<ReplicaRequest> requestCaptor = ArgumentCaptor.captor();
+
+        verify(replicaService).invokeRaw(anyString(), requestCaptor.capture());
+
+        // The write and the commit are a single replica request, no finish protocol follows.
+        assertTrue(((ReadWriteReplicaRequest) requestCaptor.getValue()).full());
+
+        verify(txManager).finishFull(any(), any(), any(), eq(true));
+        verify(txManager, never()).finish(any(), any(), anyBoolean(), any(), any());
+    }
+
+    @Test
+    void implicitMultiPartitionBatchIsCommittedInTwoPhases() {
+        InternalTable table = newInternalTable(TABLE_ID, 2);
+
+        stubImplicitReadWriteTransaction();
+
+        assertThat(table.upsertAll(List.of(createBinaryRow(0), createBinaryRow(1)), null), willCompleteSuccessfully());
+
+        verify(replicaService, never()).invokeRaw(anyString(), any());
+        verify(txManager, never()).finishFull(any(), any(), any(), anyBoolean());
+        verify(txManager).finish(any(), any(), eq(true), any(), any());
+    }
+
+    @ParameterizedTest(name = "localReplicaCaughtUp={0}")
+    @ValueSource(booleans = {true, false})
+    void boundedStalenessReadIsServedByLocalReplicaThatCaughtUp(boolean localReplicaCaughtUp) {
+        InternalTableImpl table = newInternalTable(TABLE_ID, 1);
+
+        HybridTimestamp readTimestamp = clock.now();
+        HybridTimestamp safeTime = localReplicaCaughtUp ? readTimestamp : HybridTimestamp.MIN_VALUE;
+
+        table.updatePartitionTrackers(0, new PendingComparableValuesTracker<>(safeTime), new PendingComparableValuesTracker<>(0L));
+
+        InternalTransaction tx = mock(InternalTransaction.class);
+
+        lenient().when(tx.isReadOnly()).thenReturn(true);
+        lenient().when(tx.boundedStaleness()).thenReturn(true);
+        lenient().when(tx.readTimestamp()).thenReturn(readTimestamp);
+        lenient().when(tx.id()).thenReturn(TestTransactionIds.newTransactionId());
+        // The read is sent to the local node regardless of the transaction coordinator.
+        lenient().when(tx.coordinatorId()).thenReturn(randomUUID());
+
+        when(replicaService.invoke(any(ClusterNode.class), any())).thenReturn(nullCompletedFuture());
+
+        assertThat(table.get(createBinaryRow(), tx), willCompleteSuccessfully());
+
+        verify(replicaService).invoke(eq(clusterNode), any());
+
+        // The primary replica is only looked up when the local replica can't serve the read yet.
+        verify(placementDriver, localReplicaCaughtUp ? never() : times(1)).awaitPrimaryReplica(any(), any(), anyLong(), any());
+
+        verify(txManager).onReadOnlyRead(anyLong(), eq(localReplicaCaughtUp));
+    }
+
+    private void stubImplicitReadWriteTransaction() {
+        InternalTransaction implicitTx = new ReadWriteTransactionImpl(
+                txManager,
+                mock(HybridTimestampTracker.class),
+                TestTransactionIds.newTransactionId(),
+                randomUUID(),
+                true,
+                10_000
+        );
+
+        when(txManager.beginImplicitRw(any())).thenReturn(implicitTx);
+
+        lenient().when(replicaService.invokeRaw(anyString(), any())).thenReturn(completedFuture(
+                new ReplicaMessagesFactory().timestampAwareReplicaResponse()
+                        .timestamp(clock.now())
+                        .build()
+        ));
+    }
+
     private static BinaryRowEx createBinaryRow(int colocationHash) {
         BinaryRowEx rowEx = mock(BinaryRowEx.class);
 
@@ -652,6 +652,7 @@ public class ItTxTestCluster {
                 tableId,
                 1, // number of partitions.
                 nodeResolver,
+                () -> (startClient ? client : clusterServices.get(localNodeName)).topologyService().localMember(),
                 clientTxManager,
                 mock(MvTableStorage.class),
                 mock(TxStateStorage.class),
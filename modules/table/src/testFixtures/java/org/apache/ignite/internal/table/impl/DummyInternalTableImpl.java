@@ -279,6 +279,7 @@ public class DummyInternalTableImpl extends InternalTableImpl {
                 nextTableId.getAndIncrement(), // table id.
                 1, // number of partitions.
                 new SingleClusterNodeResolver(LOCAL_NODE),
+                () -> LOCAL_NODE,
                 txManager(replicaSvc, placementDriver, txConfiguration, resourcesRegistry),
                 mock(MvTableStorage.class),
                 new TestTxStateStorage(),
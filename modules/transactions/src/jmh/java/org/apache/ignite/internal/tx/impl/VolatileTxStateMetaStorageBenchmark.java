@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.internal.tx.TxState.COMMITTED;
+import static org.apache.ignite.internal.tx.TxState.PENDING;
+
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.replicator.TablePartitionId;
+import org.apache.ignite.internal.tx.TxStateMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmark for VolatileTxStateMetaStorage. */
+@State(Scope.Benchmark)
+@OutputTimeUnit(MILLISECONDS)
+@Timeout(time = 200, timeUnit = MILLISECONDS)
+@Warmup(iterations = 2, time = 5, timeUnit = MILLISECONDS)
+@Measurement(time = 5, timeUnit = MILLISECONDS, iterations = 5)
+public class VolatileTxStateMetaStorageBenchmark {
+    private static final int ITERATIONS_COUNT = 10_000;
+
+    private static final UUID COORDINATOR_ID = UUID.randomUUID();
+
+    private static final TablePartitionId COMMIT_PARTITION_ID = new TablePartitionId(1, 0);
+
+    /** Moves transactions from the pending state to the committed one in the cycle. */
+    @Benchmark
+    public static void pendingToCommitted() {
+        VolatileTxStateMetaStorage storage = startedStorage();
+
+        for (int i = 0; i < ITERATIONS_COUNT; i++) {
+            UUID txId = new UUID(i, i);
+            int ts = i;
+
+            storage.updateMeta(txId, old -> new TxStateMeta(PENDING, COORDINATOR_ID, COMMIT_PARTITION_ID, null, null));
+            storage.updateMeta(txId, old -> committed(ts));
+        }
+    }
+
+    /** Commits transactions and reads their states in the cycle. */
+    @Benchmark
+    public static void committedStates(Blackhole blackhole) {
+        VolatileTxStateMetaStorage storage = startedStorage();
+
+        for (int i = 0; i < ITERATIONS_COUNT; i++) {
+            int ts = i;
+
+            storage.updateMeta(new UUID(i, i), old -> committed(ts));
+        }
+
+        for (int i = 0; i < ITERATIONS_COUNT; i++) {
+            blackhole.consume(storage.state(new UUID(i, i)));
+        }
+    }
+
+    private static VolatileTxStateMetaStorage startedStorage() {
+        VolatileTxStateMetaStorage storage = new VolatileTxStateMetaStorage();
+
+        storage.start();
+
+        return storage;
+    }
+
+    private static TxStateMeta committed(int ts) {
+        return new TxStateMeta(COMMITTED, COORDINATOR_ID, COMMIT_PARTITION_ID, HybridTimestamp.hybridTimestamp(ts + 1), null);
+    }
+}
@@ -109,6 +109,16 @@ public interface InternalTransaction extends Transaction {
      */
     boolean implicit();
 
+    /**
+     * Checks if the transaction is a read-only one with a staleness bound. Reads of such a transaction may be served by any replica,
+     * which safe time has already reached the read timestamp, not only by the primary one.
+     *
+     * @return Whether the transaction is a read-only one with a staleness bound.
+     */
+    default boolean boundedStaleness() {
+        return false;
+    }
+
     /**
      * Finishes a read-only transaction with a specific execution timestamp.
      *
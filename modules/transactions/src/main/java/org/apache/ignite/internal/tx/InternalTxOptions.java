@@ -32,9 +32,13 @@ public class InternalTxOptions {
     /** Transaction timeout. 0 means 'use default timeout'. */
     private final long timeoutMillis;
 
-    private InternalTxOptions(TxPriority priority, long timeoutMillis) {
+    /** Maximum staleness of the data read by a read-only transaction. 0 means 'no staleness bound'. */
+    private final long readStalenessMillis;
+
+    private InternalTxOptions(TxPriority priority, long timeoutMillis, long readStalenessMillis) {
         this.priority = priority;
         this.timeoutMillis = timeoutMillis;
+        this.readStalenessMillis = readStalenessMillis;
     }
 
     public static Builder builder() {
@@ -57,10 +61,15 @@ public class InternalTxOptions {
         return timeoutMillis;
     }
 
+    public long readStalenessMillis() {
+        return readStalenessMillis;
+    }
+
     /** Builder for InternalTxOptions. */
     public static class Builder {
         private TxPriority priority = TxPriority.NORMAL;
         private long timeoutMillis = 0;
+        private long readStalenessMillis = 0;
 
         public Builder priority(TxPriority priority) {
             this.priority = priority;
@@ -72,8 +81,13 @@ public class InternalTxOptions {
             return this;
         }
 
+        public Builder readStalenessMillis(long readStalenessMillis) {
+            this.readStalenessMillis = readStalenessMillis;
+            return this;
+        }
+
         public InternalTxOptions build() {
-            return new InternalTxOptions(priority, timeoutMillis);
+            return new InternalTxOptions(priority, timeoutMillis, readStalenessMillis);
         }
     }
 }
@@ -232,6 +232,16 @@ public interface TxManager extends IgniteComponent {
      */
     CompletableFuture<Boolean> kill(UUID txId);
 
+    /**
+     * Notifies the manager that a read of a read-only transaction is sent to its recipient. Used to collect metrics only.
+     *
+     * @param readStalenessMillis Difference between the current time and the read timestamp of the transaction, in milliseconds.
+     * @param localReplica Whether the read is served by the local replica without involving the primary one.
+     */
+    default void onReadOnlyRead(long readStalenessMillis, boolean localReplica) {
+        // No-op.
+    }
+
     /**
      * Returns a number of finished transactions.
      *
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static org.apache.ignite.internal.replicator.message.ReplicaMessageUtils.toReplicationGroupIdMessage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.hlc.ClockService;
+import org.apache.ignite.internal.network.ChannelType;
+import org.apache.ignite.internal.network.MessagingService;
+import org.apache.ignite.internal.replicator.ReplicationGroupId;
+import org.apache.ignite.internal.replicator.message.ReplicaMessagesFactory;
+import org.apache.ignite.internal.replicator.message.ReplicationGroupIdMessage;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedBatchMessage;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedInfo;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedInfoMessage;
+import org.apache.ignite.internal.tx.message.TxMessagesFactory;
+import org.apache.ignite.internal.tx.metrics.TxCleanupMetricSource;
+import org.apache.ignite.network.ClusterNode;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sends notifications about replicated transaction cleanups back to the cleanup request senders.
+ *
+ * <p>At most one {@link CleanupReplicatedBatchMessage} per node is in flight. Notifications that become ready while it is being
+ * sent are coalesced into the next message, so under a steady stream of small transactions the number of messages does not grow
+ * with the number of transactions, while a single notification is still sent without any delay.
+ */
+class CleanupReplicatedNotifier {
+    /** Maximum number of notifications in a single message. */
+    static final int MAX_BATCH_SIZE = 1024;
+
+    /** Tx messages factory. */
+    private static final TxMessagesFactory TX_MESSAGES_FACTORY = new TxMessagesFactory();
+
+    /** Replica messages factory. */
+    private static final ReplicaMessagesFactory REPLICA_MESSAGES_FACTORY = new ReplicaMessagesFactory();
+
+    /** Messaging service. */
+    private final MessagingService messagingService;
+
+    private final ClockService clockService;
+
+    private final TxCleanupMetricSource metricSource;
+
+    /** Pending notifications by the ID of the node to send them to. */
+    private final ConcurrentMap<UUID, NodeQueue> queueByNodeId = new ConcurrentHashMap<>();
+
+    /**
+     * The constructor.
+     *
+     * @param messagingService Messaging service.
+     * @param clockService Clock service.
+     * @param metricSource Metric source to record the batch sizes and the notification lag to.
+     */
+    CleanupReplicatedNotifier(MessagingService messagingService, ClockService clockService, TxCleanupMetricSource metricSource) {
+        this.messagingService = messagingService;
+        this.clockService = clockService;
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Schedules sending of the notification about replicated cleanup to the node.
+     *
+     * @param node Cleanup request sender.
+     * @param info Replicated cleanup.
+     */
+    void notify(ClusterNode node, CleanupReplicatedInfo info) {
+        var notification = new PendingNotification(toCleanupReplicatedInfoMessage(info), System.nanoTime());
+
+        boolean[] startSending = {false};
+
+        // The state of the node queue is only changed inside compute, which serializes the updates for the node.
+        NodeQueue queue = queueByNodeId.compute(node.id(), (id, nodeQueue) -> {
+            if (nodeQueue == null) {
+                nodeQueue = new NodeQueue(node);
+            }
+
+            nodeQueue.notifications.add(notification);
+
+            if (!nodeQueue.sending) {
+                nodeQueue.sending = true;
+
+                startSending[0] = true;
+            }
+
+            return nodeQueue;
+        });
+
+        if (startSending[0]) {
+            sendPending(queue);
+        }
+    }
+
+    /**
+     * Sends the pending notifications of the node until there are none left. Must be called only by the thread that has switched the
+     * queue to the sending state.
+     */
+    private void sendPending(NodeQueue queue) {
+        while (true) {
+            List<PendingNotification> batch = pollBatch(queue);
+
+            if (batch == null) {
+                return;
+            }
+
+            List<CleanupReplicatedInfoMessage> results = new ArrayList<>(batch.size());
+            long now = System.nanoTime();
+
+            for (PendingNotification notification : batch) {
+                results.add(notification.message);
+
+                metricSource.onNotificationSent(TimeUnit.NANOSECONDS.toMillis(now - notification.readyNanos));
+            }
+
+            metricSource.onBatchSent(results.size());
+
+            CleanupReplicatedBatchMessage message = TX_MESSAGES_FACTORY.cleanupReplicatedBatchMessage()
+                    .results(results)
+                    .timestamp(clockService.now())
+                    .build();
+
+            CompletableFuture<Void> sendFuture = messagingService.send(queue.node, ChannelType.DEFAULT, message);
+
+            if (!sendFuture.isDone()) {
+                sendFuture.whenComplete((unused, throwable) -> sendPending(queue));
+
+                return;
+            }
+
+            // The message has already been sent, continue in the loop instead of recursing from the completion callback.
+        }
+    }
+
+    /**
+     * Takes the next batch of the pending notifications of the node. If there are none, leaves the sending state and drops the queue.
+     *
+     * @return Next batch or {@code null} if there are no pending notifications.
+     */
+    private @Nullable List<PendingNotification> pollBatch(NodeQueue queue) {
+        List<PendingNotification> batch = new ArrayList<>();
+
+        queueByNodeId.compute(queue.node.id(), (id, nodeQueue) -> {
+            assert nodeQueue == queue : "The queue is dropped while sending";
+
+            PendingNotification notification;
+
+            while (batch.size() < MAX_BATCH_SIZE && (notification = queue.notifications.poll()) != null) {
+                batch.add(notification);
+            }
+
+            if (batch.isEmpty()) {
+                queue.sending = false;
+
+                return null;
+            }
+
+            return queue;
+        });
+
+        return batch.isEmpty() ? null : batch;
+    }
+
+    private static CleanupReplicatedInfoMessage toCleanupReplicatedInfoMessage(CleanupReplicatedInfo info) {
+        Collection<ReplicationGroupId> partitions = info.partitions();
+        List<ReplicationGroupIdMessage> partitionMessages = new ArrayList<>(partitions.size());
+
+        for (ReplicationGroupId partition : partitions) {
+            partitionMessages.add(toReplicationGroupIdMessage(REPLICA_MESSAGES_FACTORY, partition));
+        }
+
+        return TX_MESSAGES_FACTORY.cleanupReplicatedInfoMessage()
+                .txId(info.txId())
+                .partitions(partitionMessages)
+                .build();
+    }
+
+    private static class NodeQueue {
+        private final ClusterNode node;
+
+        /** Pending notifications, guarded by the mapping of the node in {@link #queueByNodeId}. */
+        private final Queue<PendingNotification> notifications = new ArrayDeque<>();
+
+        /** Whether a message to the node is in flight, guarded by the mapping of the node in {@link #queueByNodeId}. */
+        private boolean sending;
+
+        private NodeQueue(ClusterNode node) {
+            this.node = node;
+        }
+    }
+
+    private static class PendingNotification {
+        private final CleanupReplicatedInfoMessage message;
+
+        /** Value of {@link System#nanoTime()} at the moment the cleanup was replicated. */
+        private final long readyNanos;
+
+        private PendingNotification(CleanupReplicatedInfoMessage message, long readyNanos) {
+            this.message = message;
+            this.readyNanos = readyNanos;
+        }
+    }
+}
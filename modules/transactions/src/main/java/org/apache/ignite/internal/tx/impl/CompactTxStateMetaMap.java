@@ -0,0 +1,476 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestampToLong;
+import static org.apache.ignite.internal.hlc.HybridTimestamp.nullableHybridTimestamp;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.apache.ignite.internal.replicator.ReplicationGroupId;
+import org.apache.ignite.internal.replicator.TablePartitionId;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.tx.TxState;
+import org.apache.ignite.internal.tx.TxStateMeta;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Map of transaction states, that keeps every entry in a fixed number of {@code long}s of a primitive open-addressing table instead of
+ * a graph of heap objects.
+ *
+ * <p>Only states, for which {@link #isCompactable} returns {@code true}, can be stored: final states of read-write transactions, that
+ * are not going to change anymore, and that make up the vast majority of volatile transaction states on a loaded node. States, that
+ * reference a transaction object, i.e. the ones of transactions coordinated by the local node, are never compacted, so that the
+ * transaction can still be reached by its ID, for example to be killed.
+ *
+ * <p>The map is split into segments, each guarded by its own monitor. Every segment caches a few recently read states, so that
+ * repeated lookups of the same transaction, which are typical for write intent resolution, do not allocate.
+ */
+class CompactTxStateMetaMap {
+    /** Number of segments, must be a power of two. */
+    private static final int SEGMENTS = 64;
+
+    /** Initial capacity of a segment, must be a power of two. */
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    /** Number of cached recently read states per segment, must be a power of two. */
+    private static final int RECENT_CACHE_SIZE = 16;
+
+    /** Number of {@code long}s per entry. */
+    private static final int STRIDE = 9;
+
+    private static final int TX_ID_MSB = 0;
+
+    private static final int TX_ID_LSB = 1;
+
+    private static final int COORDINATOR_ID_MSB = 2;
+
+    private static final int COORDINATOR_ID_LSB = 3;
+
+    private static final int COMMIT_TIMESTAMP = 4;
+
+    /** Commit partition: object ID in the higher 32 bits, partition ID in the lower ones. */
+    private static final int COMMIT_PARTITION = 5;
+
+    private static final int INITIAL_VACUUM_OBSERVATION_TIMESTAMP = 6;
+
+    private static final int CLEANUP_COMPLETION_TIMESTAMP = 7;
+
+    /** Ordinal of the state plus one in the lowest byte, {@code 0} for an empty slot, and the flags below. */
+    private static final int HEADER = 8;
+
+    private static final long STATE_MASK = 0xFF;
+
+    private static final long HAS_COORDINATOR_ID = 1 << 8;
+
+    private static final long HAS_INITIAL_VACUUM_OBSERVATION_TIMESTAMP = 1 << 9;
+
+    private static final long HAS_CLEANUP_COMPLETION_TIMESTAMP = 1 << 10;
+
+    private static final long TABLE_COMMIT_PARTITION = 1 << 11;
+
+    private static final long ZONE_COMMIT_PARTITION = 1 << 12;
+
+    private static final TxState[] STATES = TxState.values();
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    CompactTxStateMetaMap() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the state can be stored in the map.
+     *
+     * @param meta Transaction state meta.
+     */
+    static boolean isCompactable(TxStateMeta meta) {
+        ReplicationGroupId commitPartitionId = meta.commitPartitionId();
+
+        return meta.getClass() == TxStateMeta.class
+                && TxState.isFinalState(meta.txState())
+                && meta.tx() == null
+                && (commitPartitionId == null || commitPartitionId instanceof TablePartitionId
+                || commitPartitionId instanceof ZonePartitionId);
+    }
+
+    /**
+     * Returns the state of the transaction or {@code null} if there is none.
+     *
+     * @param txId Transaction ID.
+     */
+    @Nullable TxStateMeta get(UUID txId) {
+        long msb = txId.getMostSignificantBits();
+        long lsb = txId.getLeastSignificantBits();
+        int hash = hash(msb, lsb);
+
+        return segment(hash).get(msb, lsb, hash);
+    }
+
+    /**
+     * Puts the state of the transaction, replacing the previous one.
+     *
+     * @param txId Transaction ID.
+     * @param meta Transaction state meta, must be {@link #isCompactable compactable}.
+     */
+    void put(UUID txId, TxStateMeta meta) {
+        assert isCompactable(meta) : meta;
+
+        long msb = txId.getMostSignificantBits();
+        long lsb = txId.getLeastSignificantBits();
+        int hash = hash(msb, lsb);
+
+        segment(hash).put(msb, lsb, hash, meta);
+    }
+
+    /**
+     * Removes the state of the transaction.
+     *
+     * @param txId Transaction ID.
+     * @return {@code true} if there was a state for the transaction.
+     */
+    boolean remove(UUID txId) {
+        long msb = txId.getMostSignificantBits();
+        long lsb = txId.getLeastSignificantBits();
+        int hash = hash(msb, lsb);
+
+        return segment(hash).remove(msb, lsb, hash);
+    }
+
+    /** Returns the number of stored states. */
+    int size() {
+        int size = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Passes every stored state to the action. The action is invoked outside of the segment locks on a snapshot of each segment, so it may
+     * modify the map, and it does not see the changes made to the segment after the snapshot has been taken.
+     *
+     * @param action Action.
+     */
+    void forEach(BiConsumer<UUID, TxStateMeta> action) {
+        for (Segment segment : segments) {
+            long[] snapshot;
+
+            synchronized (segment) {
+                if (segment.size == 0) {
+                    continue;
+                }
+
+                snapshot = segment.slots.clone();
+            }
+
+            for (int offset = 0; offset < snapshot.length; offset += STRIDE) {
+                if (snapshot[offset + HEADER] != 0) {
+                    action.accept(new UUID(snapshot[offset + TX_ID_MSB], snapshot[offset + TX_ID_LSB]), read(snapshot, offset));
+                }
+            }
+        }
+    }
+
+    /** Removes all states. */
+    void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.reset(INITIAL_SEGMENT_CAPACITY);
+            }
+        }
+    }
+
+    private Segment segment(int hash) {
+        return segments[hash >>> (Integer.SIZE - Integer.numberOfTrailingZeros(SEGMENTS))];
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ lsb;
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+
+        return (int) h;
+    }
+
+    private static void write(long[] slots, int offset, long msb, long lsb, TxStateMeta meta) {
+        long header = meta.txState().ordinal() + 1;
+
+        UUID coordinatorId = meta.txCoordinatorId();
+
+        if (coordinatorId != null) {
+            header |= HAS_COORDINATOR_ID;
+
+            slots[offset + COORDINATOR_ID_MSB] = coordinatorId.getMostSignificantBits();
+            slots[offset + COORDINATOR_ID_LSB] = coordinatorId.getLeastSignificantBits();
+        } else {
+            slots[offset + COORDINATOR_ID_MSB] = 0;
+            slots[offset + COORDINATOR_ID_LSB] = 0;
+        }
+
+        ReplicationGroupId commitPartitionId = meta.commitPartitionId();
+
+        if (commitPartitionId instanceof TablePartitionId) {
+            header |= TABLE_COMMIT_PARTITION;
+
+            TablePartitionId tablePartitionId = (TablePartitionId) commitPartitionId;
+
+            slots[offset + COMMIT_PARTITION] = packPartition(tablePartitionId.tableId(), tablePartitionId.partitionId());
+        } else if (commitPartitionId instanceof ZonePartitionId) {
+            header |= ZONE_COMMIT_PARTITION;
+
+            ZonePartitionId zonePartitionId = (ZonePartitionId) commitPartitionId;
+
+            slots[offset + COMMIT_PARTITION] = packPartition(zonePartitionId.zoneId(), zonePartitionId.partitionId());
+        } else {
+            slots[offset + COMMIT_PARTITION] = 0;
+        }
+
+        Long initialVacuumObservationTimestamp = meta.initialVacuumObservationTimestamp();
+
+        if (initialVacuumObservationTimestamp != null) {
+            header |= HAS_INITIAL_VACUUM_OBSERVATION_TIMESTAMP;
+
+            slots[offset + INITIAL_VACUUM_OBSERVATION_TIMESTAMP] = initialVacuumObservationTimestamp;
+        } else {
+            slots[offset + INITIAL_VACUUM_OBSERVATION_TIMESTAMP] = 0;
+        }
+
+        Long cleanupCompletionTimestamp = meta.cleanupCompletionTimestamp();
+
+        if (cleanupCompletionTimestamp != null) {
+            header |= HAS_CLEANUP_COMPLETION_TIMESTAMP;
+
+            slots[offset + CLEANUP_COMPLETION_TIMESTAMP] = cleanupCompletionTimestamp;
+        } else {
+            slots[offset + CLEANUP_COMPLETION_TIMESTAMP] = 0;
+        }
+
+        slots[offset + TX_ID_MSB] = msb;
+        slots[offset + TX_ID_LSB] = lsb;
+        slots[offset + COMMIT_TIMESTAMP] = hybridTimestampToLong(meta.commitTimestamp());
+        slots[offset + HEADER] = header;
+    }
+
+    private static TxStateMeta read(long[] slots, int offset) {
+        long header = slots[offset + HEADER];
+
+        UUID coordinatorId = (header & HAS_COORDINATOR_ID) != 0
+                ? new UUID(slots[offset + COORDINATOR_ID_MSB], slots[offset + COORDINATOR_ID_LSB])
+                : null;
+
+        long commitPartition = slots[offset + COMMIT_PARTITION];
+
+        ReplicationGroupId commitPartitionId;
+
+        if ((header & TABLE_COMMIT_PARTITION) != 0) {
+            commitPartitionId = new TablePartitionId((int) (commitPartition >>> 32), (int) commitPartition);
+        } else if ((header & ZONE_COMMIT_PARTITION) != 0) {
+            commitPartitionId = new ZonePartitionId((int) (commitPartition >>> 32), (int) commitPartition);
+        } else {
+            commitPartitionId = null;
+        }
+
+        return new TxStateMeta(
+                STATES[(int) (header & STATE_MASK) - 1],
+                coordinatorId,
+                commitPartitionId,
+                nullableHybridTimestamp(slots[offset + COMMIT_TIMESTAMP]),
+                null,
+                (header & HAS_INITIAL_VACUUM_OBSERVATION_TIMESTAMP) != 0 ? slots[offset + INITIAL_VACUUM_OBSERVATION_TIMESTAMP] : null,
+                (header & HAS_CLEANUP_COMPLETION_TIMESTAMP) != 0 ? slots[offset + CLEANUP_COMPLETION_TIMESTAMP] : null
+        );
+    }
+
+    private static long packPartition(int objectId, int partitionId) {
+        return ((long) objectId << 32) | (partitionId & 0xFFFFFFFFL);
+    }
+
+    /** Segment of the map: open-addressing table with linear probing. */
+    private static class Segment {
+        /** Entries, {@link #STRIDE} {@code long}s each. */
+        private long[] slots;
+
+        /** Capacity minus one, capacity is a power of two. */
+        private int mask;
+
+        private int size;
+
+        /** Recently read states, indexed by {@link #recentIndex}. */
+        private final TxStateMeta[] recentMetas = new TxStateMeta[RECENT_CACHE_SIZE];
+
+        /** Transaction IDs of {@link #recentMetas}, two {@code long}s each. */
+        private final long[] recentIds = new long[RECENT_CACHE_SIZE * 2];
+
+        private Segment() {
+            reset(INITIAL_SEGMENT_CAPACITY);
+        }
+
+        private void reset(int capacity) {
+            slots = new long[capacity * STRIDE];
+            mask = capacity - 1;
+            size = 0;
+
+            Arrays.fill(recentMetas, null);
+        }
+
+        synchronized @Nullable TxStateMeta get(long msb, long lsb, int hash) {
+            int recent = recentIndex(hash);
+
+            TxStateMeta meta = recentMetas[recent];
+
+            if (meta != null && recentIds[recent * 2] == msb && recentIds[recent * 2 + 1] == lsb) {
+                return meta;
+            }
+
+            int offset = find(msb, lsb, hash);
+
+            if (offset < 0) {
+                return null;
+            }
+
+            meta = read(slots, offset);
+
+            recentMetas[recent] = meta;
+            recentIds[recent * 2] = msb;
+            recentIds[recent * 2 + 1] = lsb;
+
+            return meta;
+        }
+
+        synchronized void put(long msb, long lsb, int hash, TxStateMeta meta) {
+            recentMetas[recentIndex(hash)] = null;
+
+            int offset = find(msb, lsb, hash);
+
+            if (offset < 0) {
+                if ((size + 1) * 4 > (mask + 1) * 3) {
+                    rehash((mask + 1) * 2);
+                }
+
+                offset = freeSlot(hash);
+
+                size++;
+            }
+
+            write(slots, offset, msb, lsb, meta);
+        }
+
+        synchronized boolean remove(long msb, long lsb, int hash) {
+            recentMetas[recentIndex(hash)] = null;
+
+            int offset = find(msb, lsb, hash);
+
+            if (offset < 0) {
+                return false;
+            }
+
+            removeAt(offset / STRIDE);
+
+            size--;
+
+            if (mask + 1 > INITIAL_SEGMENT_CAPACITY && size * 8 < mask + 1) {
+                rehash((mask + 1) / 2);
+            }
+
+            return true;
+        }
+
+        private static int recentIndex(int hash) {
+            return hash & (RECENT_CACHE_SIZE - 1);
+        }
+
+        /** Returns the offset of the entry or {@code -1} if there is none. */
+        private int find(long msb, long lsb, int hash) {
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                int offset = slot * STRIDE;
+
+                if (slots[offset + HEADER] == 0) {
+                    return -1;
+                }
+
+                if (slots[offset + TX_ID_MSB] == msb && slots[offset + TX_ID_LSB] == lsb) {
+                    return offset;
+                }
+            }
+        }
+
+        /** Returns the offset of the first free slot for the hash. */
+        private int freeSlot(int hash) {
+            int slot = hash & mask;
+
+            while (slots[slot * STRIDE + HEADER] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            return slot * STRIDE;
+        }
+
+        /** Frees the slot, shifting back the following entries of the probe sequence, so that no tombstones are needed. */
+        private void removeAt(int freeSlot) {
+            int slot = freeSlot;
+
+            while (true) {
+                slot = (slot + 1) & mask;
+
+                int offset = slot * STRIDE;
+
+                if (slots[offset + HEADER] == 0) {
+                    break;
+                }
+
+                int home = hash(slots[offset + TX_ID_MSB], slots[offset + TX_ID_LSB]) & mask;
+
+                // The entry stays where it is if its home slot lies cyclically in (freeSlot, slot].
+                boolean stays = freeSlot <= slot ? freeSlot < home && home <= slot : freeSlot < home || home <= slot;
+
+                if (!stays) {
+                    System.arraycopy(slots, offset, slots, freeSlot * STRIDE, STRIDE);
+
+                    freeSlot = slot;
+                }
+            }
+
+            slots[freeSlot * STRIDE + HEADER] = 0;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldSlots = slots;
+
+            slots = new long[capacity * STRIDE];
+            mask = capacity - 1;
+
+            for (int offset = 0; offset < oldSlots.length; offset += STRIDE) {
+                if (oldSlots[offset + HEADER] != 0) {
+                    int newOffset = freeSlot(hash(oldSlots[offset + TX_ID_MSB], oldSlots[offset + TX_ID_LSB]));
+
+                    System.arraycopy(oldSlots, offset, slots, newOffset, STRIDE);
+                }
+            }
+        }
+    }
+}
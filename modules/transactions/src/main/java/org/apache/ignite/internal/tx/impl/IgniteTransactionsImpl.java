@@ -55,10 +55,15 @@ public class IgniteTransactionsImpl implements IgniteTransactions {
             throw new UnsupportedOperationException("Timeouts are not supported yet for RW transactions.");
         }
 
+        if (options != null && options.readStalenessMillis() != 0 && !options.readOnly()) {
+            throw new IllegalArgumentException("Read staleness is only applicable to read-only transactions.");
+        }
+
         InternalTxOptions internalTxOptions = options == null
                 ? InternalTxOptions.defaults()
                 : InternalTxOptions.builder()
                         .timeoutMillis(options.timeoutMillis())
+                        .readStalenessMillis(options.readStalenessMillis())
                         .build();
 
         return txManager.beginExplicit(observableTimestampTracker, options != null && options.readOnly(), internalTxOptions);
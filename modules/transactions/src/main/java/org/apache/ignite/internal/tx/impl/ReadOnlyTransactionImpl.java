@@ -37,6 +37,9 @@ public class ReadOnlyTransactionImpl extends IgniteAbstractTransactionImpl {
     /** The read timestamp. */
     private final HybridTimestamp readTimestamp;
 
+    /** Whether the read timestamp has been chosen by the staleness bound. */
+    private final boolean boundedStaleness;
+
     /** Prevents double finish of the transaction. */
     private final AtomicBoolean finishGuard = new AtomicBoolean();
 
@@ -52,6 +55,8 @@ public class ReadOnlyTransactionImpl extends IgniteAbstractTransactionImpl {
      * @param txCoordinatorId Transaction coordinator inconsistent ID.
      * @param implicit True for an implicit transaction, false for an ordinary one.
      * @param readTimestamp The read timestamp.
+     * @param boundedStaleness Whether the read timestamp has been chosen by the staleness bound.
+     * @param txFuture Transaction future.
      */
     ReadOnlyTransactionImpl(
             TxManagerImpl txManager,
@@ -61,11 +66,13 @@ public class ReadOnlyTransactionImpl extends IgniteAbstractTransactionImpl {
             boolean implicit,
             long timeout,
             HybridTimestamp readTimestamp,
+            boolean boundedStaleness,
             CompletableFuture<Void> txFuture
     ) {
         super(txManager, observableTsTracker, id, txCoordinatorId, implicit, timeout);
 
         this.readTimestamp = readTimestamp;
+        this.boundedStaleness = boundedStaleness;
         this.txFuture = txFuture;
     }
 
@@ -84,6 +91,11 @@ public class ReadOnlyTransactionImpl extends IgniteAbstractTransactionImpl {
         return readTimestamp;
     }
 
+    @Override
+    public boolean boundedStaleness() {
+        return boundedStaleness;
+    }
+
     @Override
     public void enlist(
             ReplicationGroupId replicationGroupId,
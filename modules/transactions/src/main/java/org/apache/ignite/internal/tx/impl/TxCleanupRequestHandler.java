@@ -18,7 +18,6 @@
 package org.apache.ignite.internal.tx.impl;
 
 import static java.util.concurrent.CompletableFuture.allOf;
-import static org.apache.ignite.internal.replicator.message.ReplicaMessageUtils.toReplicationGroupIdMessage;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -33,21 +32,18 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.hlc.ClockService;
-import org.apache.ignite.internal.network.ChannelType;
 import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
-import org.apache.ignite.internal.replicator.message.ReplicaMessagesFactory;
 import org.apache.ignite.internal.replicator.message.ReplicaResponse;
-import org.apache.ignite.internal.replicator.message.ReplicationGroupIdMessage;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.message.CleanupReplicatedInfo;
-import org.apache.ignite.internal.tx.message.CleanupReplicatedInfoMessage;
 import org.apache.ignite.internal.tx.message.EnlistedPartitionGroupMessage;
 import org.apache.ignite.internal.tx.message.TxCleanupMessage;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
 import org.apache.ignite.internal.tx.message.TxMessagesFactory;
 import org.apache.ignite.internal.tx.message.WriteIntentSwitchReplicatedInfo;
+import org.apache.ignite.internal.tx.metrics.TxCleanupMetricSource;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.network.ClusterNode;
 import org.jetbrains.annotations.Nullable;
@@ -59,9 +55,6 @@ public class TxCleanupRequestHandler {
     /** Tx messages factory. */
     private static final TxMessagesFactory TX_MESSAGES_FACTORY = new TxMessagesFactory();
 
-    /** Replica messages factory. */
-    private static final ReplicaMessagesFactory REPLICA_MESSAGES_FACTORY = new ReplicaMessagesFactory();
-
     /** Messaging service. */
     private final MessagingService messagingService;
 
@@ -79,6 +72,9 @@ public class TxCleanupRequestHandler {
     /** The map of txId to a cleanup context, tracking replicated write intents. */
     private final ConcurrentMap<UUID, CleanupContext> writeIntentsReplicated = new ConcurrentHashMap<>();
 
+    /** Sender of the notifications about replicated cleanups. */
+    private final CleanupReplicatedNotifier cleanupReplicatedNotifier;
+
     /**
      * The constructor.
      *
@@ -87,19 +83,22 @@ public class TxCleanupRequestHandler {
      * @param clockService Clock service.
      * @param writeIntentSwitchProcessor A cleanup processor.
      * @param resourcesRegistry Resources registry.
+     * @param metricSource Metric source of the notifications about replicated cleanups.
      */
     public TxCleanupRequestHandler(
             MessagingService messagingService,
             LockManager lockManager,
             ClockService clockService,
             WriteIntentSwitchProcessor writeIntentSwitchProcessor,
-            RemotelyTriggeredResourceRegistry resourcesRegistry
+            RemotelyTriggeredResourceRegistry resourcesRegistry,
+            TxCleanupMetricSource metricSource
     ) {
         this.messagingService = messagingService;
         this.lockManager = lockManager;
         this.clockService = clockService;
         this.writeIntentSwitchProcessor = writeIntentSwitchProcessor;
         this.remotelyTriggeredResourceRegistry = resourcesRegistry;
+        this.cleanupReplicatedNotifier = new CleanupReplicatedNotifier(messagingService, clockService, metricSource);
     }
 
     /**
@@ -187,14 +186,6 @@ public class TxCleanupRequestHandler {
                 .build();
     }
 
-    private NetworkMessage prepareResponse(CleanupReplicatedInfo result) {
-        return TX_MESSAGES_FACTORY
-                .txCleanupMessageResponse()
-                .result(toCleanupReplicatedInfoMessage(result))
-                .timestamp(clockService.now())
-                .build();
-    }
-
     private NetworkMessage prepareErrorResponse(UUID txId, Throwable th) {
         return TX_MESSAGES_FACTORY
                 .txCleanupMessageErrorResponse()
@@ -262,7 +253,7 @@ public class TxCleanupRequestHandler {
      * @param partitions Partitions that we received replication confirmation for.
      */
     private void sendCleanupReplicatedResponse(UUID txId, ClusterNode sender, Collection<ReplicationGroupId> partitions) {
-        messagingService.send(sender, ChannelType.DEFAULT, prepareResponse(new CleanupReplicatedInfo(txId, partitions)));
+        cleanupReplicatedNotifier.notify(sender, new CleanupReplicatedInfo(txId, partitions));
     }
 
     private static class CleanupContext {
@@ -279,20 +270,6 @@ public class TxCleanupRequestHandler {
         }
     }
 
-    private static CleanupReplicatedInfoMessage toCleanupReplicatedInfoMessage(CleanupReplicatedInfo info) {
-        Collection<ReplicationGroupId> partitions = info.partitions();
-        List<ReplicationGroupIdMessage> partitionMessages = new ArrayList<>(partitions.size());
-
-        for (ReplicationGroupId partition : partitions) {
-            partitionMessages.add(toReplicationGroupIdMessage(REPLICA_MESSAGES_FACTORY, partition));
-        }
-
-        return TX_MESSAGES_FACTORY.cleanupReplicatedInfoMessage()
-                .txId(info.txId())
-                .partitions(partitionMessages)
-                .build();
-    }
-
     private static List<EnlistedPartitionGroup> asPartitionsList(List<EnlistedPartitionGroupMessage> messages) {
         var list = new ArrayList<EnlistedPartitionGroup>(IgniteUtils.capacity(messages.size()));
 
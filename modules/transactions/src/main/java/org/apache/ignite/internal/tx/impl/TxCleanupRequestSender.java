@@ -40,9 +40,9 @@ import org.apache.ignite.internal.tx.PartitionEnlistment;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.TxStateMeta;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl.TransactionFailureHandler;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedBatchMessage;
 import org.apache.ignite.internal.tx.message.CleanupReplicatedInfo;
 import org.apache.ignite.internal.tx.message.CleanupReplicatedInfoMessage;
-import org.apache.ignite.internal.tx.message.TxCleanupMessageErrorResponse;
 import org.apache.ignite.internal.tx.message.TxCleanupMessageResponse;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
 import org.apache.ignite.internal.util.CompletableFutures;
@@ -85,17 +85,18 @@ public class TxCleanupRequestSender {
      */
     public void start() {
         txMessageSender.messagingService().addMessageHandler(TxMessageGroup.class, (msg, sender, correlationId) -> {
-            // correlationId == null means we get the second TxCleanupMessageResponse
-            // that gets sent when cleanup is replicated to the majority.
-            if (msg instanceof TxCleanupMessageResponse && correlationId == null) {
-                // The cleanup response is sent only in the success case, hence no error is expected.
-                assert !(msg instanceof TxCleanupMessageErrorResponse) : "Cleanup error response is not expected here.";
-
+            // Sent when cleanups are replicated to the majority, possibly coalescing several transactions.
+            if (msg instanceof CleanupReplicatedBatchMessage) {
+                for (CleanupReplicatedInfoMessage result : ((CleanupReplicatedBatchMessage) msg).results()) {
+                    onCleanupReplicated(result.asCleanupReplicatedInfo());
+                }
+            } else if (msg instanceof TxCleanupMessageResponse && correlationId == null) {
+                // A single replicated cleanup, as reported by the nodes that don't batch the notifications.
                 CleanupReplicatedInfoMessage result = ((TxCleanupMessageResponse) msg).result();
 
-                assert result != null : "Result for the cleanup response cannot be null.";
-
-                onCleanupReplicated(result.asCleanupReplicatedInfo());
+                if (result != null) {
+                    onCleanupReplicated(result.asCleanupReplicatedInfo());
+                }
             }
         });
     }
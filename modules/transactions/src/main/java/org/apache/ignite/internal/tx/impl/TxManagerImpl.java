@@ -108,6 +108,8 @@ import org.apache.ignite.internal.tx.TxStateMetaFinishing;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
 import org.apache.ignite.internal.tx.impl.TransactionInflights.ReadWriteTxContext;
 import org.apache.ignite.internal.tx.message.WriteIntentSwitchReplicatedInfo;
+import org.apache.ignite.internal.tx.metrics.ReadOnlyTransactionMetricSource;
+import org.apache.ignite.internal.tx.metrics.TxCleanupMetricSource;
 import org.apache.ignite.internal.tx.views.LocksViewProvider;
 import org.apache.ignite.internal.tx.views.TransactionsViewProvider;
 import org.apache.ignite.internal.util.CompletableFutures;
@@ -167,6 +169,12 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
      */
     private final LongAdder finishedTxs = new LongAdder();
 
+    /** Metrics of read-only transactions. */
+    private final ReadOnlyTransactionMetricSource readOnlyTransactionMetricSource = new ReadOnlyTransactionMetricSource();
+
+    /** Metrics of the notifications about replicated cleanups. */
+    private final TxCleanupMetricSource txCleanupMetricSource = new TxCleanupMetricSource();
+
     /** Busy lock to stop synchronously. */
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
@@ -351,7 +359,8 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
                 lockManager,
                 clockService,
                 writeIntentSwitchProcessor,
-                resourcesRegistry
+                resourcesRegistry,
+                txCleanupMetricSource
         );
 
         txCleanupRequestSender =
@@ -451,11 +460,21 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
             boolean implicit,
             InternalTxOptions options
     ) {
-        HybridTimestamp observableTimestamp = timestampTracker.get();
+        boolean boundedStaleness = options.readStalenessMillis() > 0;
+
+        HybridTimestamp readTimestamp;
 
-        HybridTimestamp readTimestamp = observableTimestamp != null
-                ? HybridTimestamp.max(observableTimestamp, currentReadTimestamp(beginTimestamp))
-                : currentReadTimestamp(beginTimestamp);
+        if (boundedStaleness) {
+            // The observable timestamp is deliberately not taken into account: the snapshot that is exactly as stale as allowed is
+            // the one that can be read from any replica without waiting.
+            readTimestamp = beginTimestamp.subtractPhysicalTime(options.readStalenessMillis());
+        } else {
+            HybridTimestamp observableTimestamp = timestampTracker.get();
+
+            readTimestamp = observableTimestamp != null
+                    ? HybridTimestamp.max(observableTimestamp, currentReadTimestamp(beginTimestamp))
+                    : currentReadTimestamp(beginTimestamp);
+        }
 
         boolean lockAcquired = lowWatermark.tryLock(txId, readTimestamp);
         if (!lockAcquired) {
@@ -472,9 +491,11 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
             long timeout = options.timeoutMillis() == 0 ? defaultReadOnlyTransactionTimeoutMillis() : options.timeoutMillis();
 
             var transaction = new ReadOnlyTransactionImpl(
-                    this, timestampTracker, txId, localNodeId, implicit, timeout, readTimestamp, txFuture
+                    this, timestampTracker, txId, localNodeId, implicit, timeout, readTimestamp, boundedStaleness, txFuture
             );
 
+            readOnlyTransactionMetricSource.onTransactionStarted(boundedStaleness);
+
             // Implicit transactions are finished as soon as their operation/query is finished, they cannot be abandoned, so there is
             // no need to register them.
             // TODO: https://issues.apache.org/jira/browse/IGNITE-24229 - schedule expiration for multi-key implicit transactions?
@@ -858,6 +879,21 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler, SystemVi
         }
     }
 
+    @Override
+    public void onReadOnlyRead(long readStalenessMillis, boolean localReplica) {
+        readOnlyTransactionMetricSource.onRead(readStalenessMillis, localReplica);
+    }
+
+    /** Returns the source of metrics of read-only transactions. */
+    public ReadOnlyTransactionMetricSource readOnlyTransactionMetricSource() {
+        return readOnlyTransactionMetricSource;
+    }
+
+    /** Returns the source of metrics of the notifications about replicated cleanups. */
+    public TxCleanupMetricSource txCleanupMetricSource() {
+        return txCleanupMetricSource;
+    }
+
     @Override
     public int finished() {
         return finishedTxs.intValue();
@@ -20,10 +20,12 @@ package org.apache.ignite.internal.tx.impl;
 import static org.apache.ignite.internal.tx.TxState.PENDING;
 import static org.apache.ignite.internal.tx.TxState.checkTransitionCorrectness;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -31,6 +33,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -44,18 +47,27 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * The class represents volatile transaction state storage that stores a transaction state meta until the node stops.
+ *
+ * <p>States of running transactions are kept as objects, while final states of read-write transactions, that are the majority of
+ * stored states and are kept until vacuumized, are moved to a {@link CompactTxStateMetaMap}. States, that reference the transaction
+ * object, stay in the object map even when final. Every modification of a state is made under the lock of its key in the object map,
+ * so both maps are updated atomically.
  */
 public class VolatileTxStateMetaStorage {
     private static final IgniteLogger LOG = Loggers.forClass(VolatileTxStateMetaStorage.class);
 
-    /** The local map for tx states. */
+    /** The local map for tx states, that are not stored in {@link #finishedTxStateMap}. */
     private ConcurrentHashMap<UUID, TxStateMeta> txStateMap;
 
+    /** The local map for final tx states. */
+    private CompactTxStateMetaMap finishedTxStateMap;
+
     /**
      * Starts the storage.
      */
     public void start() {
         txStateMap = new ConcurrentHashMap<>();
+        finishedTxStateMap = new CompactTxStateMetaMap();
     }
 
     /**
@@ -63,6 +75,7 @@ public class VolatileTxStateMetaStorage {
      */
     public void stop() {
         txStateMap.clear();
+        finishedTxStateMap.clear();
     }
 
     /**
@@ -84,7 +97,9 @@ public class VolatileTxStateMetaStorage {
      * @return Updated transaction state.
      */
     public @Nullable <T extends TxStateMeta> T updateMeta(UUID txId, Function<@Nullable TxStateMeta, TxStateMeta> updater) {
-        return (T) txStateMap.compute(txId, (k, oldMeta) -> {
+        TxStateMeta[] result = new TxStateMeta[1];
+
+        compute(txId, (k, oldMeta) -> {
             TxStateMeta newMeta = updater.apply(oldMeta);
 
             if (newMeta == null) {
@@ -93,8 +108,12 @@ public class VolatileTxStateMetaStorage {
 
             TxState oldState = oldMeta == null ? null : oldMeta.txState();
 
-            return checkTransitionCorrectness(oldState, newMeta.txState()) ? newMeta : oldMeta;
+            result[0] = checkTransitionCorrectness(oldState, newMeta.txState()) ? newMeta : oldMeta;
+
+            return result[0];
         });
+
+        return (T) result[0];
     }
 
     /**
@@ -104,7 +123,27 @@ public class VolatileTxStateMetaStorage {
      * @return The state meta or null if the state is unknown.
      */
     public TxStateMeta state(UUID txId) {
-        return txStateMap.get(txId);
+        TxStateMeta meta = txStateMap.get(txId);
+
+        if (meta == null) {
+            meta = finishedTxStateMap.get(txId);
+        }
+
+        if (meta != null) {
+            return meta;
+        }
+
+        // The state might be moving from the compact map to the object map: it is removed from the former before the latter publishes
+        // it. Only the lock of the key in the object map makes sure that the state is absent from both.
+        TxStateMeta[] result = new TxStateMeta[1];
+
+        txStateMap.computeIfAbsent(txId, k -> {
+            result[0] = finishedTxStateMap.get(k);
+
+            return null;
+        });
+
+        return result[0] != null ? result[0] : txStateMap.get(txId);
     }
 
     /**
@@ -113,7 +152,11 @@ public class VolatileTxStateMetaStorage {
      * @return Collection of transaction meta states.
      */
     public Collection<TxStateMeta> states() {
-        return txStateMap.values();
+        List<TxStateMeta> states = new ArrayList<>(txStateMap.values());
+
+        finishedTxStateMap.forEach((txId, meta) -> states.add(meta));
+
+        return states;
     }
 
     /**
@@ -158,69 +201,66 @@ public class VolatileTxStateMetaStorage {
         Map<ReplicationGroupId, Set<VacuumizableTx>> txIds = new HashMap<>();
         Map<UUID, Long> cleanupCompletionTimestamps = new HashMap<>();
 
-        txStateMap.forEach((txId, meta) -> {
-            txStateMap.computeIfPresent(txId, (txId0, meta0) -> {
-                if (meta0.tx() != null && meta0.tx().isReadOnly()) {
-                    if (meta0.tx().isFinishingOrFinished()) {
-                        vacuumizedTxnsCount.incrementAndGet();
+        BiFunction<UUID, TxStateMeta, TxStateMeta> vacuumOp = (txId, meta0) -> {
+            if (meta0.tx() != null && meta0.tx().isReadOnly()) {
+                if (meta0.tx().isFinishingOrFinished()) {
+                    vacuumizedTxnsCount.incrementAndGet();
 
-                        return null;
-                    }
-                } else if (TxState.isFinalState(meta0.txState())) {
-                    Long initialVacuumObservationTimestamp = meta0.initialVacuumObservationTimestamp();
-
-                    Long cleanupCompletionTimestamp = meta0.cleanupCompletionTimestamp();
+                    return null;
+                }
+            } else if (TxState.isFinalState(meta0.txState())) {
+                Long initialVacuumObservationTimestamp = meta0.initialVacuumObservationTimestamp();
 
-                    boolean shouldBeVacuumized = shouldBeVacuumized(initialVacuumObservationTimestamp,
-                            cleanupCompletionTimestamp, txnResourceTtl, vacuumObservationTimestamp);
+                Long cleanupCompletionTimestamp = meta0.cleanupCompletionTimestamp();
 
-                    if (shouldBeVacuumized) {
-                        if (meta0.commitPartitionId() == null) {
-                            vacuumizedTxnsCount.incrementAndGet();
+                boolean shouldBeVacuumized = shouldBeVacuumized(initialVacuumObservationTimestamp,
+                        cleanupCompletionTimestamp, txnResourceTtl, vacuumObservationTimestamp);
 
-                            return null;
-                        } else {
-                            // TODO https://issues.apache.org/jira/browse/IGNITE-22522
-                            // Should be changed to ZonePartitionId.
-                            Set<VacuumizableTx> ids = txIds.computeIfAbsent(meta0.commitPartitionId(), k -> new HashSet<>());
-                            ids.add(new VacuumizableTx(txId, cleanupCompletionTimestamp));
+                if (shouldBeVacuumized) {
+                    if (meta0.commitPartitionId() == null) {
+                        vacuumizedTxnsCount.incrementAndGet();
 
-                            if (cleanupCompletionTimestamp != null) {
-                                cleanupCompletionTimestamps.put(txId, cleanupCompletionTimestamp);
-                            }
+                        return null;
+                    } else {
+                        // TODO https://issues.apache.org/jira/browse/IGNITE-22522
+                        // Should be changed to ZonePartitionId.
+                        Set<VacuumizableTx> ids = txIds.computeIfAbsent(meta0.commitPartitionId(), k -> new HashSet<>());
+                        ids.add(new VacuumizableTx(txId, cleanupCompletionTimestamp));
 
-                            return meta0;
+                        if (cleanupCompletionTimestamp != null) {
+                            cleanupCompletionTimestamps.put(txId, cleanupCompletionTimestamp);
                         }
-                    } else {
-                        alreadyMarkedTxnsCount.incrementAndGet();
 
                         return meta0;
                     }
+                } else {
+                    alreadyMarkedTxnsCount.incrementAndGet();
 
+                    return meta0;
                 }
 
-                skippedForFurtherProcessingUnfinishedTxnsCount.incrementAndGet();
-                return meta0;
-            });
-        });
+            }
+
+            skippedForFurtherProcessingUnfinishedTxnsCount.incrementAndGet();
+            return meta0;
+        };
+
+        txStateMap.keySet().forEach(txId -> computeIfPresent(txId, vacuumOp));
+        finishedTxStateMap.forEach((txId, meta) -> computeIfPresent(txId, vacuumOp));
 
         return persistentVacuumOp.apply(txIds)
                 .thenAccept(vacuumResult -> {
                     for (UUID txId : vacuumResult.txnsToVacuum) {
-                        txStateMap.compute(txId, (k, v) -> {
-                            if (v == null) {
-                                return null;
-                            } else {
-                                Long cleanupCompletionTs = cleanupCompletionTimestamps.get(txId);
+                        computeIfPresent(txId, (k, v) -> {
+                            Long cleanupCompletionTs = cleanupCompletionTimestamps.get(txId);
 
-                                TxStateMeta newMeta = (Objects.equals(cleanupCompletionTs, v.cleanupCompletionTimestamp())) ? null : v;
+                            TxStateMeta newMeta = (Objects.equals(cleanupCompletionTs, v.cleanupCompletionTimestamp())) ? null : v;
 
-                                if (newMeta == null) {
-                                    vacuumizedTxnsCount.incrementAndGet();
-                                }
-
-                                return newMeta;
+                            if (newMeta == null) {
+                                vacuumizedTxnsCount.incrementAndGet();
                             }
+
+                            return newMeta;
                         });
                     }
 
@@ -240,11 +280,54 @@ public class VolatileTxStateMetaStorage {
                 });
     }
 
-    /** Returns a mapping of all stored transaction IDs to their state. */
+    /** Returns a mapping of stored transaction IDs to their state, states kept in the compact map are not included. */
     Map<UUID, TxStateMeta> statesMap() {
         return Collections.unmodifiableMap(txStateMap);
     }
 
+    /**
+     * Atomically computes the new state meta of a transaction.
+     *
+     * @param txId Transaction id.
+     * @param remappingFunction Function that accepts the current state meta or {@code null} and returns the new one, or {@code null} to
+     *     remove the state.
+     */
+    private void compute(UUID txId, BiFunction<UUID, @Nullable TxStateMeta, @Nullable TxStateMeta> remappingFunction) {
+        txStateMap.compute(txId, (k, hotMeta) -> {
+            TxStateMeta oldMeta = hotMeta != null ? hotMeta : finishedTxStateMap.get(k);
+
+            return store(k, remappingFunction.apply(k, oldMeta));
+        });
+    }
+
+    /**
+     * Atomically computes the new state meta of a transaction, if there is a state for it.
+     *
+     * @param txId Transaction id.
+     * @param remappingFunction Function that accepts the current state meta and returns the new one, or {@code null} to remove the state.
+     */
+    private void computeIfPresent(UUID txId, BiFunction<UUID, TxStateMeta, @Nullable TxStateMeta> remappingFunction) {
+        compute(txId, (k, oldMeta) -> oldMeta == null ? null : remappingFunction.apply(k, oldMeta));
+    }
+
+    /**
+     * Puts the state meta to the compact map if possible, or removes it from there otherwise. Must be called under the lock of the key in
+     * {@link #txStateMap}.
+     *
+     * @return State meta to store in {@link #txStateMap}.
+     */
+    private @Nullable TxStateMeta store(UUID txId, @Nullable TxStateMeta meta) {
+        if (meta != null && CompactTxStateMetaMap.isCompactable(meta)) {
+            finishedTxStateMap.put(txId, meta);
+
+            return null;
+        }
+
+        finishedTxStateMap.remove(txId);
+
+        return meta;
+    }
+
     private static boolean shouldBeVacuumized(
             Long initialVacuumObservationTimestamp,
             @Nullable Long cleanupCompletionTimestamp,
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.message;
+
+import java.util.List;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.replicator.message.TimestampAware;
+
+/**
+ * Notifies the cleanup request sender that write intents of one or more transactions have been replicated, coalescing the
+ * notifications that became ready while the previous batch to the same node was being sent.
+ */
+@Transferable(TxMessageGroup.CLEANUP_REPLICATED_BATCH_MESSAGE)
+public interface CleanupReplicatedBatchMessage extends TimestampAware {
+    /** Results of replicated cleanup requests. */
+    List<CleanupReplicatedInfoMessage> results();
+}
@@ -26,6 +26,9 @@ import org.jetbrains.annotations.Nullable;
  */
 @Transferable(TxMessageGroup.TX_CLEANUP_MSG_RESPONSE)
 public interface TxCleanupMessageResponse extends TimestampAware {
-    /** Result of a replicated cleanup request. */
+    /**
+     * Result of a replicated cleanup request. Always {@code null} in the responses sent by this version, replicated cleanups are reported
+     * with {@link CleanupReplicatedBatchMessage}. Kept to preserve the message format.
+     */
     @Nullable CleanupReplicatedInfoMessage result();
 }
@@ -122,4 +122,7 @@ public class TxMessageGroup {
      * Message type for {@link TableWriteIntentSwitchReplicaRequest}.
      */
     public static final short TABLE_WRITE_INTENT_SWITCH_REQUEST = 21;
+
+    /** Message type for {@link CleanupReplicatedBatchMessage}. */
+    public static final short CLEANUP_REPLICATED_BATCH_MESSAGE = 22;
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.metrics;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/** Metric source, which provides metrics of read-only transactions. */
+public class ReadOnlyTransactionMetricSource extends AbstractMetricSource<ReadOnlyTransactionMetricSource.Holder> {
+    public static final String NAME = "transactions.readonly";
+
+    /** Bounds of the read staleness histogram, in milliseconds. */
+    private static final long[] READ_STALENESS_BOUNDS = {10, 100, 500, 1_000, 5_000, 10_000, 30_000, 60_000};
+
+    /** Constructor. */
+    public ReadOnlyTransactionMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records the start of a read-only transaction.
+     *
+     * @param boundedStaleness Whether the read timestamp has been chosen by the staleness bound.
+     */
+    public void onTransactionStarted(boolean boundedStaleness) {
+        Holder h = holder();
+
+        if (h != null && boundedStaleness) {
+            h.boundedStalenessTransactions.increment();
+        }
+    }
+
+    /**
+     * Records a read of a read-only transaction. The staleness is measured when the read is sent to its recipient rather than
+     * derived from the staleness bound, so it includes the time the transaction has spent before the read.
+     *
+     * @param readStalenessMillis Difference between the current time and the read timestamp of the transaction, in milliseconds.
+     * @param localReplica Whether the read is served by the local replica without involving the primary one.
+     */
+    public void onRead(long readStalenessMillis, boolean localReplica) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.readStaleness.add(Math.max(0, readStalenessMillis));
+
+            if (localReplica) {
+                h.localReplicaReads.increment();
+            }
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final DistributionMetric readStaleness = new DistributionMetric(
+                "ReadStaleness",
+                "Distribution of the staleness of the snapshots read by read-only transactions at the moment of the read, in milliseconds.",
+                READ_STALENESS_BOUNDS
+        );
+
+        private final LongAdderMetric boundedStalenessTransactions = new LongAdderMetric(
+                "BoundedStalenessTransactions",
+                "Number of started read-only transactions with a staleness bound."
+        );
+
+        private final LongAdderMetric localReplicaReads = new LongAdderMetric(
+                "LocalReplicaReads",
+                "Number of reads of read-only transactions served by the local replica instead of the primary one."
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(readStaleness, boundedStalenessTransactions, localReplicaReads);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.tx.metrics;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/** Metric source, which provides metrics of the notifications about replicated transaction cleanups. */
+public class TxCleanupMetricSource extends AbstractMetricSource<TxCleanupMetricSource.Holder> {
+    public static final String NAME = "transactions.cleanup";
+
+    /** Bounds of the batch size histogram. */
+    private static final long[] BATCH_SIZE_BOUNDS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+    /** Bounds of the notification lag histogram, in milliseconds. */
+    private static final long[] LAG_BOUNDS = {1, 5, 10, 50, 100, 500, 1_000, 5_000};
+
+    /** Constructor. */
+    public TxCleanupMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records a sent message with notifications about replicated cleanups.
+     *
+     * @param batchSize Number of notifications in the message.
+     */
+    public void onBatchSent(int batchSize) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.batchSize.add(batchSize);
+        }
+    }
+
+    /**
+     * Records the lag of a sent notification.
+     *
+     * @param lagMillis Time between the cleanup being replicated and the notification about it being sent, in milliseconds.
+     */
+    public void onNotificationSent(long lagMillis) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.lag.add(lagMillis);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final DistributionMetric batchSize = new DistributionMetric(
+                "CleanupReplicatedBatchSize",
+                "Distribution of the number of replicated cleanup notifications sent in a single message.",
+                BATCH_SIZE_BOUNDS
+        );
+
+        private final DistributionMetric lag = new DistributionMetric(
+                "CleanupReplicatedLag",
+                "Distribution of the time between a cleanup being replicated and the notification about it being sent, in milliseconds.",
+                LAG_BOUNDS
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(batchSize, lag);
+        }
+    }
+}
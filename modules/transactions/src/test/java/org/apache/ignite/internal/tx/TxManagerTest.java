@@ -25,6 +25,7 @@ import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
 import static org.apache.ignite.internal.replicator.ReplicatorConstants.DEFAULT_IDLE_SAFE_TIME_PROPAGATION_PERIOD_MILLISECONDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_COMMIT_ERR;
@@ -328,6 +329,34 @@ public class TxManagerTest extends IgniteAbstractTest {
         tx.rollbackAsync().get(3, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void testKillFinishedTransaction() {
+        when(placementDriver.awaitPrimaryReplica(any(), any(), anyLong(), any())).thenReturn(completedFuture(
+                new TestReplicaMetaImpl(LOCAL_NODE, hybridTimestamp(1), HybridTimestamp.MAX_VALUE)));
+
+        HybridTimestamp commitTimestamp = clockService.now();
+        when(replicaService.invoke(anyString(), any(TxFinishReplicaRequest.class)))
+                .thenReturn(completedFuture(new TransactionResult(TxState.COMMITTED, commitTimestamp)));
+
+        InternalTransaction tx = txManager.beginExplicitRw(hybridTimestampTracker, InternalTxOptions.defaults());
+
+        ReplicationGroupId replicationGroupId = targetReplicationGroupId(1, 0);
+
+        tx.enlist(replicationGroupId, 10, REMOTE_NODE.name(), 1L);
+        tx.assignCommitPartition(replicationGroupId);
+
+        assertThat(tx.commitAsync(), willSucceedFast());
+
+        // The final state of a local transaction keeps the reference to the transaction, so it's still found by the kill.
+        TxStateMeta meta = txManager.stateMeta(tx.id());
+
+        assertNotNull(meta);
+        assertEquals(TxState.COMMITTED, meta.txState());
+        assertSame(tx, meta.tx());
+
+        assertThat(txManager.kill(tx.id()), willBe(true));
+    }
+
     @Test
     public void testRepeatedCommitRollbackAfterRollback() throws Exception {
         when(placementDriver.awaitPrimaryReplica(any(), any(), anyLong(), any())).thenReturn(completedFuture(
@@ -528,6 +557,33 @@ public class TxManagerTest extends IgniteAbstractTest {
         tx.commit();
     }
 
+    @Test
+    public void testBoundedStalenessReadTimestamp() {
+        long compareThreshold = 50;
+        long readStalenessMillis = 10_000;
+
+        HybridTimestamp now = clockService.now();
+
+        // The observable timestamp does not make the snapshot of a transaction with a staleness bound fresher.
+        hybridTimestampTracker.update(now);
+
+        InternalTransaction tx = txManager.beginExplicitRo(
+                hybridTimestampTracker,
+                InternalTxOptions.builder().readStalenessMillis(readStalenessMillis).build()
+        );
+
+        assertTrue(tx.boundedStaleness());
+        assertThat(abs(now.getPhysical() - readStalenessMillis - tx.readTimestamp().getPhysical()), Matchers.lessThan(compareThreshold));
+
+        tx.commit();
+
+        tx = txManager.beginExplicitRo(hybridTimestampTracker, InternalTxOptions.defaults());
+
+        assertFalse(tx.boundedStaleness());
+
+        tx.commit();
+    }
+
     @Test
     public void testFinishSamePrimary() {
         // Same primary that was enlisted is returned during finish phase and commitTimestamp is less that primary.expirationTimestamp.
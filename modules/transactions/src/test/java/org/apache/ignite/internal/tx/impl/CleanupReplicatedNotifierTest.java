@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runMultiThreaded;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.hlc.TestClockService;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.network.ChannelType;
+import org.apache.ignite.internal.network.ClusterNodeImpl;
+import org.apache.ignite.internal.network.MessagingService;
+import org.apache.ignite.internal.replicator.TablePartitionId;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedBatchMessage;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedInfo;
+import org.apache.ignite.internal.tx.message.CleanupReplicatedInfoMessage;
+import org.apache.ignite.internal.tx.metrics.TxCleanupMetricSource;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.NetworkAddress;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CleanupReplicatedNotifier}.
+ */
+class CleanupReplicatedNotifierTest extends BaseIgniteAbstractTest {
+    private static final ClusterNode NODE = new ClusterNodeImpl(randomUUID(), "node", new NetworkAddress("127.0.0.1", 2024), null);
+
+    private final List<CleanupReplicatedBatchMessage> sentMessages = new ArrayList<>();
+
+    private final List<CompletableFuture<Void>> sendFutures = new ArrayList<>();
+
+    private final TxCleanupMetricSource metricSource = new TxCleanupMetricSource();
+
+    private final CleanupReplicatedNotifier notifier = new CleanupReplicatedNotifier(
+            messagingService(),
+            new TestClockService(new HybridClockImpl()),
+            metricSource
+    );
+
+    @Test
+    void testNotificationsAreCoalescedWhileSending() {
+        UUID txId1 = randomUUID();
+        UUID txId2 = randomUUID();
+        UUID txId3 = randomUUID();
+
+        notifier.notify(NODE, cleanupReplicatedInfo(txId1));
+
+        // The first notification is sent right away.
+        assertEquals(1, sentMessages.size());
+        assertEquals(List.of(txId1), txIds(sentMessages.get(0)));
+
+        notifier.notify(NODE, cleanupReplicatedInfo(txId2));
+        notifier.notify(NODE, cleanupReplicatedInfo(txId3));
+
+        // The following ones wait for the message in flight.
+        assertEquals(1, sentMessages.size());
+
+        sendFutures.get(0).complete(null);
+
+        assertEquals(2, sentMessages.size());
+        assertEquals(List.of(txId2, txId3), txIds(sentMessages.get(1)));
+
+        sendFutures.get(1).complete(null);
+
+        assertEquals(2, sentMessages.size());
+    }
+
+    @Test
+    void testBatchSizeAndLagAreRecorded() {
+        MetricSet metrics = metricSource.enable();
+
+        assertNotNull(metrics);
+
+        notifier.notify(NODE, cleanupReplicatedInfo(randomUUID()));
+        notifier.notify(NODE, cleanupReplicatedInfo(randomUUID()));
+        notifier.notify(NODE, cleanupReplicatedInfo(randomUUID()));
+
+        sendFutures.get(0).complete(null);
+
+        DistributionMetric batchSize = metrics.get("CleanupReplicatedBatchSize");
+
+        // One message with a single notification and one with the two coalesced ones.
+        assertArrayEquals(new long[] {1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, batchSize.value());
+
+        DistributionMetric lag = metrics.get("CleanupReplicatedLag");
+
+        assertEquals(3, Arrays.stream(lag.value()).sum());
+    }
+
+    @Test
+    void testSendingFailureDoesNotBlockNextNotifications() {
+        UUID txId1 = randomUUID();
+        UUID txId2 = randomUUID();
+
+        notifier.notify(NODE, cleanupReplicatedInfo(txId1));
+
+        sendFutures.get(0).completeExceptionally(new Exception("Test"));
+
+        notifier.notify(NODE, cleanupReplicatedInfo(txId2));
+
+        assertEquals(2, sentMessages.size());
+        assertEquals(List.of(txId2), txIds(sentMessages.get(1)));
+    }
+
+    @Test
+    void testSynchronouslyCompletedSendsDrainAllNotifications() {
+        List<CleanupReplicatedBatchMessage> messages = new ArrayList<>();
+
+        MessagingService messagingService = mock(MessagingService.class);
+
+        var notifier = new CleanupReplicatedNotifier(messagingService, new TestClockService(new HybridClockImpl()), metricSource);
+
+        int notificationCount = 10_000;
+
+        when(messagingService.send(eq(NODE), eq(ChannelType.DEFAULT), any())).then(invocation -> {
+            messages.add(invocation.getArgument(2));
+
+            // Notifications arriving from within the send are queued and sent by the loop, without recursion.
+            if (messages.size() < notificationCount) {
+                notifier.notify(NODE, cleanupReplicatedInfo(randomUUID()));
+            }
+
+            return nullCompletedFuture();
+        });
+
+        notifier.notify(NODE, cleanupReplicatedInfo(randomUUID()));
+
+        assertEquals(notificationCount, messages.size());
+    }
+
+    @Test
+    void testAtMostOneMessageInFlightUnderConcurrentNotifications() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger notificationsSent = new AtomicInteger();
+
+        MessagingService messagingService = mock(MessagingService.class);
+
+        when(messagingService.send(eq(NODE), eq(ChannelType.DEFAULT), any())).then(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            notificationsSent.addAndGet(((CleanupReplicatedBatchMessage) invocation.getArgument(2)).results().size());
+
+            return CompletableFuture.runAsync(inFlight::decrementAndGet);
+        });
+
+        var notifier = new CleanupReplicatedNotifier(messagingService, new TestClockService(new HybridClockImpl()), metricSource);
+
+        int threads = 4;
+        int notificationsPerThread = 10_000;
+
+        runMultiThreaded(() -> {
+            for (int i = 0; i < notificationsPerThread; i++) {
+                notifier.notify(NODE, cleanupReplicatedInfo(randomUUID()));
+            }
+
+            return null;
+        }, threads, "notifier");
+
+        assertTrue(waitForCondition(() -> notificationsSent.get() == threads * notificationsPerThread, 10_000));
+
+        assertEquals(1, maxInFlight.get());
+    }
+
+    private MessagingService messagingService() {
+        MessagingService messagingService = mock(MessagingService.class);
+
+        when(messagingService.send(eq(NODE), eq(ChannelType.DEFAULT), any())).then(invocation -> {
+            sentMessages.add(invocation.getArgument(2));
+
+            var future = new CompletableFuture<Void>();
+
+            sendFutures.add(future);
+
+            return future;
+        });
+
+        return messagingService;
+    }
+
+    private static CleanupReplicatedInfo cleanupReplicatedInfo(UUID txId) {
+        return new CleanupReplicatedInfo(txId, Set.of(new TablePartitionId(1, 0)));
+    }
+
+    private static List<UUID> txIds(CleanupReplicatedBatchMessage message) {
+        return message.results().stream()
+                .map(CleanupReplicatedInfoMessage::txId)
+                .collect(toList());
+    }
+}
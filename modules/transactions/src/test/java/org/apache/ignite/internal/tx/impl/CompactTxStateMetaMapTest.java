@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.UUID.randomUUID;
+import static org.apache.ignite.internal.tx.TxState.ABORTED;
+import static org.apache.ignite.internal.tx.TxState.COMMITTED;
+import static org.apache.ignite.internal.tx.TxState.PENDING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.replicator.TablePartitionId;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.TxStateMeta;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CompactTxStateMetaMap}.
+ */
+class CompactTxStateMetaMapTest extends BaseIgniteAbstractTest {
+    private final CompactTxStateMetaMap map = new CompactTxStateMetaMap();
+
+    @Test
+    void testIsCompactable() {
+        assertTrue(CompactTxStateMetaMap.isCompactable(new TxStateMeta(COMMITTED, randomUUID(), new TablePartitionId(1, 2), null, null)));
+        assertTrue(CompactTxStateMetaMap.isCompactable(new TxStateMeta(ABORTED, null, null, null, null)));
+
+        assertFalse(CompactTxStateMetaMap.isCompactable(new TxStateMeta(PENDING, randomUUID(), null, null, null)));
+        assertFalse(CompactTxStateMetaMap.isCompactable(new TxStateMeta(PENDING, randomUUID(), null, null, null).finishing()));
+
+        // Final states of local transactions keep the transaction object, so that it can be reached by the transaction ID.
+        InternalTransaction tx = mock(InternalTransaction.class);
+
+        assertFalse(CompactTxStateMetaMap.isCompactable(new TxStateMeta(COMMITTED, randomUUID(), null, null, tx)));
+    }
+
+    @Test
+    void testRepeatedGetDoesNotAllocate() {
+        UUID txId = randomUUID();
+
+        map.put(txId, new TxStateMeta(COMMITTED, randomUUID(), new TablePartitionId(1, 2), HybridTimestamp.hybridTimestamp(1), null));
+
+        TxStateMeta meta = map.get(txId);
+
+        assertSame(meta, map.get(txId));
+
+        TxStateMeta aborted = new TxStateMeta(ABORTED, null, null, null, null);
+
+        map.put(txId, aborted);
+
+        TxStateMeta updated = map.get(txId);
+
+        assertNotSame(meta, updated);
+        assertMetaEquals(aborted, updated);
+        assertSame(updated, map.get(txId));
+
+        assertTrue(map.remove(txId));
+
+        assertNull(map.get(txId));
+    }
+
+    @Test
+    void testPutGetRemove() {
+        UUID txId = randomUUID();
+
+        TxStateMeta meta = new TxStateMeta(
+                COMMITTED,
+                randomUUID(),
+                new TablePartitionId(-1, 65535),
+                HybridTimestamp.hybridTimestamp(100_500),
+                null,
+                1L,
+                2L
+        );
+
+        assertNull(map.get(txId));
+
+        map.put(txId, meta);
+
+        assertMetaEquals(meta, map.get(txId));
+        assertEquals(1, map.size());
+
+        TxStateMeta zoneMeta = new TxStateMeta(ABORTED, null, new ZonePartitionId(3, 4), null, null, null, null);
+
+        map.put(txId, zoneMeta);
+
+        assertMetaEquals(zoneMeta, map.get(txId));
+        assertEquals(1, map.size());
+
+        assertTrue(map.remove(txId));
+        assertFalse(map.remove(txId));
+
+        assertNull(map.get(txId));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void testGrowAndShrink() {
+        Map<UUID, TxStateMeta> expected = new HashMap<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            TxStateMeta meta = new TxStateMeta(
+                    i % 2 == 0 ? COMMITTED : ABORTED,
+                    randomUUID(),
+                    new TablePartitionId(i, i % 25),
+                    i % 2 == 0 ? HybridTimestamp.hybridTimestamp(i + 1) : null,
+                    null,
+                    (long) i,
+                    null
+            );
+
+            UUID txId = randomUUID();
+
+            map.put(txId, meta);
+            expected.put(txId, meta);
+        }
+
+        assertEquals(expected.size(), map.size());
+
+        List<UUID> txIds = new ArrayList<>(expected.keySet());
+
+        // Removes every other entry, which shifts back the colliding ones.
+        for (int i = 0; i < txIds.size(); i += 2) {
+            assertTrue(map.remove(txIds.get(i)));
+
+            expected.remove(txIds.get(i));
+        }
+
+        assertEquals(expected.size(), map.size());
+
+        expected.forEach((txId, meta) -> assertMetaEquals(meta, map.get(txId)));
+
+        Map<UUID, TxStateMeta> actual = new HashMap<>();
+
+        map.forEach(actual::put);
+
+        assertEquals(expected.keySet(), actual.keySet());
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertNull(map.get(txIds.get(1)));
+    }
+
+    @Test
+    void testForEachAllowsModification() {
+        for (int i = 0; i < 100; i++) {
+            map.put(randomUUID(), new TxStateMeta(COMMITTED, null, null, null, null));
+        }
+
+        map.forEach((txId, meta) -> map.remove(txId));
+
+        assertEquals(0, map.size());
+    }
+
+    private static void assertMetaEquals(TxStateMeta expected, TxStateMeta actual) {
+        assertEquals(expected.txState(), actual.txState());
+        assertEquals(expected.txCoordinatorId(), actual.txCoordinatorId());
+        assertEquals(expected.commitPartitionId(), actual.commitPartitionId());
+        assertEquals(expected.commitTimestamp(), actual.commitTimestamp());
+        assertEquals(expected.initialVacuumObservationTimestamp(), actual.initialVacuumObservationTimestamp());
+        assertEquals(expected.cleanupCompletionTimestamp(), actual.cleanupCompletionTimestamp());
+    }
+}
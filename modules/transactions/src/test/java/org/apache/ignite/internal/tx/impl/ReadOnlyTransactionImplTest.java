@@ -50,6 +50,7 @@ class ReadOnlyTransactionImplTest extends BaseIgniteAbstractTest {
                 false,
                 10_000,
                 readTimestamp,
+                false,
                 new CompletableFuture<>()
         );
 